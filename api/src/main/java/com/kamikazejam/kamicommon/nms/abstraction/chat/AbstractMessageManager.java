@@ -3,9 +3,12 @@ package com.kamikazejam.kamicommon.nms.abstraction.chat;
 import com.kamikazejam.kamicommon.actions.Action;
 import com.kamikazejam.kamicommon.nms.abstraction.chat.impl.KMessageBlock;
 import com.kamikazejam.kamicommon.nms.abstraction.chat.impl.KMessageSingle;
+import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -31,6 +34,57 @@ public abstract class AbstractMessageManager {
      */
     protected abstract void processAndSendInternal(@NotNull CommandSender sender, @NotNull KMessage message);
 
+    /**
+     * Finds the action covering an entire line, as created by the {@code ofClickRunCommand}-style
+     * factory methods, so it can be rendered directly instead of searched for.
+     *
+     * @return the {@link Action} whose placeholder is the whole line, or {@code null}
+     * @hidden
+     */
+    @Nullable
+    protected static Action getWholeLineAction(@NotNull String line, @NotNull List<Action> actions) {
+        for (Action action : actions) {
+            if (action.getPlaceholder().equals(line)) {
+                return action;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sends a message to many recipients. Versions without a shared broadcast path
+     * fall back to processing the message once per recipient.
+     *
+     * @hidden
+     */
+    protected void broadcastInternal(@NotNull Collection<? extends CommandSender> recipients, @NotNull KMessage message) {
+        for (CommandSender sender : recipients) {
+            this.processAndSendInternal(sender, message);
+        }
+    }
+
+    /**
+     * Sends a compiled template to many recipients. Versions without a shared broadcast path
+     * fall back to sending the template once per recipient.
+     *
+     * @hidden
+     */
+    protected void broadcastCompiledInternal(@NotNull Collection<? extends CommandSender> recipients, @NotNull CompiledKMessage message, @NotNull String[] values) {
+        for (CommandSender sender : recipients) {
+            this.processAndSendCompiledInternal(sender, message, values);
+        }
+    }
+
+    /**
+     * Sends a compiled template. Versions without a cached component tree
+     * fall back to substituting the slot values and taking the regular path.
+     *
+     * @hidden
+     */
+    protected void processAndSendCompiledInternal(@NotNull CommandSender sender, @NotNull CompiledKMessage message, @NotNull String[] values) {
+        this.processAndSendInternal(sender, message.toKMessage(values));
+    }
+
     /**
      * Processes and sends a message with all actions and replacements applied.
      * <p>
@@ -46,6 +100,66 @@ public abstract class AbstractMessageManager {
         this.processAndSendInternal(sender, message);
     }
 
+    /**
+     * Sends a compiled message template, filling its slots with the given values.
+     * <p>
+     * The template's component tree is built on the first send and cached, so later
+     * sends only insert the slot values instead of re-parsing the message.
+     * See {@link CompiledKMessage} for details.
+     * </p>
+     *
+     * @param sender the {@link CommandSender} to send the message to
+     * @param message the {@link CompiledKMessage} to send
+     * @param values the slot values, in the order the slots were declared
+     * @throws IllegalArgumentException if the number of values does not match the number of slots
+     */
+    public final void processAndSend(@NotNull CommandSender sender, @NotNull CompiledKMessage message, @NotNull String... values) {
+        message.checkValues(values);
+        this.processAndSendCompiledInternal(sender, message, values);
+    }
+
+    /**
+     * Processes a message once and sends it to many recipients.
+     * <p>
+     * Unlike calling {@link #processAndSend(CommandSender, KMessage)} per recipient, the message
+     * is parsed and serialized a single time per line, and the result is shared by every
+     * recipient. On modern servers one chat packet is built per client locale and shared by every
+     * player using that locale.
+     * </p>
+     *
+     * @param recipients the {@link CommandSender}s to send the message to
+     * @param message the {@link KMessage} to process and send
+     */
+    public final void broadcast(@NotNull Collection<? extends CommandSender> recipients, @NotNull KMessage message) {
+        if (recipients.isEmpty()) { return; }
+        this.broadcastInternal(recipients, message);
+    }
+
+    /**
+     * Processes a message once and sends it to every online player.
+     * See {@link #broadcast(Collection, KMessage)}.
+     *
+     * @param message the {@link KMessage} to process and send
+     */
+    public final void broadcast(@NotNull KMessage message) {
+        this.broadcast(Bukkit.getOnlinePlayers(), message);
+    }
+
+    /**
+     * Renders a compiled template once and sends it to many recipients.
+     * See {@link #broadcast(Collection, KMessage)} and {@link CompiledKMessage}.
+     *
+     * @param recipients the {@link CommandSender}s to send the message to
+     * @param message the {@link CompiledKMessage} to send
+     * @param values the slot values, in the order the slots were declared
+     * @throws IllegalArgumentException if the number of values does not match the number of slots
+     */
+    public final void broadcast(@NotNull Collection<? extends CommandSender> recipients, @NotNull CompiledKMessage message, @NotNull String... values) {
+        message.checkValues(values);
+        if (recipients.isEmpty()) { return; }
+        this.broadcastCompiledInternal(recipients, message, values);
+    }
+
     /**
      * Processes and sends multiple messages sequentially.
      * <p>
@@ -0,0 +1,282 @@
+package com.kamikazejam.kamicommon.nms.abstraction.chat;
+
+import com.kamikazejam.kamicommon.actions.Action;
+import com.kamikazejam.kamicommon.nms.abstraction.chat.impl.KMessageBlock;
+import com.kamikazejam.kamicommon.nms.abstraction.chat.impl.KMessageSingle;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Immutable, thread-safe template produced by {@link KMessage#compile(String...)}.
+ * <p>
+ * A compiled message snapshots the lines, actions, and translation setting of a {@link KMessage}.
+ * The first time it is sent through an {@link AbstractMessageManager}, the manager builds its
+ * version-specific component tree (color translation, action splitting, and legacy parsing) and
+ * caches it on this template. Every later send reuses that tree, so the cost of a send no longer
+ * depends on the length or formatting of the message.
+ * </p>
+ * <p>
+ * <strong>Slots:</strong> A template may declare slots, which are literal tokens in the message
+ * text (e.g. {@code "{player}"}) whose value is supplied per send. Slot values are inserted as
+ * plain text using the formatting in effect at the slot's position; they are never parsed for
+ * color codes. Slots are only recognized in the message lines, not inside action values.
+ * Private use characters already in the template (e.g. resource pack glyphs) are kept as literal text.
+ * </p>
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * private static final CompiledKMessage WELCOME = new KMessageSingle("&aWelcome &e{player}&a! Click [HERE] for help.")
+ *     .addClickRunCommand("[HERE]", "&b&lHERE", "help")
+ *     .compile("{player}");
+ *
+ * NmsAPI.getMessageManager().processAndSend(player, WELCOME, player.getName());
+ * }</pre>
+ * </p>
+ */
+@SuppressWarnings("unused")
+public final class CompiledKMessage {
+    // Slots are swapped for private use area characters before parsing, so they survive as single chars in the tree
+    private static final char PRIVATE_USE_START = '\uE000';
+    private static final int PRIVATE_USE_SIZE = 0x1900;
+
+    private final @NotNull List<List<KMessageSegment>> segmentLines;
+    private final @NotNull List<String> lines;
+    private final @NotNull List<Action> placeholderActions;
+    private final @NotNull List<Action> actions;
+    private final boolean translate;
+    private final @NotNull String[] slots;
+    private final char markerBase;
+    private final @NotNull Map<Object, Object> compiled = new ConcurrentHashMap<>();
+
+    CompiledKMessage(@NotNull List<List<KMessageSegment>> segmentLines, @NotNull List<Action> placeholderActions, boolean translate, @NotNull String[] slots) {
+        if (slots.length > PRIVATE_USE_SIZE) {
+            throw new IllegalArgumentException("A compiled message supports at most " + PRIVATE_USE_SIZE + " slots");
+        }
+        for (String slot : slots) {
+            if (slot.isEmpty()) {
+                throw new IllegalArgumentException("Slot names must not be empty");
+            }
+        }
+        List<List<KMessageSegment>> segmentCopy = new ArrayList<>(segmentLines.size());
+        List<String> lines = new ArrayList<>(segmentLines.size());
+        List<Action> actions = new ArrayList<>(placeholderActions);
+        for (List<KMessageSegment> line : segmentLines) {
+            segmentCopy.add(List.copyOf(line));
+            StringBuilder builder = new StringBuilder();
+            for (KMessageSegment segment : line) {
+                segment.appendPlaceholderText(builder);
+                if (segment.getAction() != null) { actions.add(segment.getAction()); }
+            }
+            lines.add(builder.toString());
+        }
+        this.segmentLines = List.copyOf(segmentCopy);
+        this.lines = List.copyOf(lines);
+        this.placeholderActions = List.copyOf(placeholderActions);
+        this.actions = List.copyOf(actions);
+        this.translate = translate;
+        this.slots = slots.clone();
+        this.markerBase = findMarkerBase(this.segmentLines, this.placeholderActions, slots.length);
+    }
+
+    // Picks a run of private use characters that the template text does not already use (e.g. resource pack glyphs),
+    //  so literal characters are never mistaken for slot markers
+    private static char findMarkerBase(@NotNull List<List<KMessageSegment>> lines, @NotNull List<Action> actions, int slotCount) {
+        BitSet used = new BitSet(PRIVATE_USE_SIZE);
+        for (List<KMessageSegment> line : lines) {
+            for (KMessageSegment segment : line) {
+                markPrivateUse(segment.getText(), used);
+            }
+        }
+        for (Action action : actions) {
+            markPrivateUse(action.getReplacement(), used);
+        }
+
+        int start = 0;
+        while (start + slotCount <= PRIVATE_USE_SIZE) {
+            int clash = used.nextSetBit(start);
+            if (clash < 0 || clash >= start + slotCount) {
+                return (char) (PRIVATE_USE_START + start);
+            }
+            start = clash + 1;
+        }
+        throw new IllegalArgumentException("Not enough unused private use characters for " + slotCount + " slots");
+    }
+
+    private static void markPrivateUse(@NotNull String text, @NotNull BitSet used) {
+        for (int i = 0; i < text.length(); i++) {
+            int index = text.charAt(i) - PRIVATE_USE_START;
+            if (index >= 0 && index < PRIVATE_USE_SIZE) {
+                used.set(index);
+            }
+        }
+    }
+
+    /**
+     * @return the (untranslated) lines of this template, with action segments as their placeholders
+     */
+    @NotNull
+    public List<String> getLines() {
+        return this.lines;
+    }
+
+    /**
+     * @return the {@link Action}s of this template, including those of action segments
+     */
+    @NotNull
+    public List<Action> getActions() {
+        return this.actions;
+    }
+
+    /**
+     * @return whether color codes are translated when this template is compiled
+     */
+    public boolean isTranslate() {
+        return this.translate;
+    }
+
+    /**
+     * @return the number of slots declared by this template
+     */
+    public int getSlotCount() {
+        return this.slots.length;
+    }
+
+    /**
+     * @return a copy of the slot tokens declared by this template, in value order
+     */
+    @NotNull
+    public String[] getSlots() {
+        return this.slots.clone();
+    }
+
+    /**
+     * Converts this template back into a regular {@link KMessage} with the slot values substituted.
+     * <p>
+     * Used by message managers without a compiled fast path.
+     * </p>
+     *
+     * @param values the slot values, in slot order
+     * @return a new {@link KMessage} equivalent to this template
+     */
+    @NotNull
+    public KMessage toKMessage(@NotNull String... values) {
+        this.checkValues(values);
+        if (this.segmentLines.size() == 1) {
+            // Rebuilt from the segments, so action segments are still rendered directly
+            KMessageSingle message = new KMessageSingle();
+            message.addActions(this.placeholderActions);
+            for (KMessageSegment.Run run : KMessageSegment.runs(this.segmentLines.get(0))) {
+                message.add((run instanceof KMessageSegment.ActionRun actionRun)
+                        ? KMessageSegment.action(actionRun.action())
+                        : KMessageSegment.text(this.fill(((KMessageSegment.TextRun) run).text(), values)));
+            }
+            return message.setTranslate(this.translate);
+        }
+
+        List<String> filled = new ArrayList<>(this.lines.size());
+        for (String line : this.lines) {
+            filled.add(this.fill(line, values));
+        }
+        return new KMessageBlock(filled, this.actions).setTranslate(this.translate);
+    }
+
+    @NotNull
+    private String fill(@NotNull String text, @NotNull String[] values) {
+        for (int i = 0; i < this.slots.length; i++) {
+            text = text.replace(this.slots[i], values[i]);
+        }
+        return text;
+    }
+
+    // ------------------------------------------------------------ //
+    //                    Message Manager Support                   //
+    // ------------------------------------------------------------ //
+
+    /**
+     * Retrieves (or builds once) a version-specific compiled form of this template.
+     *
+     * @hidden
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public <T> T getCompiled(@NotNull Object key, @NotNull Function<CompiledKMessage, T> compiler) {
+        return (T) this.compiled.computeIfAbsent(key, k -> compiler.apply(this));
+    }
+
+    /**
+     * @return the lines of this template as {@link KMessageSegment}s
+     * @hidden
+     */
+    @NotNull
+    public List<List<KMessageSegment>> getSegmentLines() {
+        return this.segmentLines;
+    }
+
+    /**
+     * @return the {@link Action}s whose placeholders are searched for in the text segments of this template
+     * @hidden
+     */
+    @NotNull
+    public List<Action> getPlaceholderActions() {
+        return this.placeholderActions;
+    }
+
+    /**
+     * Joins the consecutive text segments of the line and replaces every slot token in them with its
+     * marker character. Action segments are kept as they are, so slots are never recognized inside them.
+     *
+     * @hidden
+     */
+    @NotNull
+    public List<KMessageSegment> markSlots(@NotNull List<KMessageSegment> line) {
+        List<KMessageSegment.Run> runs = KMessageSegment.runs(line);
+        List<KMessageSegment> marked = new ArrayList<>(runs.size());
+        for (KMessageSegment.Run run : runs) {
+            marked.add((run instanceof KMessageSegment.ActionRun actionRun)
+                    ? KMessageSegment.action(actionRun.action())
+                    : KMessageSegment.text(this.markSlots(((KMessageSegment.TextRun) run).text())));
+        }
+        return marked;
+    }
+
+    @NotNull
+    private String markSlots(@NotNull String line) {
+        for (int i = 0; i < this.slots.length; i++) {
+            line = line.replace(this.slots[i], String.valueOf(this.slotMarker(i)));
+        }
+        return line;
+    }
+
+    /**
+     * @hidden
+     */
+    public void checkValues(@NotNull String[] values) {
+        if (values.length != this.slots.length) {
+            throw new IllegalArgumentException("Expected " + this.slots.length + " slot values but got " + values.length);
+        }
+    }
+
+    /**
+     * @return the marker character used for the slot at the given index
+     * @hidden
+     */
+    public char slotMarker(int index) {
+        return (char) (this.markerBase + index);
+    }
+
+    /**
+     * @return the slot index for a marker character, or {@code -1} if the character is not one of this template's
+     *         markers (private use characters in the text itself are kept as literal text)
+     * @hidden
+     */
+    public int slotIndex(char c) {
+        int index = c - this.markerBase;
+        return (index >= 0 && index < this.slots.length) ? index : -1;
+    }
+}
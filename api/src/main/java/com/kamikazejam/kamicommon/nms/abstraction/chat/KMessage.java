@@ -10,6 +10,7 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Abstract base class for interactive messages that can contain rich text,
@@ -30,6 +31,8 @@ import java.util.List;
 @Accessors(chain = true)
 @SuppressWarnings({"unused", "UnusedReturnValue"})
 public abstract class KMessage {
+    private static final @NotNull AtomicLong PLACEHOLDER_IDS = new AtomicLong();
+
     private final @NotNull List<Action> actions = new ArrayList<>();
     @Setter
     private boolean translate = true;
@@ -57,6 +60,52 @@ public abstract class KMessage {
         this.actions.addAll(actions);
     }
 
+    /**
+     * Creates a placeholder for an action which covers an entire line, such as those
+     * created by the {@code ofClickRunCommand}-style factory methods.
+     * <p>
+     * Placeholders only need to be unique within the messages they are combined with, so they
+     * come from a process-wide counter instead of a random {@link java.util.UUID}. This avoids
+     * {@link java.security.SecureRandom} contention and keeps the placeholder short. Message
+     * managers recognize a line consisting of exactly one such placeholder and render the
+     * action directly, without searching for it.
+     * </p>
+     *
+     * @param type a short tag describing the action (e.g. {@code "cR"} for click-run-command)
+     * @return a new unique placeholder
+     * @hidden
+     */
+    @NotNull
+    protected static String nextPlaceholder(@NotNull String type) {
+        return "{" + type + "#" + Long.toString(PLACEHOLDER_IDS.getAndIncrement(), Character.MAX_RADIX) + "}";
+    }
+
+    /**
+     * Retrieves the actions of this message.
+     * <p>
+     * This includes the actions of action {@link KMessageSegment}s, which appear in
+     * {@link #getLines()} as their placeholders, so the lines and actions together
+     * always describe the whole message.
+     * </p>
+     *
+     * @return the {@link Action}s of this message
+     */
+    @NotNull
+    public List<Action> getActions() {
+        return this.actions;
+    }
+
+    /**
+     * Retrieves only the actions whose placeholders are searched for in the text of this message,
+     * excluding those of action {@link KMessageSegment}s (which are rendered directly).
+     *
+     * @hidden
+     */
+    @NotNull
+    public final List<Action> getPlaceholderActions() {
+        return this.actions;
+    }
+
     /**
      * Retrieves the lines of text that make up this message.
      * <p>
@@ -65,12 +114,57 @@ public abstract class KMessage {
      * this returns a list with one element. For multi-line messages,
      * this returns all lines in order.
      * </p>
+     * <p>
+     * Action {@link KMessageSegment}s appear in these lines as their action's placeholder.
+     * Use {@link #getSegmentLines()} to access the segments themselves.
+     * </p>
      *
      * @return the list of text lines that make up this message
      */
     @NotNull
     public abstract List<String> getLines();
 
+    /**
+     * Retrieves the lines of this message as {@link KMessageSegment}s.
+     * <p>
+     * Message managers render from segments, so action segments are displayed directly
+     * without any placeholder search. By default each line of {@link #getLines()} is a
+     * single text segment; {@link com.kamikazejam.kamicommon.nms.abstraction.chat.impl.KMessageSingle}
+     * stores its line as segments natively.
+     * </p>
+     *
+     * @return an unmodifiable view of the segments of each line
+     */
+    @NotNull
+    public List<List<KMessageSegment>> getSegmentLines() {
+        List<String> lines = this.getLines();
+        List<List<KMessageSegment>> segmentLines = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            segmentLines.add(List.of(KMessageSegment.text(line)));
+        }
+        return segmentLines;
+    }
+
+    /**
+     * Compiles this message into an immutable, thread-safe {@link CompiledKMessage} template.
+     * <p>
+     * The template's component tree is built once, on first send, and reused for every
+     * later send and recipient. Use templates for messages sent frequently, such as
+     * announcements, help menus, or repeated status lines.
+     * </p>
+     * <p>
+     * Later changes to this message do not affect the returned template.
+     * </p>
+     *
+     * @param slots literal tokens in the message text (e.g. {@code "{player}"}) whose values are supplied per send
+     * @return a new {@link CompiledKMessage} for this message
+     */
+    @NotNull
+    public final CompiledKMessage compile(@NotNull String... slots) {
+        // Action segments stay segments, so their placeholders are never searched for in the text
+        return new CompiledKMessage(this.getSegmentLines(), this.actions, this.translate, slots);
+    }
+
     /**
      * Adds a single action to this message.
      * <p>
@@ -0,0 +1,162 @@
+package com.kamikazejam.kamicommon.nms.abstraction.chat;
+
+import com.kamikazejam.kamicommon.actions.Action;
+import com.kamikazejam.kamicommon.nms.abstraction.chat.impl.KMessageSingle;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A single run of text within a line of a {@link KMessage}, optionally carrying a click and/or hover action.
+ * <p>
+ * Lines are modelled as an append-only sequence of segments. Plain text segments are rendered
+ * as before (color translation and the message's placeholder {@link Action}s still apply to them),
+ * while action segments are rendered directly from their {@link Action}: the action's replacement
+ * text becomes the displayed text, and its click/hover events apply to that text only. Action
+ * segments therefore never need a placeholder search.
+ * </p>
+ * <p>
+ * Consecutive text segments are joined when the line is rendered, so appending many small
+ * pieces of text (e.g. when building a paginated list) is linear in the total length.
+ * </p>
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * KMessageSingle message = new KMessageSingle("&7Page 1/5 ")
+ *         .add(KMessageSegment.action(new Action("next", "&a[Next]").setClickRunCommand("/list 2")));
+ * }</pre>
+ * </p>
+ *
+ * @see KMessageSingle#add(KMessageSegment)
+ */
+@SuppressWarnings("unused")
+public final class KMessageSegment {
+    private final @NotNull String text;
+    private final @Nullable Action action;
+
+    private KMessageSegment(@NotNull String text, @Nullable Action action) {
+        this.text = text;
+        this.action = action;
+    }
+
+    /**
+     * Creates a plain text segment.
+     *
+     * @param text the text, which may contain color codes and placeholders of the message's actions
+     * @return a new text {@link KMessageSegment}
+     */
+    @NotNull
+    public static KMessageSegment text(@NotNull String text) {
+        return new KMessageSegment(text, null);
+    }
+
+    /**
+     * Creates a segment which displays the replacement text of an action, with its click and hover events.
+     * <p>
+     * The action's placeholder is not searched for; it is only used when the message is
+     * flattened back into strings (see {@link KMessage#getLines()} and {@link KMessage#getActions()}).
+     * </p>
+     *
+     * @param action the {@link Action} to render
+     * @return a new action {@link KMessageSegment}
+     */
+    @NotNull
+    public static KMessageSegment action(@NotNull Action action) {
+        return new KMessageSegment("", action);
+    }
+
+    /**
+     * @return the displayed text of this segment (the action's replacement for action segments)
+     */
+    @NotNull
+    public String getText() {
+        return (this.action != null) ? this.action.getReplacement() : this.text;
+    }
+
+    /**
+     * @return the {@link Action} rendered by this segment, or {@code null} for plain text segments
+     */
+    @Nullable
+    public Action getAction() {
+        return this.action;
+    }
+
+    /**
+     * @return {@code true} if this segment carries an {@link Action}
+     */
+    public boolean hasAction() {
+        return this.action != null;
+    }
+
+    /**
+     * Appends this segment in placeholder form, as used by the string based {@link KMessage} views.
+     * Text segments append their text, action segments append their action's placeholder.
+     *
+     * @hidden
+     */
+    public void appendPlaceholderText(@NotNull StringBuilder builder) {
+        builder.append((this.action != null) ? this.action.getPlaceholder() : this.text);
+    }
+
+    /**
+     * Splits a line into runs for rendering: consecutive text segments are joined into a single
+     * {@link TextRun}, and action segments are returned as an {@link ActionRun}. An empty line
+     * yields a single empty text run.
+     *
+     * @param segments the segments of one line
+     * @return the runs, in order
+     * @hidden
+     */
+    @NotNull
+    public static List<Run> runs(@NotNull List<KMessageSegment> segments) {
+        if (segments.size() == 1) {
+            return List.of(segments.get(0).toRun());
+        }
+        List<Run> runs = new ArrayList<>(Math.max(1, segments.size()));
+        @Nullable StringBuilder text = null;
+        for (KMessageSegment segment : segments) {
+            if (segment.action == null) {
+                if (text == null) { text = new StringBuilder(); }
+                text.append(segment.text);
+                continue;
+            }
+            if (text != null) {
+                runs.add(new TextRun(text.toString()));
+                text = null;
+            }
+            runs.add(new ActionRun(segment.action));
+        }
+        if (text != null || runs.isEmpty()) {
+            runs.add(new TextRun((text != null) ? text.toString() : ""));
+        }
+        return runs;
+    }
+
+    @NotNull
+    private Run toRun() {
+        return (this.action != null) ? new ActionRun(this.action) : new TextRun(this.text);
+    }
+
+    /**
+     * A run of a line as produced by {@link #runs(List)}, either a {@link TextRun} or an {@link ActionRun}.
+     *
+     * @hidden
+     */
+    public sealed interface Run permits TextRun, ActionRun {}
+
+    /**
+     * Joined text of consecutive text segments, still subject to color translation and placeholders.
+     *
+     * @hidden
+     */
+    public record TextRun(@NotNull String text) implements Run {}
+
+    /**
+     * An action segment, rendered directly from its {@link Action}.
+     *
+     * @hidden
+     */
+    public record ActionRun(@NotNull Action action) implements Run {}
+}
@@ -11,7 +11,6 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Implementation of {@link KMessage} for multi-line interactive messages.
@@ -139,7 +138,7 @@ public class KMessageBlock extends KMessage {
      */
     @Override
     public @NotNull List<String> getLines() {
-        return new ArrayList<>(lines);
+        return new ArrayList<>(this.lines);
     }
 
     /**
@@ -157,8 +156,8 @@ public class KMessageBlock extends KMessage {
     @NotNull
     public static KMessageBlock ofClickRunCommand(@NotNull String line, @NotNull String command) {
         // Best way to apply an action to the entire string is with a placeholder and
-        //  an action that's 'replacement' is the desired contents
-        final String placeholder = "{cR_" + UUID.randomUUID() + "}";
+        //  an action that's 'replacement' is the desired contents (rendered directly by the managers)
+        final String placeholder = nextPlaceholder("cR");
         return new KMessageBlock(placeholder, new Action(placeholder, line).setClickRunCommand(command));
     }
 
@@ -176,7 +175,7 @@ public class KMessageBlock extends KMessage {
      */
     @NotNull
     public static KMessageBlock ofClickSuggestCommand(@NotNull String line, @NotNull String suggestion) {
-        final String placeholder = "{cS_" + UUID.randomUUID() + "}";
+        final String placeholder = nextPlaceholder("cS");
         return new KMessageBlock(placeholder, new Action(placeholder, line).setClickSuggestCommand(suggestion));
     }
 
@@ -193,7 +192,7 @@ public class KMessageBlock extends KMessage {
      */
     @NotNull
     public static KMessageBlock ofClickOpenURL(@NotNull String line, @NotNull String url) {
-        final String placeholder = "{cO_" + UUID.randomUUID() + "}";
+        final String placeholder = nextPlaceholder("cO");
         return new KMessageBlock(placeholder, new Action(placeholder, line).setClickOpenURL(url));
     }
 
@@ -210,7 +209,7 @@ public class KMessageBlock extends KMessage {
      */
     @NotNull
     public static KMessageBlock ofHoverText(@NotNull String line, @NotNull String text) {
-        final String placeholder = "{hT_" + UUID.randomUUID() + "}";
+        final String placeholder = nextPlaceholder("hT");
         return new KMessageBlock(placeholder, new Action(placeholder, line).setHoverText(text));
     }
 
@@ -227,7 +226,7 @@ public class KMessageBlock extends KMessage {
      */
     @NotNull
     public static KMessageBlock ofHoverItem(@NotNull String line, @NotNull ItemStack item) {
-        final String placeholder = "{hI_" + UUID.randomUUID() + "}";
+        final String placeholder = nextPlaceholder("hI");
         return new KMessageBlock(placeholder, new Action(placeholder, line).setHoverItem(item));
     }
 }
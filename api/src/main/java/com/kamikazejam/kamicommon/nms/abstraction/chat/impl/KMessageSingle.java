@@ -2,15 +2,13 @@ package com.kamikazejam.kamicommon.nms.abstraction.chat.impl;
 
 import com.kamikazejam.kamicommon.actions.Action;
 import com.kamikazejam.kamicommon.nms.abstraction.chat.KMessage;
-import lombok.Getter;
-import lombok.Setter;
-import lombok.experimental.Accessors;
+import com.kamikazejam.kamicommon.nms.abstraction.chat.KMessageSegment;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Implementation of {@link KMessage} for single-line interactive messages.
@@ -20,24 +18,25 @@ import java.util.UUID;
  * adding content, and creating messages with predefined interactive behaviors.
  * </p>
  * <p>
+ * The line is stored as an append-only list of {@link KMessageSegment}s. Adding text or
+ * other messages appends segments without re-parsing or copying what was already added,
+ * so building large messages piece by piece stays linear.
+ * </p>
+ * <p>
  * The class supports method chaining for fluent message construction and
  * includes static factory methods for creating common types of interactive
  * messages such as clickable commands, hover text, and URL links.
  * </p>
  */
-@Setter
-@Getter
-@Accessors(chain = true)
 @SuppressWarnings("unused")
 public class KMessageSingle extends KMessage {
-    private @NotNull String line;
+    private final @NotNull List<KMessageSegment> segments = new ArrayList<>();
 
     /**
      * Creates a new empty single-line message.
      */
     public KMessageSingle() {
         super();
-        this.line = "";
     }
 
     /**
@@ -47,7 +46,7 @@ public class KMessageSingle extends KMessage {
      */
     public KMessageSingle(@NotNull String line) {
         super();
-        this.line = line;
+        this.add(line);
     }
 
     /**
@@ -58,7 +57,7 @@ public class KMessageSingle extends KMessage {
      */
     public KMessageSingle(@NotNull String line, @NotNull Action... actions) {
         super(actions);
-        this.line = line;
+        this.add(line);
     }
 
     /**
@@ -69,14 +68,48 @@ public class KMessageSingle extends KMessage {
      */
     public KMessageSingle(@NotNull String line, @NotNull List<Action> actions) {
         super(actions);
-        this.line = line;
+        this.add(line);
+    }
+
+    /**
+     * Retrieves the line of this message as a string.
+     * <p>
+     * Action segments appear as their action's placeholder. The string is
+     * built from the segments on each call.
+     * </p>
+     *
+     * @return the text content of this message
+     */
+    @NotNull
+    public String getLine() {
+        if (this.segments.size() == 1 && !this.segments.get(0).hasAction()) {
+            return this.segments.get(0).getText();
+        }
+        StringBuilder builder = new StringBuilder();
+        for (KMessageSegment segment : this.segments) {
+            segment.appendPlaceholderText(builder);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Replaces the content of this message with the specified text.
+     * Any action segments are removed; the message's actions are kept.
+     *
+     * @param line the new text content of the message
+     * @return this {@link KMessageSingle} instance for method chaining
+     */
+    @NotNull
+    public KMessageSingle setLine(@NotNull String line) {
+        this.segments.clear();
+        return this.add(line);
     }
 
     /**
      * Adds another single-line message to this message.
      * <p>
-     * This method concatenates the text content of the provided message
-     * to this message's line and adds all of its actions to this message's
+     * This method appends the segments of the provided message to this
+     * message's line and adds all of its actions to this message's
      * action list. This allows for combining multiple message parts into
      * a single cohesive message.
      * </p>
@@ -86,9 +119,9 @@ public class KMessageSingle extends KMessage {
      */
     @NotNull
     public KMessageSingle add(@NotNull KMessageSingle message) {
-        // Add the message's line and actions to this message
-        this.line += message.getLine();
-        super.addActions(message.getActions());
+        // Add the message's segments and actions to this message
+        this.segments.addAll(message.segments);
+        super.addActions(message.getPlaceholderActions());
         return this;
     }
 
@@ -105,11 +138,43 @@ public class KMessageSingle extends KMessage {
      */
     @NotNull
     public KMessageSingle add(@NotNull String content) {
-        // Add the message's line and actions to this message
-        this.line += content;
+        if (!content.isEmpty()) {
+            this.segments.add(KMessageSegment.text(content));
+        }
+        return this;
+    }
+
+    /**
+     * Adds a segment to this message.
+     * <p>
+     * Use {@link KMessageSegment#action(Action)} to append text with its own click or hover
+     * events, without registering a placeholder on this message.
+     * </p>
+     *
+     * @param segment the {@link KMessageSegment} to append to this message
+     * @return this {@link KMessageSingle} instance for method chaining
+     */
+    @NotNull
+    public KMessageSingle add(@NotNull KMessageSegment segment) {
+        this.segments.add(segment);
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull List<Action> getActions() {
+        List<Action> placeholderActions = this.getPlaceholderActions();
+        List<Action> actions = null;
+        for (KMessageSegment segment : this.segments) {
+            if (segment.getAction() == null) { continue; }
+            if (actions == null) { actions = new ArrayList<>(placeholderActions); }
+            actions.add(segment.getAction());
+        }
+        return (actions != null) ? actions : placeholderActions;
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -119,7 +184,19 @@ public class KMessageSingle extends KMessage {
      */
     @Override
     public @NotNull List<String> getLines() {
-        return new ArrayList<>(List.of(line));
+        return new ArrayList<>(List.of(this.getLine()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * For single-line messages, this returns a list containing only the
+     * segments of this message's line.
+     * </p>
+     */
+    @Override
+    public @NotNull List<List<KMessageSegment>> getSegmentLines() {
+        return List.of(Collections.unmodifiableList(this.segments));
     }
 
     /**
@@ -136,10 +213,7 @@ public class KMessageSingle extends KMessage {
      */
     @NotNull
     public static KMessageSingle ofClickRunCommand(@NotNull String line, @NotNull String command) {
-        // Best way to apply an action to the entire string is with a placeholder and
-        //  an action that's 'replacement' is the desired contents
-        final String placeholder = "{cR_" + UUID.randomUUID() + "}";
-        return new KMessageSingle(placeholder, new Action(placeholder, line).setClickRunCommand(command));
+        return new KMessageSingle().add(KMessageSegment.action(new Action(nextPlaceholder("cR"), line).setClickRunCommand(command)));
     }
 
     /**
@@ -156,8 +230,7 @@ public class KMessageSingle extends KMessage {
      */
     @NotNull
     public static KMessageSingle ofClickSuggestCommand(@NotNull String line, @NotNull String suggestion) {
-        final String placeholder = "{cS_" + UUID.randomUUID() + "}";
-        return new KMessageSingle(placeholder, new Action(placeholder, line).setClickSuggestCommand(suggestion));
+        return new KMessageSingle().add(KMessageSegment.action(new Action(nextPlaceholder("cS"), line).setClickSuggestCommand(suggestion)));
     }
 
     /**
@@ -173,8 +246,7 @@ public class KMessageSingle extends KMessage {
      */
     @NotNull
     public static KMessageSingle ofClickOpenURL(@NotNull String line, @NotNull String url) {
-        final String placeholder = "{cO_" + UUID.randomUUID() + "}";
-        return new KMessageSingle(placeholder, new Action(placeholder, line).setClickOpenURL(url));
+        return new KMessageSingle().add(KMessageSegment.action(new Action(nextPlaceholder("cO"), line).setClickOpenURL(url)));
     }
 
     /**
@@ -190,8 +262,7 @@ public class KMessageSingle extends KMessage {
      */
     @NotNull
     public static KMessageSingle ofHoverText(@NotNull String line, @NotNull String text) {
-        final String placeholder = "{hT_" + UUID.randomUUID() + "}";
-        return new KMessageSingle(placeholder, new Action(placeholder, line).setHoverText(text));
+        return new KMessageSingle().add(KMessageSegment.action(new Action(nextPlaceholder("hT"), line).setHoverText(text)));
     }
 
     /**
@@ -207,7 +278,6 @@ public class KMessageSingle extends KMessage {
      */
     @NotNull
     public static KMessageSingle ofHoverItem(@NotNull String line, @NotNull ItemStack item) {
-        final String placeholder = "{hI_" + UUID.randomUUID() + "}";
-        return new KMessageSingle(placeholder, new Action(placeholder, line).setHoverItem(item));
+        return new KMessageSingle().add(KMessageSegment.action(new Action(nextPlaceholder("hI"), line).setHoverItem(item)));
     }
 }
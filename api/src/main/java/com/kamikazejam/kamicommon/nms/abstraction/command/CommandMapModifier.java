@@ -4,7 +4,13 @@ import org.bukkit.command.Command;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * NMS abstraction interface for modifying Bukkit's internal command map.
@@ -17,6 +23,11 @@ import java.util.Map;
  * This is particularly useful for dynamic command registration at runtime
  * or for plugins that need fine-grained control over command management.
  * </p>
+ * <p>
+ * Registering or unregistering many commands should use {@link #registerAll(Collection, Plugin)}
+ * and {@link #unregisterAll(Collection)}, which apply every change first and then send the
+ * command tree to clients once, instead of once per command.
+ * </p>
  */
 @SuppressWarnings("unused")
 public interface CommandMapModifier {
@@ -59,4 +70,64 @@ public interface CommandMapModifier {
      */
     @NotNull
     Map<String, Command> getKnownCommands();
+
+    /**
+     * Registers several Bukkit {@link Command}s to the internal command map, then sends the
+     * updated command tree to clients once with {@link #syncCommands()}.
+     * <p>
+     * Must be called from the main thread.
+     * </p>
+     *
+     * @param commands the {@link Command}s to register to the command map
+     * @param plugin the {@link Plugin} that owns these commands
+     */
+    default void registerAll(@NotNull Collection<? extends Command> commands, @NotNull Plugin plugin) {
+        for (Command command : commands) {
+            this.registerCommand(command, plugin);
+        }
+        this.syncCommands();
+    }
+
+    /**
+     * Unregisters several Bukkit {@link Command}s, then sends the updated command tree to
+     * clients once with {@link #syncCommands()}.
+     * <p>
+     * Every label of these commands (names, aliases and their {@code plugin:} prefixed fallbacks)
+     * is removed from {@link #getKnownCommands()} in a single pass over the map.
+     * </p>
+     * <p>
+     * Must be called from the main thread.
+     * </p>
+     *
+     * @param commands the {@link Command}s to unregister from the command map
+     */
+    default void unregisterAll(@NotNull Collection<? extends Command> commands) {
+        Set<Command> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(commands);
+
+        Map<String, Command> knownCommands = this.getKnownCommands();
+        List<String> labels = new ArrayList<>();
+        for (Map.Entry<String, Command> entry : knownCommands.entrySet()) {
+            if (removed.contains(entry.getValue())) {
+                labels.add(entry.getKey());
+            }
+        }
+        for (String label : labels) {
+            knownCommands.remove(label);
+        }
+
+        for (Command command : removed) {
+            this.unregisterCommand(command);
+        }
+        this.syncCommands();
+    }
+
+    /**
+     * Sends the current command tree to every online player.
+     * <p>
+     * Clients before 1.13 have no command tree, so this does nothing on those versions.
+     * Must be called from the main thread.
+     * </p>
+     */
+    default void syncCommands() {}
 }
@@ -3,6 +3,7 @@ package com.kamikazejam.kamicommon.nms.abstraction.event;
 import lombok.Getter;
 import lombok.Setter;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.EntityType;
 import org.bukkit.event.Cancellable;
@@ -35,12 +36,22 @@ import org.jetbrains.annotations.Nullable;
  * This event is {@link Cancellable}, allowing plugins to prevent specific
  * spawner activations while maintaining compatibility across server versions.
  * </p>
+ * <p>
+ * Spawners may fire this event thousands of times per second, so the adapters skip it
+ * entirely while nothing listens (see {@link #hasListeners()}), and the spawner {@link Block}
+ * is only resolved when {@link #getSpawnerBlock()} is called. Listeners that only need the
+ * position should use {@link #getSpawnerWorld()} and the primitive coordinate getters.
+ * </p>
  */
 @Getter
 @SuppressWarnings("unused")
 public class PreSpawnSpawnerEvent extends Event implements Cancellable {
 
-    private final @NotNull Block spawnerBlock;
+    private final @NotNull World spawnerWorld;
+    private final int spawnerX;
+    private final int spawnerY;
+    private final int spawnerZ;
+    private @Nullable Block spawnerBlock;
     private final @Nullable Location spawnLocation;
     private final @NotNull EntityType type;
 
@@ -53,11 +64,45 @@ public class PreSpawnSpawnerEvent extends Event implements Cancellable {
      *                     may be {@code null} on older versions or server software
      */
     public PreSpawnSpawnerEvent(@NotNull Block spawnerBlock, @NotNull EntityType type, @Nullable Location spawnLocation) {
+        this(spawnerBlock.getWorld(), spawnerBlock.getX(), spawnerBlock.getY(), spawnerBlock.getZ(), type, spawnLocation);
         this.spawnerBlock = spawnerBlock;
+    }
+
+    /**
+     * Constructs a new PreSpawnSpawnerEvent from the spawner's block coordinates.
+     * <p>
+     * The spawner {@link Block} is not looked up until {@link #getSpawnerBlock()} is called.
+     * </p>
+     *
+     * @param spawnerWorld the {@link World} of the spawner
+     * @param spawnerX the block x coordinate of the spawner
+     * @param spawnerY the block y coordinate of the spawner
+     * @param spawnerZ the block z coordinate of the spawner
+     * @param type the {@link EntityType} that the spawner is attempting to spawn
+     * @param spawnLocation the {@link Location} where the entity will spawn,
+     *                     may be {@code null} on older versions or server software
+     */
+    public PreSpawnSpawnerEvent(@NotNull World spawnerWorld, int spawnerX, int spawnerY, int spawnerZ, @NotNull EntityType type, @Nullable Location spawnLocation) {
+        this.spawnerWorld = spawnerWorld;
+        this.spawnerX = spawnerX;
+        this.spawnerY = spawnerY;
+        this.spawnerZ = spawnerZ;
         this.spawnLocation = spawnLocation;
         this.type = type;
     }
 
+    /**
+     * Checks whether any listener is registered for this event.
+     * <p>
+     * Adapters use this to skip creating and calling the event while nothing would receive it.
+     * </p>
+     *
+     * @return {@code true} if at least one listener is registered
+     */
+    public static boolean hasListeners() {
+        return HANDLERS.getRegisteredListeners().length > 0;
+    }
+
     private static final HandlerList HANDLERS = new HandlerList();
     public static HandlerList getHandlerList() {
         return PreSpawnSpawnerEvent.HANDLERS;
@@ -68,13 +113,49 @@ public class PreSpawnSpawnerEvent extends Event implements Cancellable {
 
     /**
      * Gets the spawner block that is attempting to spawn an entity.
+     * <p>
+     * The block is looked up on first access.
+     * </p>
      *
      * @return the {@link Block} representing the spawner
      */
     public @NotNull Block getSpawnerBlock() {
+        if (spawnerBlock == null) {
+            spawnerBlock = spawnerWorld.getBlockAt(spawnerX, spawnerY, spawnerZ);
+        }
         return spawnerBlock;
     }
 
+    /**
+     * Gets the world of the spawner.
+     *
+     * @return the {@link World} containing the spawner
+     */
+    public @NotNull World getSpawnerWorld() {
+        return spawnerWorld;
+    }
+
+    /**
+     * @return the block x coordinate of the spawner
+     */
+    public int getSpawnerX() {
+        return spawnerX;
+    }
+
+    /**
+     * @return the block y coordinate of the spawner
+     */
+    public int getSpawnerY() {
+        return spawnerY;
+    }
+
+    /**
+     * @return the block z coordinate of the spawner
+     */
+    public int getSpawnerZ() {
+        return spawnerZ;
+    }
+
     /**
      * Gets the location where the entity will spawn.
      * <p>
@@ -3,6 +3,7 @@ package com.kamikazejam.kamicommon.nms.abstraction.item;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Abstract class providing version-specific implementations for editing
@@ -12,6 +13,12 @@ import org.jetbrains.annotations.NotNull;
  * between different Minecraft versions, particularly for features that
  * were added or changed in newer versions.
  * </p>
+ * <p>
+ * The {@link ItemStack} based methods avoid {@link ItemStack#getItemMeta()} where the version
+ * allows it, since that call clones the whole meta. Implementations read and write the
+ * properties directly on the underlying stack instead, which makes them suitable for hot paths
+ * such as checking every armor piece on every hit.
+ * </p>
  */
 @SuppressWarnings("unused")
 public abstract class AbstractItemEditor {
@@ -94,4 +101,77 @@ public abstract class AbstractItemEditor {
      * @return {@code true} if the item is damageable, {@code false} otherwise
      */
     public abstract boolean isDamageable(@NotNull ItemStack item);
+
+    /**
+     * Checks if an item is unbreakable.
+     * <p>
+     * Unlike {@link #isUnbreakable(ItemMeta)}, this does not require the caller to obtain
+     * (and thereby clone) the item's {@link ItemMeta}. Items without meta are never unbreakable.
+     * </p>
+     *
+     * @param item the {@link ItemStack} to check
+     * @return {@code true} if the item is unbreakable, {@code false} otherwise
+     */
+    public boolean isUnbreakable(@NotNull ItemStack item) {
+        if (!item.hasItemMeta()) {
+            return false;
+        }
+        @Nullable ItemMeta meta = item.getItemMeta();
+        return meta != null && this.isUnbreakable(meta);
+    }
+
+    /**
+     * Sets the unbreakable status of an item and writes it back to the item.
+     *
+     * @param item the {@link ItemStack} to modify
+     * @param unbreakable {@code true} to make the item unbreakable, {@code false} to make it breakable
+     * @return the same {@link ItemStack} for method chaining
+     * @throws IllegalArgumentException if the item has no meta (e.g., air)
+     */
+    public ItemStack setUnbreakable(@NotNull ItemStack item, boolean unbreakable) {
+        @Nullable ItemMeta meta = item.getItemMeta();
+        if (meta == null) {
+            throw new IllegalArgumentException("ItemStack has no ItemMeta");
+        }
+        item.setItemMeta(this.setUnbreakable(meta, unbreakable));
+        return item;
+    }
+
+    /**
+     * Gets the damage (or 'durability') of several items at once.
+     * <p>
+     * Null and non-damageable entries (see {@link #isDamageable(ItemStack)}) are reported as {@code -1}
+     * instead of throwing, so whole inventories or armor contents can be passed directly.
+     * </p>
+     *
+     * @param items the items to check, may contain {@code null} entries
+     * @return the damage of each item, at the same index, or {@code -1}
+     */
+    public int[] getDamage(@NotNull ItemStack[] items) {
+        int[] damage = new int[items.length];
+        for (int i = 0; i < items.length; i++) {
+            @Nullable ItemStack item = items[i];
+            damage[i] = (item != null && this.isDamageable(item)) ? this.getDamage(item) : -1;
+        }
+        return damage;
+    }
+
+    /**
+     * Sets the damage (or 'durability') of several items at once (e.g., {@code 0} to repair them all).
+     * <p>
+     * Null and non-damageable entries (see {@link #isDamageable(ItemStack)}) are skipped.
+     * </p>
+     *
+     * @param items the items to modify, may contain {@code null} entries
+     * @param damage the damage value to set on each item
+     * @return the same array for method chaining
+     */
+    public @NotNull ItemStack[] setDamage(@NotNull ItemStack[] items, int damage) {
+        for (@Nullable ItemStack item : items) {
+            if (item != null && this.isDamageable(item)) {
+                this.setDamage(item, damage);
+            }
+        }
+        return items;
+    }
 }
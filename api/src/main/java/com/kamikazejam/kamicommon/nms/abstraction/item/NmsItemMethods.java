@@ -1,8 +1,13 @@
 package com.kamikazejam.kamicommon.nms.abstraction.item;
 
+import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Interface providing version-specific implementations for NMS item operations
  * that require direct access to Minecraft's internal item system.
@@ -12,6 +17,11 @@ import org.jetbrains.annotations.NotNull;
  * It provides methods for retrieving internal item identifiers and properties
  * that are used by Minecraft's internationalization and display systems.
  * </p>
+ * <p>
+ * The instance returned by {@code NmsAPI#getNmsItemMethods()} caches the names of items
+ * without item meta, keyed by their material and data value, since these never change
+ * at runtime. Items with meta (i.e. potions or player heads) are always looked up.
+ * </p>
  */
 @SuppressWarnings("unused")
 public interface NmsItemMethods {
@@ -28,4 +38,46 @@ public interface NmsItemMethods {
      */
     @NotNull
     String getI18NItemName(@NotNull ItemStack item);
+
+    /**
+     * Retrieves the internal internationalization name for a material.
+     * <p>
+     * Equivalent to {@link #getI18NItemName(ItemStack)} for a single item of that material,
+     * without any item meta or data value. The material must be an item.
+     * </p>
+     *
+     * @param material the {@link Material} to get the internal name for
+     * @return the internal internationalization name used by Minecraft
+     */
+    @NotNull
+    default String getI18NItemName(@NotNull Material material) {
+        return this.getI18NItemName(new ItemStack(material));
+    }
+
+    /**
+     * Retrieves the internal internationalization names for several items at once.
+     *
+     * @param items the {@link ItemStack}s to get the internal names for
+     * @return the internal internationalization names, in the iteration order of {@code items}
+     */
+    @NotNull
+    default List<String> getI18NItemNames(@NotNull Collection<? extends ItemStack> items) {
+        List<String> names = new ArrayList<>(items.size());
+        for (ItemStack item : items) {
+            names.add(this.getI18NItemName(item));
+        }
+        return names;
+    }
+
+    /**
+     * Resolves the names of the given materials up front, so later lookups (i.e. during
+     * gameplay) are served from the cache. Every material must be an item.
+     *
+     * @param materials the {@link Material}s to resolve
+     */
+    default void prewarmI18NItemNames(@NotNull Collection<Material> materials) {
+        for (Material material : materials) {
+            this.getI18NItemName(material);
+        }
+    }
 }
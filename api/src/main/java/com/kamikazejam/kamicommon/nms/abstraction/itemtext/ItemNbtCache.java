@@ -0,0 +1,80 @@
+package com.kamikazejam.kamicommon.nms.abstraction.itemtext;
+
+import com.google.common.collect.MapMaker;
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandle;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Caches the nbt string of item stacks for {@link AbstractItemTextPre_1_17} implementations.
+ * <p>
+ * For a {@code CraftItemStack} the nbt is serialized straight from its nms handle, instead of
+ * from the deep copy made by {@code CraftItemStack#asNMSCopy}. Only plain bukkit stacks are
+ * converted to an nms stack first.
+ * </p>
+ * <p>
+ * Each result is remembered together with a snapshot of the item, keyed by the identity of the
+ * nms handle (or of the plain bukkit stack). As long as the item still equals its snapshot, the
+ * cached string is returned, so sending the same item to many players serializes it only once.
+ * Keys are held weakly, entries disappear together with their item.
+ * </p>
+ *
+ * @param <S> the version-specific nms ItemStack type
+ * @hidden
+ */
+@SuppressWarnings("unused")
+public final class ItemNbtCache<S> {
+    private final @NotNull Class<? extends ItemStack> craftClass;
+    private final @NotNull FieldHandle<S> handle;
+    private final @NotNull Function<ItemStack, S> copier;
+    private final @NotNull Function<S, String> serializer;
+    private final @NotNull Map<Object, Entry> entries = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * @param craftClass the version-specific {@code CraftItemStack} class
+     * @param copier converts a plain bukkit stack into an nms stack (i.e. {@code CraftItemStack::asNMSCopy})
+     * @param serializer writes an nms stack to its nbt string
+     */
+    public ItemNbtCache(@NotNull Class<? extends ItemStack> craftClass, @NotNull Function<ItemStack, S> copier, @NotNull Function<S, String> serializer) {
+        this.craftClass = craftClass;
+        this.handle = new FieldHandle<>("handle", craftClass);
+        this.copier = copier;
+        this.serializer = serializer;
+    }
+
+    /**
+     * @return the nbt string of the item, or an empty string if it has no nms representation (i.e. air)
+     */
+    @NotNull
+    public String get(@Nullable ItemStack item) {
+        if (item == null) { return ""; }
+
+        @Nullable S nms = null;
+        Object key = item;
+        if (this.craftClass.isInstance(item)) {
+            nms = this.handle.get(item);
+            if (nms == null) { return ""; }
+            key = nms;
+        }
+
+        @Nullable Entry entry = this.entries.get(key);
+        if (entry != null && entry.snapshot.equals(item)) {
+            return entry.nbt;
+        }
+
+        if (nms == null) {
+            nms = this.copier.apply(item);
+            if (nms == null) { return ""; }
+        }
+        String nbt = this.serializer.apply(nms);
+        // The snapshot owns its own copy, so later changes to the item invalidate the entry
+        this.entries.put(key, new Entry(item.clone(), nbt));
+        return nbt;
+    }
+
+    private record Entry(@NotNull ItemStack snapshot, @NotNull String nbt) {}
+}
@@ -1,7 +1,19 @@
 package com.kamikazejam.kamicommon.nms.abstraction.teleport;
 
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Abstract class providing version-specific implementations for player teleportation
@@ -36,4 +48,148 @@ public abstract class AbstractTeleporter {
      * @param location the target {@link Location} to teleport the player to
      */
     public abstract void teleportWithoutEvent(Player player, Location location);
+
+    /**
+     * Teleports a player to the specified location without triggering Bukkit events, without
+     * blocking the calling thread.
+     * <p>
+     * See {@link #teleportWithoutEventAsync(Plugin, Collection, Location)}.
+     * </p>
+     *
+     * @param plugin the {@link Plugin} scheduling the teleport (used for tasks and chunk tickets)
+     * @param player the {@link Player} to teleport
+     * @param location the target {@link Location} to teleport the player to
+     * @return a future completed once the player has been teleported
+     */
+    @NotNull
+    public CompletableFuture<Void> teleportWithoutEventAsync(@NotNull Plugin plugin, @NotNull Player player, @NotNull Location location) {
+        return this.teleportWithoutEventAsync(plugin, List.of(player), location);
+    }
+
+    /**
+     * Teleports several players to the specified location without triggering Bukkit events,
+     * without blocking the calling thread.
+     * <p>
+     * See {@link #teleportWithoutEventAsync(Plugin, Map)}.
+     * </p>
+     *
+     * @param plugin the {@link Plugin} scheduling the teleport (used for tasks and chunk tickets)
+     * @param players the {@link Player}s to teleport
+     * @param location the target {@link Location} to teleport the players to
+     * @return a future completed once every player has been teleported, or completed exceptionally if teleporting failed
+     */
+    @NotNull
+    public CompletableFuture<Void> teleportWithoutEventAsync(@NotNull Plugin plugin, @NotNull Collection<? extends Player> players, @NotNull Location location) {
+        Map<Player, Location> destinations = new LinkedHashMap<>();
+        for (Player player : players) {
+            destinations.put(player, location);
+        }
+        return this.teleportWithoutEventAsync(plugin, destinations);
+    }
+
+    /**
+     * Teleports many players to their own destinations without triggering Bukkit events.
+     * <p>
+     * The players are grouped by target world and chunk. Every target chunk is loaded once, before
+     * anyone is moved, instead of once per player. Where the version supports it, the client resyncs
+     * of cross-dimension transfers are also sent in one pass after every player has been moved.
+     * </p>
+     * <p>
+     * Must be called from the main thread. Destinations without a world are ignored.
+     * </p>
+     *
+     * @param destinations the target {@link Location} of each {@link Player}
+     */
+    public void teleportWithoutEvent(@NotNull Map<? extends Player, ? extends Location> destinations) {
+        Map<ChunkTarget, List<Player>> groups = groupByChunk(destinations);
+        // Load every target chunk up front, so each one is only loaded once
+        for (ChunkTarget chunk : groups.keySet()) {
+            chunk.world().loadChunk(chunk.x(), chunk.z());
+        }
+        for (List<Player> group : groups.values()) {
+            for (Player player : group) {
+                this.teleportWithoutEvent(player, destinations.get(player));
+            }
+        }
+    }
+
+    /**
+     * Teleports many players to their own destinations without triggering Bukkit events, without
+     * blocking the calling thread.
+     * <p>
+     * Where the version supports it, all target chunks are loaded asynchronously (held by plugin
+     * chunk tickets) and the players are moved together on the main thread once every chunk is
+     * ready, so a mass teleport never waits on chunk loading during a tick. On older versions the
+     * players are teleported on the main thread with {@link #teleportWithoutEvent(Map)}.
+     * </p>
+     * <p>
+     * This method may be called from any thread. Players who went offline in the meantime are skipped.
+     * </p>
+     *
+     * @param plugin the {@link Plugin} scheduling the teleport (used for tasks and chunk tickets)
+     * @param destinations the target {@link Location} of each {@link Player}
+     * @return a future completed once every player has been teleported, or completed exceptionally if teleporting failed
+     */
+    @NotNull
+    public CompletableFuture<Void> teleportWithoutEventAsync(@NotNull Plugin plugin, @NotNull Map<? extends Player, ? extends Location> destinations) {
+        Map<Player, Location> targets = copyDestinations(destinations);
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                targets.keySet().removeIf(player -> !player.isOnline());
+                this.teleportWithoutEvent(targets);
+                future.complete(null);
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        };
+
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+        } else {
+            Bukkit.getScheduler().runTask(plugin, task);
+        }
+        return future;
+    }
+
+    /**
+     * Copies the destinations (cloning each location), skipping those without a world.
+     *
+     * @hidden
+     */
+    @NotNull
+    protected static Map<Player, Location> copyDestinations(@NotNull Map<? extends Player, ? extends Location> destinations) {
+        Map<Player, Location> copy = new LinkedHashMap<>();
+        destinations.forEach((player, location) -> {
+            if (location.getWorld() != null) {
+                copy.put(player, location.clone());
+            }
+        });
+        return copy;
+    }
+
+    /**
+     * Groups the players by the world and chunk of their destination (skipping destinations
+     * without a world), keeping the iteration order of the first player of each chunk.
+     *
+     * @hidden
+     */
+    @NotNull
+    protected static Map<ChunkTarget, List<Player>> groupByChunk(@NotNull Map<? extends Player, ? extends Location> destinations) {
+        Map<ChunkTarget, List<Player>> groups = new LinkedHashMap<>();
+        destinations.forEach((player, location) -> {
+            @Nullable World world = location.getWorld();
+            if (world == null) { return; }
+            ChunkTarget chunk = new ChunkTarget(world, location.getBlockX() >> 4, location.getBlockZ() >> 4);
+            groups.computeIfAbsent(chunk, k -> new ArrayList<>()).add(player);
+        });
+        return groups;
+    }
+
+    /**
+     * A target chunk of a batch teleport.
+     *
+     * @hidden
+     */
+    protected record ChunkTarget(@NotNull World world, int x, int z) {}
 }
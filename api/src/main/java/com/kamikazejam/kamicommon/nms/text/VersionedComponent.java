@@ -1,6 +1,7 @@
 package com.kamikazejam.kamicommon.nms.text;
 
 import com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.Inventory;
@@ -98,4 +99,25 @@ public interface VersionedComponent {
             this.sendTo(sender);
         }
     }
+
+    /**
+     * Sends the current message component to many recipients, building the platform message only once.<br>
+     * <br>
+     * Implementations build the platform message (BaseComponents, or a prebuilt chat packet per client locale
+     * on modern servers) a single time and fan it out to every recipient, instead of rebuilding it per recipient.
+     * Unlike {@link #sendTo(Collection)}, players who have hidden chat are skipped on modern servers, as for
+     * vanilla system messages.
+     */
+    default void broadcast(@NotNull Collection<? extends CommandSender> recipients) {
+        for (CommandSender sender : recipients) {
+            this.sendTo(sender);
+        }
+    }
+
+    /**
+     * Sends the current message component to every online player, building the platform message only once. (See {@link #broadcast(Collection)})
+     */
+    default void broadcast() {
+        this.broadcast(Bukkit.getOnlinePlayers());
+    }
 }
@@ -0,0 +1,73 @@
+package com.kamikazejam.kamicommon.nms.text;
+
+import com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Version-specific factory for {@link VersionedComponent}s and their item meta integration.
+ * <p>
+ * The implementation for the running server is selected once by its provider, so callers
+ * (such as {@code VersionedComponentSerializer} and {@code VersionedComponentUtil}) make a
+ * direct call per operation instead of comparing version numbers each time.
+ * </p>
+ */
+public interface VersionedComponentFactory {
+    /**
+     * Wraps a shaded adventure {@link Component} for this version.
+     */
+    @NotNull VersionedComponent fromInternalComponent(@NotNull Component component);
+
+    /**
+     * Parses plain text (no color codes or MiniMessage tags) for this version.
+     */
+    @NotNull VersionedComponent fromPlainText(@NotNull String text);
+
+    /**
+     * Parses a MiniMessage string for this version.
+     */
+    @NotNull VersionedComponent fromMiniMessage(@NotNull String miniMessage);
+
+    /**
+     * Parses a legacy ampersand (&amp;) string for this version.
+     */
+    @NotNull VersionedComponent fromLegacyAmpersand(@NotNull String legacy);
+
+    /**
+     * Parses a legacy section (&sect;) string for this version.
+     */
+    @NotNull VersionedComponent fromLegacySection(@NotNull String legacy);
+
+    /**
+     * Sets (or removes, if {@code null}) the display name of the item meta.
+     */
+    @NotNull ItemMeta setDisplayName(@NotNull ItemMeta meta, @Nullable VersionedComponent name);
+
+    /**
+     * Sets (or removes, if {@code null}) the lore of the item meta.
+     */
+    @NotNull ItemMeta setLore(@NotNull ItemMeta meta, @Nullable List<VersionedComponent> lore);
+
+    /**
+     * @return the lore of the item meta, or {@code null} if it has none
+     */
+    @Nullable List<VersionedComponent> getLore(@NotNull ItemMeta meta);
+
+    /**
+     * @return the display name of the item meta, or {@code null} if it has no custom name
+     */
+    @Nullable VersionedComponent getDisplayName(@NotNull ItemMeta meta);
+
+    /**
+     * Appends a single line to the lore of the item meta.
+     */
+    @NotNull ItemMeta addLoreLine(@NotNull ItemMeta meta, @NotNull VersionedComponent line);
+
+    /**
+     * Appends several lines to the lore of the item meta, reading and writing the lore only once.
+     */
+    @NotNull ItemMeta addLoreLines(@NotNull ItemMeta meta, @NotNull List<VersionedComponent> lines);
+}
@@ -0,0 +1,83 @@
+package com.kamikazejam.kamicommon.nms.util.data;
+
+/**
+ * Utility for packing block coordinates into a single {@code long}.
+ * <p>
+ * Uses the same layout as Minecraft's {@code BlockPos#asLong}: 26 bits for x, 26 bits for z,
+ * and 12 bits for y. Packed keys avoid allocating a position object per block, which keeps
+ * large position-keyed maps compact and cheap to look up.
+ * </p>
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * long key = BlockPosKey.pack(x, y, z);
+ * int blockX = BlockPosKey.getX(key);
+ * }</pre>
+ * </p>
+ */
+@SuppressWarnings("unused")
+public final class BlockPosKey {
+    private static final int XZ_BITS = 26;
+    private static final int Y_BITS = 12;
+    private static final long XZ_MASK = (1L << XZ_BITS) - 1L;
+    private static final long Y_MASK = (1L << Y_BITS) - 1L;
+    private static final int Z_SHIFT = Y_BITS;
+    private static final int X_SHIFT = Y_BITS + XZ_BITS;
+
+    private BlockPosKey() {}
+
+    /**
+     * Packs block coordinates into a single {@code long}.
+     *
+     * @param x the block x coordinate
+     * @param y the block y coordinate (between -2048 and 2047)
+     * @param z the block z coordinate
+     * @return the packed position
+     */
+    public static long pack(int x, int y, int z) {
+        return ((x & XZ_MASK) << X_SHIFT) | ((z & XZ_MASK) << Z_SHIFT) | (y & Y_MASK);
+    }
+
+    /**
+     * @param key a packed position
+     * @return the block x coordinate
+     */
+    public static int getX(long key) {
+        return (int) (key << (64 - X_SHIFT - XZ_BITS) >> (64 - XZ_BITS));
+    }
+
+    /**
+     * @param key a packed position
+     * @return the block y coordinate
+     */
+    public static int getY(long key) {
+        return (int) (key << (64 - Y_BITS) >> (64 - Y_BITS));
+    }
+
+    /**
+     * @param key a packed position
+     * @return the block z coordinate
+     */
+    public static int getZ(long key) {
+        return (int) (key << (64 - Z_SHIFT - XZ_BITS) >> (64 - XZ_BITS));
+    }
+
+    /**
+     * Computes a chunk key for the chunk containing the packed position.
+     *
+     * @param key a packed position
+     * @return the chunk key (chunk x in the high 32 bits, chunk z in the low 32 bits)
+     */
+    public static long getChunkKey(long key) {
+        return chunkKey(getX(key) >> 4, getZ(key) >> 4);
+    }
+
+    /**
+     * @param chunkX the chunk x coordinate
+     * @param chunkZ the chunk z coordinate
+     * @return the chunk key (chunk x in the high 32 bits, chunk z in the low 32 bits)
+     */
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+}
@@ -1,8 +1,28 @@
 package com.kamikazejam.kamicommon.nms.wrappers.packet;
 
+import com.kamikazejam.kamicommon.nms.util.data.BlockPosKey;
+import com.kamikazejam.kamicommon.nms.util.data.XBlockData;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.data.EntityMetadata;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.impl.NMSOutBlockChange;
 import com.kamikazejam.kamicommon.nms.wrappers.packet.impl.NMSOutEntityDestroy;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.impl.NMSOutEntityEquipment;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.impl.NMSOutEntityMetadata;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.impl.NMSOutEntityMove;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.impl.NMSOutEntityTeleport;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.impl.NMSOutSpawnEntity;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.listener.PacketInterceptor;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.listener.PacketListener;
+import org.bukkit.Location;
+import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * Handler interface for NMS packet operations and management.
@@ -74,6 +94,155 @@ public interface NMSPacketHandler {
     @NotNull
     NMSOutEntityDestroy createDestroyPacket(int... ids);
 
+    /**
+     * Creates a packet which spawns a client-side only entity.
+     * <p>
+     * The entity is never added to the server world, so it costs no tick time and is
+     * invisible to other players unless the packet is also sent to them. The caller is
+     * responsible for choosing an entity ID that does not collide with real entities
+     * (e.g. counting down from {@link Integer#MAX_VALUE}) and for despawning it with
+     * {@link #createDestroyPacket(int...)}.
+     * </p>
+     *
+     * @param entityId the client-side entity ID
+     * @param uuid the entity UUID
+     * @param type the {@link EntityType} to spawn (players are not supported)
+     * @param location the spawn {@link Location}, including yaw and pitch
+     * @return a new {@link NMSOutSpawnEntity} packet
+     * @throws IllegalArgumentException if the entity type cannot be spawned by packet
+     */
+    @NotNull
+    NMSOutSpawnEntity createSpawnEntityPacket(int entityId, @NotNull UUID uuid, @NotNull EntityType type, @NotNull Location location);
+
+    /**
+     * Creates a packet which updates client-side entity metadata.
+     * <p>
+     * Only the properties set on the {@link EntityMetadata} are sent. See {@link EntityMetadata}
+     * for how flag groups are packed.
+     * </p>
+     *
+     * @param entityId the entity ID to update
+     * @param metadata the {@link EntityMetadata} to send
+     * @return a new {@link NMSOutEntityMetadata} packet
+     */
+    @NotNull
+    NMSOutEntityMetadata createEntityMetadataPacket(int entityId, @NotNull EntityMetadata metadata);
+
+    /**
+     * Creates a packet which moves an entity relative to its current client-side position.
+     * <p>
+     * Relative moves are limited to under 4 blocks per axis on 1.8 and under 8 blocks per
+     * axis on 1.9+; use {@link #createTeleportPacket(int, Location, boolean)}
+     * for larger movements.
+     * </p>
+     *
+     * @param entityId the entity ID to move
+     * @param dx the x offset in blocks
+     * @param dy the y offset in blocks
+     * @param dz the z offset in blocks
+     * @param onGround whether the entity is on the ground
+     * @return a new {@link NMSOutEntityMove} packet
+     * @throws IllegalArgumentException if an offset exceeds the range of a relative move
+     */
+    @NotNull
+    NMSOutEntityMove createRelativeMovePacket(int entityId, double dx, double dy, double dz, boolean onGround);
+
+    /**
+     * Creates a packet which sets the absolute client-side position and rotation of an entity.
+     *
+     * @param entityId the entity ID to teleport
+     * @param location the destination {@link Location}, including yaw and pitch (the world is ignored)
+     * @param onGround whether the entity is on the ground
+     * @return a new {@link NMSOutEntityTeleport} packet
+     */
+    @NotNull
+    NMSOutEntityTeleport createTeleportPacket(int entityId, @NotNull Location location, boolean onGround);
+
+    /**
+     * Creates a packet which sets the item shown in one of an entity's equipment slots.
+     *
+     * @param entityId the entity ID to update
+     * @param slot the {@link NMSOutEntityEquipment.Slot} to set
+     * @param item the {@link ItemStack} to show, or {@code null} to clear the slot
+     * @return a new {@link NMSOutEntityEquipment} packet
+     * @throws IllegalArgumentException if the slot does not exist on this version
+     */
+    @NotNull
+    NMSOutEntityEquipment createEquipmentPacket(int entityId, @NotNull NMSOutEntityEquipment.Slot slot, @Nullable ItemStack item);
+
+    /**
+     * Creates a packet which shows a different block at a position for the receiving player.
+     * <p>
+     * The server world is not modified. The change lasts until the block or its chunk is
+     * resent to the client (e.g. by a real block update or the chunk being reloaded).
+     * </p>
+     *
+     * @param x the block x coordinate
+     * @param y the block y coordinate
+     * @param z the block z coordinate
+     * @param blockData the {@link XBlockData} to show
+     * @return a new {@link NMSOutBlockChange} packet
+     */
+    @NotNull
+    NMSOutBlockChange createBlockChangePacket(int x, int y, int z, @NotNull XBlockData blockData);
+
+    /**
+     * Creates the packets needed to show many block changes at once.
+     * <p>
+     * Blocks are grouped by chunk (or chunk section on 1.16.2+) and each group is sent as a
+     * single {@link com.kamikazejam.kamicommon.nms.wrappers.packet.impl.NMSOutMultiBlockChange}
+     * packet where supported. Groups containing a single block use a regular
+     * {@link NMSOutBlockChange}. Versions without multi block change support fall back
+     * to one {@link NMSOutBlockChange} per block.
+     * </p>
+     * <p>
+     * As with {@link #createBlockChangePacket(int, int, int, XBlockData)}, the server world is not modified.
+     * </p>
+     *
+     * @param blocks the blocks to show, keyed by {@link BlockPosKey#pack(int, int, int) packed position}
+     * @return the packets to send, in no particular order
+     */
+    @NotNull
+    default List<NMSPacket> createBlockChangePackets(@NotNull Map<Long, XBlockData> blocks) {
+        List<NMSPacket> packets = new ArrayList<>(blocks.size());
+        for (Map.Entry<Long, XBlockData> entry : blocks.entrySet()) {
+            long key = entry.getKey();
+            packets.add(this.createBlockChangePacket(BlockPosKey.getX(key), BlockPosKey.getY(key), BlockPosKey.getZ(key), entry.getValue()));
+        }
+        return packets;
+    }
+
+    /**
+     * Resolves the version's native block state shown by a block change packet.
+     * <p>
+     * Resolving may read Bukkit block data, so it should run on the main thread. The returned
+     * state is immutable and can be kept and passed to {@link #createResolvedBlockChangePackets(Map)}
+     * from any thread, i.e. to reapply block changes from a {@link PacketListener}.
+     * </p>
+     *
+     * @param x the block x coordinate
+     * @param y the block y coordinate
+     * @param z the block z coordinate
+     * @param blockData the {@link XBlockData} to resolve
+     * @return the native block state (i.e. {@code IBlockData} or {@code BlockState})
+     */
+    @NotNull
+    Object resolveBlockState(int x, int y, int z, @NotNull XBlockData blockData);
+
+    /**
+     * Creates the packets needed to show many block changes at once, from already resolved block states.
+     * <p>
+     * Same as {@link #createBlockChangePackets(Map)}, except that no block data is resolved, so it
+     * is safe to call off the main thread.
+     * </p>
+     *
+     * @param states the states returned by {@link #resolveBlockState(int, int, int, XBlockData)},
+     *               keyed by {@link BlockPosKey#pack(int, int, int) packed position}
+     * @return the packets to send, in no particular order
+     */
+    @NotNull
+    List<NMSPacket> createResolvedBlockChangePackets(@NotNull Map<Long, Object> states);
+
     /**
      * Sends a packet to the specified player.
      * <p>
@@ -91,4 +260,21 @@ public interface NMSPacketHandler {
      * @param nmsPacket the {@link NMSPacket} to send
      */
     void sendPacket(@NotNull Player player, @NotNull NMSPacket nmsPacket);
+
+    /**
+     * Retrieves the packet interceptor for this server version.
+     * <p>
+     * The interceptor injects a handler into each player's Netty channel pipeline,
+     * allowing {@link PacketListener}s to observe, rewrite, or drop inbound and
+     * outbound packets by type. The same interceptor instance is returned on every call.
+     * </p>
+     * <p>
+     * The interceptor must be registered as a Bukkit listener by the consuming plugin
+     * so that players are injected on join. See {@link PacketInterceptor} for details.
+     * </p>
+     *
+     * @return the {@link PacketInterceptor} for the current Minecraft version
+     */
+    @NotNull
+    PacketInterceptor getPacketInterceptor();
 }
@@ -0,0 +1,113 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.data;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Cross-version description of client-side entity metadata.
+ * <p>
+ * Entity metadata (the "data watcher") is indexed differently across Minecraft versions.
+ * This class describes the desired state in version-independent terms, and each
+ * {@link com.kamikazejam.kamicommon.nms.wrappers.packet.NMSPacketHandler} implementation
+ * maps it to the correct indices and serializers when creating an
+ * {@link com.kamikazejam.kamicommon.nms.wrappers.packet.impl.NMSOutEntityMetadata} packet.
+ * </p>
+ * <p>
+ * Every property is nullable: {@code null} means the property is not sent. The shared
+ * entity flags ({@link #invisible}, {@link #glowing}, {@link #onFire}, {@link #sneaking})
+ * and the armor stand flags ({@link #small}, {@link #arms}, {@link #noBasePlate}, {@link #marker})
+ * are each packed into a single value on the client, so setting any one of a group sends the
+ * whole group with unset members treated as {@code false}.
+ * </p>
+ * <p>
+ * Properties that do not exist on a version (e.g. {@link #glowing} on 1.8) are ignored.
+ * Armor stand flags must only be sent for armor stands.
+ * </p>
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * EntityMetadata hologramLine = new EntityMetadata()
+ *     .setInvisible(true)
+ *     .setCustomName("§eWelcome!")
+ *     .setCustomNameVisible(true)
+ *     .setNoGravity(true)
+ *     .setMarker(true);
+ * }</pre>
+ * </p>
+ */
+@Getter @Setter
+@Accessors(chain = true)
+@SuppressWarnings("unused")
+public class EntityMetadata {
+    // Shared entity flags
+    private @Nullable Boolean onFire = null;
+    private @Nullable Boolean sneaking = null;
+    private @Nullable Boolean invisible = null;
+    private @Nullable Boolean glowing = null;
+
+    // Shared entity properties
+    /**
+     * The custom name, using legacy {@code §} color codes.
+     */
+    private @Nullable String customName = null;
+    private @Nullable Boolean customNameVisible = null;
+    private @Nullable Boolean silent = null;
+    private @Nullable Boolean noGravity = null;
+
+    // Armor stand flags
+    private @Nullable Boolean small = null;
+    private @Nullable Boolean arms = null;
+    private @Nullable Boolean noBasePlate = null;
+    private @Nullable Boolean marker = null;
+
+    /**
+     * @return {@code true} if any of the shared entity flags are set
+     */
+    public boolean hasEntityFlags() {
+        return onFire != null || sneaking != null || invisible != null || glowing != null;
+    }
+
+    /**
+     * @return {@code true} if any of the armor stand flags are set
+     */
+    public boolean hasArmorStandFlags() {
+        return small != null || arms != null || noBasePlate != null || marker != null;
+    }
+
+    /**
+     * Packs the shared entity flags into the client's flag byte.
+     *
+     * @param includeGlowing whether the glowing bit (1.9+) should be included
+     * @return the packed flag byte
+     */
+    public byte packEntityFlags(boolean includeGlowing) {
+        byte flags = 0;
+        if (Boolean.TRUE.equals(onFire)) { flags |= 0x01; }
+        if (Boolean.TRUE.equals(sneaking)) { flags |= 0x02; }
+        if (Boolean.TRUE.equals(invisible)) { flags |= 0x20; }
+        if (includeGlowing && Boolean.TRUE.equals(glowing)) { flags |= 0x40; }
+        return flags;
+    }
+
+    /**
+     * Packs the armor stand flags into the client's armor stand flag byte.
+     * <p>
+     * On 1.8 and 1.9 the no-gravity flag is part of this byte (bit {@code 0x02}); on
+     * later versions it is a separate shared entity property.
+     * </p>
+     *
+     * @param includeNoGravity whether the legacy no-gravity bit should be included
+     * @return the packed flag byte
+     */
+    public byte packArmorStandFlags(boolean includeNoGravity) {
+        byte flags = 0;
+        if (Boolean.TRUE.equals(small)) { flags |= 0x01; }
+        if (includeNoGravity && Boolean.TRUE.equals(noGravity)) { flags |= 0x02; }
+        if (Boolean.TRUE.equals(arms)) { flags |= 0x04; }
+        if (Boolean.TRUE.equals(noBasePlate)) { flags |= 0x08; }
+        if (Boolean.TRUE.equals(marker)) { flags |= 0x10; }
+        return flags;
+    }
+}
@@ -0,0 +1,138 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.entity;
+
+import com.kamikazejam.kamicommon.nms.wrappers.packet.data.EntityMetadata;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.impl.NMSOutEntityEquipment;
+import lombok.Getter;
+import org.bukkit.Location;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * A packet-only entity managed by a {@link FakeEntityManager}.
+ * <p>
+ * Fake entities exist only on the clients of nearby players. They are never added to a
+ * server world, so they cost no tick time regardless of how many exist. All changes made
+ * through this class are buffered and sent by the owning manager on its next tick, so
+ * several changes within the same tick result in a single update per viewer.
+ * </p>
+ * <p>
+ * Instances are created with {@link FakeEntityManager#spawn(EntityType, Location, EntityMetadata)}
+ * and must only be used from the server main thread.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public final class FakeEntity {
+    @Getter private final @NotNull FakeEntityManager manager;
+    @Getter private final int entityId;
+    @Getter private final @NotNull UUID uuid;
+    @Getter private final @NotNull EntityType type;
+    private @NotNull Location location;
+    @Getter private @NotNull EntityMetadata metadata;
+    @Getter private boolean removed = false;
+
+    // State used by the manager (package-private)
+    final @NotNull Map<NMSOutEntityEquipment.Slot, ItemStack> equipment = new EnumMap<>(NMSOutEntityEquipment.Slot.class);
+    final @NotNull Set<NMSOutEntityEquipment.Slot> dirtySlots = EnumSet.noneOf(NMSOutEntityEquipment.Slot.class);
+    final @NotNull Set<UUID> viewers = new HashSet<>();
+    @NotNull Location sentLocation;
+    boolean metadataDirty = false;
+    long chunkKey;
+
+    FakeEntity(@NotNull FakeEntityManager manager, int entityId, @NotNull EntityType type, @NotNull Location location, @NotNull EntityMetadata metadata) {
+        this.manager = manager;
+        this.entityId = entityId;
+        this.uuid = UUID.randomUUID();
+        this.type = type;
+        this.location = location.clone();
+        this.sentLocation = location.clone();
+        this.metadata = metadata;
+        this.chunkKey = FakeEntityManager.chunkKey(location);
+    }
+
+    /**
+     * @return a copy of this entity's current {@link Location}
+     */
+    @NotNull
+    public Location getLocation() {
+        return this.location.clone();
+    }
+
+    /**
+     * Moves this entity for all viewers on the next manager tick.
+     * <p>
+     * Small movements without a rotation change are sent as relative moves, anything else
+     * as a teleport. Moving to a different world is not supported; remove and respawn instead.
+     * </p>
+     *
+     * @param location the new {@link Location}
+     * @throws IllegalArgumentException if the location is in a different world
+     */
+    public void teleport(@NotNull Location location) {
+        this.manager.move(this, location);
+    }
+
+    /**
+     * Replaces this entity's metadata and sends it to all viewers on the next manager tick.
+     *
+     * @param metadata the new {@link EntityMetadata}
+     */
+    public void setMetadata(@NotNull EntityMetadata metadata) {
+        this.metadata = metadata;
+        this.metadataDirty = true;
+        this.manager.markDirty(this);
+    }
+
+    /**
+     * Sets the item shown in one of this entity's equipment slots.
+     *
+     * @param slot the {@link NMSOutEntityEquipment.Slot} to set
+     * @param item the {@link ItemStack} to show, or {@code null} to clear the slot
+     */
+    public void setEquipment(@NotNull NMSOutEntityEquipment.Slot slot, @Nullable ItemStack item) {
+        if (item == null) {
+            this.equipment.remove(slot);
+        } else {
+            this.equipment.put(slot, item.clone());
+        }
+        this.dirtySlots.add(slot);
+        this.manager.markDirty(this);
+    }
+
+    /**
+     * @param slot the {@link NMSOutEntityEquipment.Slot} to read
+     * @return a copy of the item in the slot, or {@code null} if the slot is empty
+     */
+    @Nullable
+    public ItemStack getEquipment(@NotNull NMSOutEntityEquipment.Slot slot) {
+        @Nullable ItemStack item = this.equipment.get(slot);
+        return (item == null) ? null : item.clone();
+    }
+
+    /**
+     * @param player the {@link Player} to check
+     * @return {@code true} if this entity is currently spawned on the player's client
+     */
+    public boolean isViewedBy(@NotNull Player player) {
+        return this.viewers.contains(player.getUniqueId());
+    }
+
+    /**
+     * Removes this entity. Viewers are sent a destroy packet on the next manager tick.
+     */
+    public void remove() {
+        this.manager.remove(this);
+    }
+
+    void markRemoved() {
+        this.removed = true;
+    }
+
+    void setLocationInternal(@NotNull Location location) {
+        this.location = location.clone();
+    }
+}
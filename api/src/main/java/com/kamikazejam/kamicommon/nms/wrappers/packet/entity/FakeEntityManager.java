@@ -0,0 +1,472 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.entity;
+
+import com.kamikazejam.kamicommon.nms.wrappers.packet.NMSPacketHandler;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.data.EntityMetadata;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.impl.NMSOutEntityEquipment;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Manager for packet-only {@link FakeEntity}s such as holograms, markers, and NPC bodies.
+ * <p>
+ * Fake entities are indexed in a per-world spatial hash keyed by chunk. Once per tick the manager:
+ * <ol>
+ * <li>Sends buffered movement, metadata, and equipment changes to each entity's current viewers</li>
+ * <li>Recomputes visibility for players who changed chunk, or for whom a chunk cell within the
+ *     view distance changed, by looking up only the chunk cells within the view distance</li>
+ * <li>Sends spawn packets for entities entering range, and a single batched destroy packet
+ *     per player for entities leaving range or removed</li>
+ * </ol>
+ * Each cell carries the world tick stamp of its last change (an entity added, removed, or crossing
+ * a chunk border). Players who stay in the same chunk cost a single comparison per tick while nothing
+ * changes in their world, and a lookup of the cells within their view distance otherwise, so changes
+ * elsewhere in the world never make them rescan. Respawning or changing worlds resets the client's
+ * entities, so it also resets the player's visible set.
+ * </p>
+ * <p>
+ * <strong>Threading:</strong> All methods must be called from the server main thread.
+ * </p>
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * FakeEntityManager manager = new FakeEntityManager(NmsAPI.getPacketHandler(), 4);
+ * manager.start(plugin);
+ *
+ * FakeEntity line = manager.spawn(EntityType.ARMOR_STAND, location, new EntityMetadata()
+ *     .setInvisible(true)
+ *     .setCustomName("§6Daily Rewards")
+ *     .setCustomNameVisible(true)
+ *     .setMarker(true));
+ *
+ * // Later
+ * line.remove();
+ * manager.stop();
+ * }</pre>
+ * </p>
+ */
+@SuppressWarnings("unused")
+public class FakeEntityManager implements Listener {
+    // Count down from the top of the id space to stay clear of real entity ids
+    private static final AtomicInteger NEXT_ENTITY_ID = new AtomicInteger(Integer.MAX_VALUE);
+    // Below the smallest relative move range across versions (1.8 allows just under 4 blocks)
+    private static final double MAX_RELATIVE_MOVE = 3.9D;
+
+    private final @NotNull NMSPacketHandler packetHandler;
+    private final int viewDistance;
+    private final @NotNull Map<UUID, WorldIndex> worlds = new HashMap<>();
+    private final @NotNull Map<UUID, ViewerState> viewerStates = new HashMap<>();
+    private final @NotNull Set<FakeEntity> dirty = new LinkedHashSet<>();
+    private @Nullable BukkitTask task = null;
+
+    /**
+     * Creates a new manager.
+     *
+     * @param packetHandler the {@link NMSPacketHandler} used to create and send packets
+     * @param viewDistance the radius, in chunks, within which players see fake entities
+     */
+    public FakeEntityManager(@NotNull NMSPacketHandler packetHandler, int viewDistance) {
+        if (viewDistance < 0) {
+            throw new IllegalArgumentException("viewDistance must be non-negative");
+        }
+        this.packetHandler = packetHandler;
+        this.viewDistance = viewDistance;
+    }
+
+    // ------------------------------------------------------------ //
+    //                          Lifecycle                           //
+    // ------------------------------------------------------------ //
+
+    /**
+     * Registers this manager as a listener and schedules {@link #tick()} every server tick.
+     *
+     * @param plugin the {@link Plugin} owning the task and listener
+     * @throws IllegalStateException if the manager is already started
+     */
+    public void start(@NotNull Plugin plugin) {
+        if (this.task != null) {
+            throw new IllegalStateException("FakeEntityManager is already started");
+        }
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        this.task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * Cancels the tick task, unregisters the listener, and destroys every fake entity for its viewers.
+     */
+    public void stop() {
+        if (this.task != null) {
+            this.task.cancel();
+            this.task = null;
+        }
+        HandlerList.unregisterAll(this);
+
+        for (Map.Entry<UUID, ViewerState> entry : this.viewerStates.entrySet()) {
+            @Nullable Player player = Bukkit.getPlayer(entry.getKey());
+            if (player != null && !entry.getValue().visible.isEmpty()) {
+                this.sendDestroy(player, entry.getValue().visible);
+            }
+        }
+        this.viewerStates.clear();
+        this.worlds.clear();
+        this.dirty.clear();
+    }
+
+    /**
+     * @hidden
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public final void onQuit(@NotNull PlayerQuitEvent event) {
+        this.forgetViewer(event.getPlayer());
+    }
+
+    /**
+     * @hidden
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public final void onRespawn(@NotNull PlayerRespawnEvent event) {
+        // The client drops every entity on respawn, so everything in range is spawned again next tick
+        this.forgetViewer(event.getPlayer());
+    }
+
+    /**
+     * @hidden
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public final void onChangedWorld(@NotNull PlayerChangedWorldEvent event) {
+        this.forgetViewer(event.getPlayer());
+    }
+
+    private void forgetViewer(@NotNull Player player) {
+        @Nullable ViewerState state = this.viewerStates.remove(player.getUniqueId());
+        if (state == null) { return; }
+        for (FakeEntity entity : state.visible) {
+            entity.viewers.remove(player.getUniqueId());
+        }
+    }
+
+    // ------------------------------------------------------------ //
+    //                        Entity Management                     //
+    // ------------------------------------------------------------ //
+
+    /**
+     * Creates a new fake entity. It is spawned for nearby players on the next tick.
+     *
+     * @param type the {@link EntityType} to spawn
+     * @param location the spawn {@link Location} (must have a world)
+     * @param metadata the initial {@link EntityMetadata}
+     * @return the new {@link FakeEntity}
+     */
+    @NotNull
+    public FakeEntity spawn(@NotNull EntityType type, @NotNull Location location, @NotNull EntityMetadata metadata) {
+        World world = Objects.requireNonNull(location.getWorld(), "location world");
+        FakeEntity entity = new FakeEntity(this, NEXT_ENTITY_ID.getAndDecrement(), type, location, metadata);
+        this.worlds.computeIfAbsent(world.getUID(), k -> new WorldIndex()).add(entity);
+        return entity;
+    }
+
+    /**
+     * Removes a fake entity. Viewers are sent a destroy packet on the next tick.
+     *
+     * @param entity the {@link FakeEntity} to remove
+     */
+    public void remove(@NotNull FakeEntity entity) {
+        if (entity.isRemoved()) { return; }
+        entity.markRemoved();
+        this.dirty.remove(entity);
+        @Nullable WorldIndex index = this.worlds.get(worldId(entity.getLocation()));
+        if (index != null) {
+            index.remove(entity);
+        }
+    }
+
+    /**
+     * @return an unmodifiable snapshot of all fake entities currently managed by this manager
+     */
+    @NotNull
+    public Collection<FakeEntity> getEntities() {
+        List<FakeEntity> all = new ArrayList<>();
+        for (WorldIndex index : this.worlds.values()) {
+            for (Cell cell : index.cells.values()) {
+                all.addAll(cell.entities);
+            }
+        }
+        return Collections.unmodifiableList(all);
+    }
+
+    void move(@NotNull FakeEntity entity, @NotNull Location location) {
+        if (entity.isRemoved()) { return; }
+        if (!worldId(entity.getLocation()).equals(worldId(location))) {
+            throw new IllegalArgumentException("Fake entities cannot change worlds");
+        }
+        long newKey = chunkKey(location);
+        if (newKey != entity.chunkKey) {
+            WorldIndex index = this.worlds.get(worldId(location));
+            index.remove(entity);
+            entity.setLocationInternal(location);
+            index.add(entity);
+        } else {
+            entity.setLocationInternal(location);
+        }
+        this.markDirty(entity);
+    }
+
+    void markDirty(@NotNull FakeEntity entity) {
+        if (!entity.isRemoved()) {
+            this.dirty.add(entity);
+        }
+    }
+
+    // ------------------------------------------------------------ //
+    //                             Tick                             //
+    // ------------------------------------------------------------ //
+
+    /**
+     * Flushes buffered entity changes and updates player visibility.
+     * <p>
+     * Called automatically every tick after {@link #start(Plugin)}. May also be driven
+     * manually from an existing task instead.
+     * </p>
+     */
+    public void tick() {
+        this.flushDirty();
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            this.updateViewer(player);
+        }
+        // Every viewer in range of an emptied cell has now seen its last change
+        for (WorldIndex index : this.worlds.values()) {
+            index.pruneEmptyCells();
+        }
+    }
+
+    private void flushDirty() {
+        if (this.dirty.isEmpty()) { return; }
+        for (FakeEntity entity : this.dirty) {
+            if (entity.viewers.isEmpty()) {
+                this.clearPending(entity);
+                continue;
+            }
+            for (UUID viewerId : entity.viewers) {
+                @Nullable Player viewer = Bukkit.getPlayer(viewerId);
+                if (viewer != null) {
+                    this.sendUpdate(viewer, entity);
+                }
+            }
+            this.clearPending(entity);
+        }
+        this.dirty.clear();
+    }
+
+    private void clearPending(@NotNull FakeEntity entity) {
+        entity.sentLocation = entity.getLocation();
+        entity.metadataDirty = false;
+        entity.dirtySlots.clear();
+    }
+
+    private void updateViewer(@NotNull Player player) {
+        ViewerState state = this.viewerStates.computeIfAbsent(player.getUniqueId(), k -> new ViewerState());
+        Location location = player.getLocation();
+        UUID worldId = worldId(location);
+        long key = chunkKey(location);
+        @Nullable WorldIndex index = this.worlds.get(worldId);
+        long clock = (index == null) ? 0L : index.clock;
+
+        if (worldId.equals(state.worldId) && key == state.chunkKey) {
+            // Nothing changed in this world since the last scan
+            if (clock == state.scannedAt) { return; }
+            // Something changed, but only a change within range requires a rescan
+            if (index == null || !index.changedSince(key, this.viewDistance, state.scannedAt)) {
+                state.scannedAt = clock;
+                return;
+            }
+        }
+        state.worldId = worldId;
+        state.chunkKey = key;
+        state.scannedAt = clock;
+
+        Set<FakeEntity> nearby = (index == null) ? Collections.emptySet() : index.collect(key, this.viewDistance);
+
+        // Destroy entities which left range (or were removed) in one batched packet
+        List<FakeEntity> leaving = new ArrayList<>();
+        for (FakeEntity entity : state.visible) {
+            if (!nearby.contains(entity)) {
+                leaving.add(entity);
+            }
+        }
+        if (!leaving.isEmpty()) {
+            this.sendDestroy(player, leaving);
+            for (FakeEntity entity : leaving) {
+                state.visible.remove(entity);
+                entity.viewers.remove(player.getUniqueId());
+            }
+        }
+
+        // Spawn entities which entered range
+        for (FakeEntity entity : nearby) {
+            if (state.visible.add(entity)) {
+                entity.viewers.add(player.getUniqueId());
+                this.sendSpawn(player, entity);
+            }
+        }
+    }
+
+    // ------------------------------------------------------------ //
+    //                            Packets                           //
+    // ------------------------------------------------------------ //
+
+    private void sendSpawn(@NotNull Player player, @NotNull FakeEntity entity) {
+        NMSPacketHandler handler = this.packetHandler;
+        handler.sendPacket(player, handler.createSpawnEntityPacket(entity.getEntityId(), entity.getUuid(), entity.getType(), entity.getLocation()));
+        handler.sendPacket(player, handler.createEntityMetadataPacket(entity.getEntityId(), entity.getMetadata()));
+        for (Map.Entry<NMSOutEntityEquipment.Slot, ItemStack> entry : entity.equipment.entrySet()) {
+            handler.sendPacket(player, handler.createEquipmentPacket(entity.getEntityId(), entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private void sendUpdate(@NotNull Player player, @NotNull FakeEntity entity) {
+        NMSPacketHandler handler = this.packetHandler;
+        Location from = entity.sentLocation;
+        Location to = entity.getLocation();
+        if (!from.equals(to)) {
+            double dx = to.getX() - from.getX(), dy = to.getY() - from.getY(), dz = to.getZ() - from.getZ();
+            boolean sameRotation = from.getYaw() == to.getYaw() && from.getPitch() == to.getPitch();
+            if (sameRotation && Math.abs(dx) < MAX_RELATIVE_MOVE && Math.abs(dy) < MAX_RELATIVE_MOVE && Math.abs(dz) < MAX_RELATIVE_MOVE) {
+                handler.sendPacket(player, handler.createRelativeMovePacket(entity.getEntityId(), dx, dy, dz, false));
+            } else {
+                handler.sendPacket(player, handler.createTeleportPacket(entity.getEntityId(), to, false));
+            }
+        }
+        if (entity.metadataDirty) {
+            handler.sendPacket(player, handler.createEntityMetadataPacket(entity.getEntityId(), entity.getMetadata()));
+        }
+        for (NMSOutEntityEquipment.Slot slot : entity.dirtySlots) {
+            handler.sendPacket(player, handler.createEquipmentPacket(entity.getEntityId(), slot, entity.equipment.get(slot)));
+        }
+    }
+
+    private void sendDestroy(@NotNull Player player, @NotNull Collection<FakeEntity> entities) {
+        int[] ids = new int[entities.size()];
+        int i = 0;
+        for (FakeEntity entity : entities) {
+            ids[i++] = entity.getEntityId();
+        }
+        this.packetHandler.sendPacket(player, this.packetHandler.createDestroyPacket(ids));
+    }
+
+    // ------------------------------------------------------------ //
+    //                         Spatial Index                        //
+    // ------------------------------------------------------------ //
+
+    static long chunkKey(@NotNull Location location) {
+        return chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    @NotNull
+    private static UUID worldId(@NotNull Location location) {
+        return Objects.requireNonNull(location.getWorld(), "location world").getUID();
+    }
+
+    /**
+     * Chunk-keyed spatial hash for one world. Every add, remove, or chunk change advances the
+     * world clock and stamps the affected cell with it, which tells viewers within range of that
+     * cell that their visible set may be stale.
+     */
+    private static final class WorldIndex {
+        private final @NotNull Map<Long, Cell> cells = new HashMap<>();
+        private final @NotNull List<Long> emptied = new ArrayList<>();
+        private long clock = 0L;
+
+        private void add(@NotNull FakeEntity entity) {
+            entity.chunkKey = chunkKey(entity.getLocation());
+            Cell cell = this.cells.computeIfAbsent(entity.chunkKey, k -> new Cell());
+            cell.entities.add(entity);
+            cell.changedAt = ++this.clock;
+        }
+
+        private void remove(@NotNull FakeEntity entity) {
+            @Nullable Cell cell = this.cells.get(entity.chunkKey);
+            if (cell != null && cell.entities.remove(entity)) {
+                cell.changedAt = ++this.clock;
+                // Empty cells are kept until the end of the tick so viewers still see their stamp
+                if (cell.entities.isEmpty()) {
+                    this.emptied.add(entity.chunkKey);
+                }
+            }
+        }
+
+        private void pruneEmptyCells() {
+            if (this.emptied.isEmpty()) { return; }
+            for (long key : this.emptied) {
+                @Nullable Cell cell = this.cells.get(key);
+                if (cell != null && cell.entities.isEmpty()) {
+                    this.cells.remove(key);
+                }
+            }
+            this.emptied.clear();
+        }
+
+        private boolean changedSince(long centerKey, int radius, long stamp) {
+            int centerX = (int) (centerKey >> 32);
+            int centerZ = (int) centerKey;
+            for (int x = centerX - radius; x <= centerX + radius; x++) {
+                for (int z = centerZ - radius; z <= centerZ + radius; z++) {
+                    @Nullable Cell cell = this.cells.get(chunkKey(x, z));
+                    if (cell != null && cell.changedAt > stamp) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        @NotNull
+        private Set<FakeEntity> collect(long centerKey, int radius) {
+            int centerX = (int) (centerKey >> 32);
+            int centerZ = (int) centerKey;
+            Set<FakeEntity> result = new HashSet<>();
+            for (int x = centerX - radius; x <= centerX + radius; x++) {
+                for (int z = centerZ - radius; z <= centerZ + radius; z++) {
+                    @Nullable Cell cell = this.cells.get(chunkKey(x, z));
+                    if (cell != null) {
+                        result.addAll(cell.entities);
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class Cell {
+        private final @NotNull Set<FakeEntity> entities = new HashSet<>();
+        private long changedAt = 0L;
+    }
+
+    private static final class ViewerState {
+        private final @NotNull Set<FakeEntity> visible = new HashSet<>();
+        private @Nullable UUID worldId = null;
+        private long chunkKey = 0L;
+        private long scannedAt = -1L;
+    }
+}
@@ -0,0 +1,30 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import com.kamikazejam.kamicommon.nms.wrappers.packet.NMSPacket;
+
+/**
+ * NMS wrapper for outbound single block change packets.
+ * <p>
+ * This interface provides access to Minecraft's block change packet, which tells
+ * a client that the block at a position has a new state. The server world is not
+ * modified, so the change is purely visual for the receiving player until the
+ * block or its chunk is resent.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public interface NMSOutBlockChange extends NMSPacket {
+    /**
+     * @return the block x coordinate of this change
+     */
+    int getX();
+
+    /**
+     * @return the block y coordinate of this change
+     */
+    int getY();
+
+    /**
+     * @return the block z coordinate of this change
+     */
+    int getZ();
+}
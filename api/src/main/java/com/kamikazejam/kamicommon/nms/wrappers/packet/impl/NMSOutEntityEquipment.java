@@ -0,0 +1,36 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import com.kamikazejam.kamicommon.nms.wrappers.packet.NMSPacket;
+
+/**
+ * NMS wrapper for outbound entity equipment packets.
+ * <p>
+ * This interface provides access to Minecraft's entity equipment packet, which
+ * sets the item shown in one of an entity's equipment slots on the client. It is
+ * commonly used to dress fake NPCs or to show per-player armor visuals.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public interface NMSOutEntityEquipment extends NMSPacket {
+    /**
+     * Retrieves the ID of the entity whose equipment is updated.
+     *
+     * @return the entity ID for this equipment update
+     */
+    int getEntityID();
+
+    /**
+     * Version-independent equipment slots.
+     * <p>
+     * {@link #OFF_HAND} is only available on 1.9+.
+     * </p>
+     */
+    enum Slot {
+        MAIN_HAND,
+        OFF_HAND,
+        FEET,
+        LEGS,
+        CHEST,
+        HEAD
+    }
+}
@@ -0,0 +1,34 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import com.kamikazejam.kamicommon.nms.wrappers.packet.NMSPacket;
+
+/**
+ * NMS wrapper for outbound entity metadata packets.
+ * <p>
+ * This interface provides access to Minecraft's entity metadata (data watcher) packet,
+ * which updates client-side entity state such as invisibility, custom names, and
+ * armor stand flags. Metadata indices vary between Minecraft versions, so packets are
+ * created from a version-independent {@link com.kamikazejam.kamicommon.nms.wrappers.packet.data.EntityMetadata}
+ * description and mapped to the correct indices by each version implementation.
+ * </p>
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * EntityMetadata meta = new EntityMetadata()
+ *         .setInvisible(true)
+ *         .setCustomName("§aHello")
+ *         .setCustomNameVisible(true)
+ *         .setMarker(true);
+ * packetHandler.sendPacket(player, packetHandler.createEntityMetadataPacket(id, meta));
+ * }</pre>
+ * </p>
+ */
+@SuppressWarnings("unused")
+public interface NMSOutEntityMetadata extends NMSPacket {
+    /**
+     * Retrieves the ID of the entity this metadata update applies to.
+     *
+     * @return the entity ID for this metadata update
+     */
+    int getEntityID();
+}
@@ -0,0 +1,23 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import com.kamikazejam.kamicommon.nms.wrappers.packet.NMSPacket;
+
+/**
+ * NMS wrapper for outbound relative entity move packets.
+ * <p>
+ * This interface provides access to Minecraft's relative move packet, which moves
+ * an entity on the client by a small offset from its current position. Relative
+ * moves are cheaper than teleports but have a limited range per packet
+ * (under 4 blocks per axis on legacy versions, under 8 blocks on modern versions).
+ * Use {@link NMSOutEntityTeleport} for larger movements.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public interface NMSOutEntityMove extends NMSPacket {
+    /**
+     * Retrieves the ID of the entity being moved.
+     *
+     * @return the entity ID for this movement
+     */
+    int getEntityID();
+}
@@ -0,0 +1,21 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import com.kamikazejam.kamicommon.nms.wrappers.packet.NMSPacket;
+
+/**
+ * NMS wrapper for outbound entity teleport packets.
+ * <p>
+ * This interface provides access to Minecraft's entity teleport packet, which
+ * sets the absolute position and rotation of an entity on the client. Unlike
+ * {@link NMSOutEntityMove}, teleports have no range limit.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public interface NMSOutEntityTeleport extends NMSPacket {
+    /**
+     * Retrieves the ID of the entity being teleported.
+     *
+     * @return the entity ID for this teleport
+     */
+    int getEntityID();
+}
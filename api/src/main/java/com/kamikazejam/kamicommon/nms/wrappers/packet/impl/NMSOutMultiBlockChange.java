@@ -0,0 +1,25 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import com.kamikazejam.kamicommon.nms.wrappers.packet.NMSPacket;
+
+/**
+ * NMS wrapper for outbound multi block change packets.
+ * <p>
+ * This interface provides access to Minecraft's multi block change packet, which
+ * updates many blocks within a single chunk (1.8 - 1.15) or chunk section (1.16+)
+ * in one packet. It is considerably cheaper than sending one {@link NMSOutBlockChange}
+ * per block, both for the server and the client.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public interface NMSOutMultiBlockChange extends NMSPacket {
+    /**
+     * @return the x coordinate of the chunk this packet updates
+     */
+    int getChunkX();
+
+    /**
+     * @return the z coordinate of the chunk this packet updates
+     */
+    int getChunkZ();
+}
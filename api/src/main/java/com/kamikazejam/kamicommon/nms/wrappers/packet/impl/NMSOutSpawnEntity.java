@@ -0,0 +1,38 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import com.kamikazejam.kamicommon.nms.wrappers.packet.NMSPacket;
+
+/**
+ * NMS wrapper for outbound spawn entity packets.
+ * <p>
+ * This interface provides access to Minecraft's entity spawn packet, which is sent
+ * from the server to clients to make a new entity appear on the client. When created
+ * through {@link com.kamikazejam.kamicommon.nms.wrappers.packet.NMSPacketHandler#createSpawnEntityPacket}
+ * the entity exists only on the client: the server does not track or tick it.
+ * </p>
+ * <p>
+ * This packet is particularly useful for:
+ * <ul>
+ * <li>Client-side holograms built from invisible armor stands</li>
+ * <li>Fake NPC bodies and markers that should not cost server tick time</li>
+ * <li>Per-player visual effects</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * int id = 1_000_000;
+ * NMSOutSpawnEntity spawn = packetHandler.createSpawnEntityPacket(id, UUID.randomUUID(), EntityType.ARMOR_STAND, location);
+ * packetHandler.sendPacket(player, spawn);
+ * }</pre>
+ * </p>
+ */
+@SuppressWarnings("unused")
+public interface NMSOutSpawnEntity extends NMSPacket {
+    /**
+     * Retrieves the ID of the entity this packet spawns.
+     *
+     * @return the entity ID being spawned on the client
+     */
+    int getEntityID();
+}
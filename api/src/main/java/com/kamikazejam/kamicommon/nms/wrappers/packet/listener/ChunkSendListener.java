@@ -0,0 +1,26 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.listener;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Callback invoked after chunk data has been written to a player's connection.
+ * <p>
+ * Registered through {@link PacketInterceptor#addChunkSendListener(ChunkSendListener)}.
+ * Listeners run on the player's Netty event loop thread, <strong>not</strong> the server
+ * main thread, immediately after the chunk packet was passed down the pipeline. Packets
+ * sent to the player from within the callback are therefore guaranteed to arrive after
+ * the chunk, which makes this the right place to reapply client-side block overrides.
+ * </p>
+ */
+@FunctionalInterface
+public interface ChunkSendListener {
+    /**
+     * Handles a chunk being sent to a player.
+     *
+     * @param player the {@link Player} receiving the chunk
+     * @param chunkX the chunk x coordinate
+     * @param chunkZ the chunk z coordinate
+     */
+    void onChunkSent(@NotNull Player player, int chunkX, int chunkZ);
+}
@@ -0,0 +1,20 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.listener;
+
+/**
+ * The direction of travel for a packet passing through a player's network channel.
+ * <p>
+ * Used when registering a {@link PacketListener} with a {@link PacketInterceptor}
+ * to select whether the listener observes packets sent by the client (inbound)
+ * or packets sent by the server (outbound).
+ * </p>
+ */
+public enum PacketDirection {
+    /**
+     * Packets sent from the client to the server (serverbound / PacketPlayIn).
+     */
+    INBOUND,
+    /**
+     * Packets sent from the server to the client (clientbound / PacketPlayOut).
+     */
+    OUTBOUND
+}
@@ -0,0 +1,346 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.listener;
+
+import com.kamikazejam.kamicommon.nms.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Lightweight inbound/outbound packet interceptor backed by each player's Netty channel pipeline.
+ * <p>
+ * Version-specific subclasses inject a small duplex handler directly in front of the
+ * server's {@code packet_handler} in each player's channel. Every decoded inbound packet
+ * and every outbound packet (before encoding) is passed to {@link #dispatch(Player, PacketDirection, Object)},
+ * which runs the {@link PacketListener}s registered for that exact packet class.
+ * </p>
+ * <p>
+ * <strong>Dispatch:</strong> Listeners are resolved through a class-to-listener table
+ * instead of an {@code instanceof} chain. The table for a packet class is computed once
+ * (including listeners registered for a supertype or interface of the packet) and cached,
+ * so steady-state dispatch is a single map lookup. Registering or removing a listener
+ * swaps in a fresh table, so in-flight dispatches are never affected by concurrent changes.
+ * </p>
+ * <p>
+ * <strong>Bundles:</strong> On 1.19.4+ an outbound {@code ClientboundBundlePacket} is dispatched
+ * itself, and then each of its sub-packets is dispatched individually. If a listener replaces or
+ * drops a sub-packet the bundle is rebuilt from the results (and dropped if nothing remains).
+ * </p>
+ * <p>
+ * <strong>Threading:</strong> Listeners run on the Netty event loop of the player's connection,
+ * never on the main thread. They must be thread-safe and fast.
+ * </p>
+ * <p>
+ * <strong>Lifecycle:</strong> This class is a Bukkit {@link Listener} which injects players on join
+ * and removes the handler on quit. Register it once from your plugin, and call {@link #injectAll()}
+ * to cover players who were already online:
+ * <pre>{@code
+ * PacketInterceptor interceptor = NmsAPI.getPacketHandler().getPacketInterceptor();
+ * Bukkit.getPluginManager().registerEvents(interceptor, plugin);
+ * interceptor.injectAll();
+ *
+ * interceptor.addListener(PacketDirection.INBOUND, ServerboundSwingPacket.class, (player, packet) -> {
+ *     swings.incrementAndGet();
+ *     return packet;
+ * });
+ * }</pre>
+ * </p>
+ */
+@SuppressWarnings({"unused", "UnusedReturnValue"})
+public abstract class PacketInterceptor implements Listener {
+    /**
+     * The name of the handler added to each player's channel pipeline.
+     */
+    public static final String HANDLER_NAME = "kamicommon_packet_interceptor";
+
+    private volatile @NotNull DispatchTable inbound = DispatchTable.EMPTY;
+    private volatile @NotNull DispatchTable outbound = DispatchTable.EMPTY;
+    private final @NotNull List<ChunkSendListener> chunkListeners = new CopyOnWriteArrayList<>();
+
+    // ------------------------------------------------------------ //
+    //                     Version Implementation                   //
+    // ------------------------------------------------------------ //
+
+    /**
+     * Injects the interceptor handler into the player's channel pipeline.
+     * <p>
+     * Implementations must be idempotent; injecting an already injected player is a no-op.
+     * </p>
+     *
+     * @param player the {@link Player} to inject
+     */
+    public abstract void inject(@NotNull Player player);
+
+    /**
+     * Removes the interceptor handler from the player's channel pipeline, if present.
+     *
+     * @param player the {@link Player} to uninject
+     */
+    public abstract void uninject(@NotNull Player player);
+
+    // ------------------------------------------------------------ //
+    //                          Lifecycle                           //
+    // ------------------------------------------------------------ //
+
+    /**
+     * Injects every player currently online.
+     * <p>
+     * Call this after registering the interceptor as a listener, so players who joined
+     * before your plugin enabled (i.e. after a reload) are also covered.
+     * </p>
+     */
+    public final void injectAll() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            this.inject(player);
+        }
+    }
+
+    /**
+     * Removes the interceptor handler from every player currently online.
+     * <p>
+     * Call this when your plugin disables to leave the pipelines in their original state.
+     * </p>
+     */
+    public final void uninjectAll() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            this.uninject(player);
+        }
+    }
+
+    /**
+     * @hidden
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public final void onJoin(@NotNull PlayerJoinEvent event) {
+        this.inject(event.getPlayer());
+    }
+
+    /**
+     * @hidden
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public final void onQuit(@NotNull PlayerQuitEvent event) {
+        this.uninject(event.getPlayer());
+    }
+
+    // ------------------------------------------------------------ //
+    //                     Listener Registration                    //
+    // ------------------------------------------------------------ //
+
+    /**
+     * Registers a listener for a specific NMS packet class.
+     * <p>
+     * The listener is invoked for packets whose runtime class is {@code packetClass}
+     * or a subclass of it. Listeners for the same class run in registration order.
+     * </p>
+     *
+     * @param direction the {@link PacketDirection} to listen on
+     * @param packetClass the raw NMS packet class (e.g. {@code ClientboundSetEntityDataPacket.class})
+     * @param listener the {@link PacketListener} to invoke
+     * @param <T> the packet type
+     * @return the same listener (for use with {@link #removeListener(PacketListener)})
+     */
+    @NotNull
+    public final synchronized <T> PacketListener<T> addListener(@NotNull PacketDirection direction, @NotNull Class<T> packetClass, @NotNull PacketListener<T> listener) {
+        DispatchTable current = this.getTable(direction);
+        List<Registration> registrations = new ArrayList<>(current.registrations);
+        registrations.add(new Registration(packetClass, listener));
+        this.setTable(direction, new DispatchTable(registrations));
+        return listener;
+    }
+
+    /**
+     * Removes a previously registered listener from both directions.
+     *
+     * @param listener the {@link PacketListener} to remove
+     * @return {@code true} if the listener was registered and has been removed
+     */
+    public final synchronized boolean removeListener(@NotNull PacketListener<?> listener) {
+        boolean removed = false;
+        for (PacketDirection direction : PacketDirection.values()) {
+            DispatchTable current = this.getTable(direction);
+            List<Registration> registrations = new ArrayList<>(current.registrations);
+            if (registrations.removeIf(r -> r.listener == listener)) {
+                this.setTable(direction, new DispatchTable(registrations));
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes every registered listener from both directions.
+     */
+    public final synchronized void clearListeners() {
+        this.inbound = DispatchTable.EMPTY;
+        this.outbound = DispatchTable.EMPTY;
+    }
+
+    /**
+     * Checks whether any listeners are registered for the given direction.
+     *
+     * @param direction the {@link PacketDirection} to check
+     * @return {@code true} if at least one listener is registered
+     */
+    public final boolean hasListeners(@NotNull PacketDirection direction) {
+        return !this.getTable(direction).registrations.isEmpty();
+    }
+
+    /**
+     * Registers a listener invoked after chunk data is sent to a player.
+     * <p>
+     * Chunk packets differ between versions (and 1.8 also batches chunks), so this
+     * provides a version-independent hook reporting each chunk's coordinates.
+     * See {@link ChunkSendListener} for threading details.
+     * </p>
+     *
+     * @param listener the {@link ChunkSendListener} to invoke
+     * @return the same listener (for use with {@link #removeChunkSendListener(ChunkSendListener)})
+     */
+    @NotNull
+    public final ChunkSendListener addChunkSendListener(@NotNull ChunkSendListener listener) {
+        this.chunkListeners.add(listener);
+        return listener;
+    }
+
+    /**
+     * Removes a previously registered chunk send listener.
+     *
+     * @param listener the {@link ChunkSendListener} to remove
+     * @return {@code true} if the listener was registered and has been removed
+     */
+    public final boolean removeChunkSendListener(@NotNull ChunkSendListener listener) {
+        return this.chunkListeners.remove(listener);
+    }
+
+    // ------------------------------------------------------------ //
+    //                           Dispatch                           //
+    // ------------------------------------------------------------ //
+
+    /**
+     * Runs all listeners registered for the packet's class.
+     * <p>
+     * Called by the version-specific channel handler on the Netty event loop.
+     * Exceptions thrown by listeners are logged and the packet continues unchanged,
+     * so a faulty listener cannot disconnect the player.
+     * </p>
+     *
+     * @param player the {@link Player} owning the channel
+     * @param direction the {@link PacketDirection} of the packet
+     * @param packet the raw NMS packet object
+     * @return the packet to forward, or {@code null} if it should be dropped
+     */
+    @Nullable
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public final Object dispatch(@NotNull Player player, @NotNull PacketDirection direction, @NotNull Object packet) {
+        PacketListener[] listeners = this.getTable(direction).resolve(packet.getClass());
+        Object current = packet;
+        for (PacketListener listener : listeners) {
+            try {
+                Object result = listener.onPacket(player, current);
+                if (result == null) {
+                    return null;
+                }
+                current = result;
+            } catch (Throwable t) {
+                Logger.severe("Packet listener failed on " + packet.getClass().getSimpleName() + " for " + player.getName() + ": " + t.getMessage());
+                t.printStackTrace();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * @return {@code true} if any chunk send listeners are registered
+     */
+    protected final boolean hasChunkSendListeners() {
+        return !this.chunkListeners.isEmpty();
+    }
+
+    /**
+     * Notifies chunk send listeners that a chunk was sent to a player.
+     * <p>
+     * Called by the version-specific channel handler after a chunk packet has been written.
+     * Exceptions thrown by listeners are logged.
+     * </p>
+     *
+     * @param player the {@link Player} receiving the chunk
+     * @param chunkX the chunk x coordinate
+     * @param chunkZ the chunk z coordinate
+     */
+    protected final void fireChunkSent(@NotNull Player player, int chunkX, int chunkZ) {
+        for (ChunkSendListener listener : this.chunkListeners) {
+            try {
+                listener.onChunkSent(player, chunkX, chunkZ);
+            } catch (Throwable t) {
+                Logger.severe("Chunk send listener failed for " + player.getName() + ": " + t.getMessage());
+                t.printStackTrace();
+            }
+        }
+    }
+
+    @NotNull
+    private DispatchTable getTable(@NotNull PacketDirection direction) {
+        return (direction == PacketDirection.INBOUND) ? this.inbound : this.outbound;
+    }
+
+    private void setTable(@NotNull PacketDirection direction, @NotNull DispatchTable table) {
+        if (direction == PacketDirection.INBOUND) {
+            this.inbound = table;
+        } else {
+            this.outbound = table;
+        }
+    }
+
+    private record Registration(@NotNull Class<?> packetClass, @NotNull PacketListener<?> listener) {}
+
+    /**
+     * Immutable set of registrations plus a lazily filled class-to-listener cache.
+     * A new table is created on every registration change, so the cache never goes stale.
+     */
+    private static final class DispatchTable {
+        private static final PacketListener<?>[] NONE = new PacketListener<?>[0];
+        private static final DispatchTable EMPTY = new DispatchTable(List.of());
+
+        private final @NotNull List<Registration> registrations;
+        private final @NotNull Map<Class<?>, PacketListener<?>[]> byClass = new ConcurrentHashMap<>();
+
+        private DispatchTable(@NotNull List<Registration> registrations) {
+            this.registrations = List.copyOf(registrations);
+        }
+
+        @NotNull
+        private PacketListener<?>[] resolve(@NotNull Class<?> packetClass) {
+            if (this.registrations.isEmpty()) {
+                return NONE;
+            }
+            PacketListener<?>[] cached = this.byClass.get(packetClass);
+            if (cached != null) {
+                return cached;
+            }
+            return this.byClass.computeIfAbsent(packetClass, this::compute);
+        }
+
+        @NotNull
+        private PacketListener<?>[] compute(@NotNull Class<?> packetClass) {
+            List<PacketListener<?>> matches = new ArrayList<>();
+            for (Registration registration : this.registrations) {
+                if (registration.packetClass.isAssignableFrom(packetClass)) {
+                    matches.add(registration.listener);
+                }
+            }
+            return matches.isEmpty() ? NONE : matches.toArray(NONE);
+        }
+    }
+}
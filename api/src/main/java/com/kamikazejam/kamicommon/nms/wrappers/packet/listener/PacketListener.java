@@ -0,0 +1,46 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.listener;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Callback for observing or rewriting packets of a specific NMS packet type.
+ * <p>
+ * Listeners are registered with a {@link PacketInterceptor} for a single packet
+ * class and {@link PacketDirection}. They are invoked directly on the player's
+ * Netty event loop thread, <strong>not</strong> the server main thread. Implementations
+ * must therefore be thread-safe and must not call Bukkit APIs that require the main thread.
+ * </p>
+ * <p>
+ * The return value controls what happens to the packet:
+ * <ul>
+ * <li>Return the same {@code packet} instance to let it continue unchanged</li>
+ * <li>Return a different instance of the same type to rewrite the packet</li>
+ * <li>Return {@code null} to drop the packet entirely</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * interceptor.addListener(PacketDirection.OUTBOUND, ClientboundSetTimePacket.class, (player, packet) -> {
+ *     // Hide the real world time from this player
+ *     return frozenPlayers.contains(player.getUniqueId()) ? null : packet;
+ * });
+ * }</pre>
+ * </p>
+ *
+ * @param <T> the NMS packet type handled by this listener
+ */
+@FunctionalInterface
+public interface PacketListener<T> {
+    /**
+     * Handles a packet travelling through the player's channel.
+     *
+     * @param player the {@link Player} whose channel the packet is travelling through
+     * @param packet the raw NMS packet object
+     * @return the packet to forward (possibly a replacement), or {@code null} to drop it
+     */
+    @Nullable
+    T onPacket(@NotNull Player player, @NotNull T packet);
+}
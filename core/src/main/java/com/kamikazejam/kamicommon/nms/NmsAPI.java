@@ -21,10 +21,13 @@ import com.kamikazejam.kamicommon.nms.provider.MessageManagerProvider;
 import com.kamikazejam.kamicommon.nms.provider.NmsItemProvider;
 import com.kamikazejam.kamicommon.nms.provider.PacketHandlerProvider;
 import com.kamikazejam.kamicommon.nms.provider.TeleportProvider;
+import com.kamikazejam.kamicommon.nms.provider.VersionedComponentFactoryProvider;
 import com.kamikazejam.kamicommon.nms.serializer.VersionedComponentSerializer;
 import com.kamikazejam.kamicommon.nms.text.ComponentLoggerAdapter;
+import com.kamikazejam.kamicommon.nms.text.VersionedComponentFactory;
 import com.kamikazejam.kamicommon.nms.wrapper.NMSWorldWrapper;
 import com.kamikazejam.kamicommon.nms.wrappers.packet.NMSPacketHandler;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.listener.PacketInterceptor;
 import com.kamikazejam.kamicommon.nms.wrappers.world.NMSWorld;
 import lombok.Getter;
 import org.bukkit.ChatColor;
@@ -136,6 +139,9 @@ public class NmsAPI {
     /** Provider for the server's component logging method. */
     @Getter private static final ComponentLoggerAdapterProvider componentLoggerAdapterProvider = new ComponentLoggerAdapterProvider();
 
+    /** Provider for the version-specific {@link VersionedComponentFactory}. */
+    @Getter private static final VersionedComponentFactoryProvider versionedComponentFactoryProvider = new VersionedComponentFactoryProvider();
+
     /** Wrappers for adventure text components. */
     @Getter private static final VersionedComponentSerializer versionedComponentSerializer = new VersionedComponentSerializer();
 
@@ -265,6 +271,20 @@ public class NmsAPI {
      */
     public static NMSPacketHandler getPacketHandler() { return packetHandlerProvider.get(); }
 
+    /**
+     * Retrieves the version-appropriate packet interceptor.
+     * <p>
+     * The interceptor injects into each player's Netty pipeline and dispatches inbound
+     * and outbound packets to registered listeners on the network thread. It must be
+     * registered as a Bukkit listener by the consuming plugin to inject joining players.
+     * </p>
+     *
+     * @return the {@link PacketInterceptor} for the current Minecraft version
+     */
+    public static PacketInterceptor getPacketInterceptor() {
+        return packetHandlerProvider.get().getPacketInterceptor();
+    }
+
     /**
      * Retrieves the version-appropriate command map modifier implementation.
      * <p>
@@ -284,6 +304,17 @@ public class NmsAPI {
      */
     public static ComponentLoggerAdapter getComponentLoggerAdapter() { return componentLoggerAdapterProvider.get(); }
 
+    /**
+     * Retrieves the version-appropriate factory for {@link com.kamikazejam.kamicommon.nms.text.VersionedComponent}s.
+     * <p>
+     * Most callers should use {@link #getVersionedComponentSerializer()} or
+     * {@link com.kamikazejam.kamicommon.nms.util.VersionedComponentUtil} instead, which delegate to this factory.
+     * </p>
+     *
+     * @return the {@link VersionedComponentFactory} for the current Minecraft version
+     */
+    public static VersionedComponentFactory getVersionedComponentFactory() { return versionedComponentFactoryProvider.get(); }
+
     // Hand Management Methods
     
     /**
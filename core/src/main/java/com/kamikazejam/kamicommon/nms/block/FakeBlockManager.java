@@ -0,0 +1,323 @@
+package com.kamikazejam.kamicommon.nms.block;
+
+import com.kamikazejam.kamicommon.nms.NmsAPI;
+import com.kamikazejam.kamicommon.nms.util.data.BlockPosKey;
+import com.kamikazejam.kamicommon.nms.util.data.XBlockData;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.NMSPacket;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.NMSPacketHandler;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.listener.ChunkSendListener;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.listener.PacketInterceptor;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-player fake block overrides sent with block change packets.
+ * <p>
+ * Fake blocks are only visible to the player they are sent to and never modify the
+ * server world. Unlike {@code Player#sendBlockChange}, this manager:
+ * <ul>
+ * <li>Batches many blocks into one multi block change packet per chunk (or chunk section)</li>
+ * <li>Remembers each player's overrides in a compact map keyed by chunk and
+ *     {@link BlockPosKey packed position}</li>
+ * <li>Reapplies a chunk's overrides right after the chunk is resent to the player,
+ *     so overrides survive chunk reloads and view distance changes</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Overrides are scoped to the player's current world and are dropped when the player
+ * changes world or quits. Each override's native block state is resolved once when it is
+ * registered, so reapplying a chunk on the Netty thread only builds packets from those states.
+ * Reapplying on chunk resend requires the {@link PacketInterceptor} to be registered (see {@link #start(Plugin)}).
+ * </p>
+ * <p>
+ * <strong>Threading:</strong> Overrides must be sent from the server main thread.
+ * </p>
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * FakeBlockManager fakeBlocks = new FakeBlockManager();
+ * fakeBlocks.start(plugin);
+ *
+ * Map<Long, XBlockData> border = new HashMap<>();
+ * for (int x = minX; x <= maxX; x++) {
+ *     border.put(BlockPosKey.pack(x, y, minZ), new XBlockData(XMaterial.RED_STAINED_GLASS));
+ * }
+ * fakeBlocks.sendFakeBlocks(player, border);
+ *
+ * // Later, restore the real blocks
+ * fakeBlocks.clearFakeBlocks(player);
+ * }</pre>
+ * </p>
+ */
+@SuppressWarnings({"unused", "UnusedReturnValue"})
+public class FakeBlockManager implements Listener {
+    private final @NotNull NMSPacketHandler packetHandler;
+    private final @NotNull Map<UUID, PlayerOverrides> overrides = new ConcurrentHashMap<>();
+    private final @NotNull ChunkSendListener chunkListener = this::onChunkSent;
+    private @Nullable PacketInterceptor interceptor = null;
+
+    /**
+     * Creates a manager using the server's {@link NmsAPI#getPacketHandler() packet handler}.
+     */
+    public FakeBlockManager() {
+        this(NmsAPI.getPacketHandler());
+    }
+
+    /**
+     * @param packetHandler the {@link NMSPacketHandler} used to create and send packets
+     */
+    public FakeBlockManager(@NotNull NMSPacketHandler packetHandler) {
+        this.packetHandler = packetHandler;
+    }
+
+    // ------------------------------------------------------------ //
+    //                          Lifecycle                           //
+    // ------------------------------------------------------------ //
+
+    /**
+     * Registers this manager as a listener and hooks chunk sends on the packet interceptor.
+     * <p>
+     * The {@link PacketInterceptor} must also be registered by the plugin (see its docs)
+     * for overrides to be reapplied on chunk resend.
+     * </p>
+     *
+     * @param plugin the {@link Plugin} owning the listener
+     */
+    public void start(@NotNull Plugin plugin) {
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        this.interceptor = this.packetHandler.getPacketInterceptor();
+        this.interceptor.addChunkSendListener(this.chunkListener);
+    }
+
+    /**
+     * Unregisters this manager and restores the real blocks for every player with overrides.
+     */
+    public void stop() {
+        HandlerList.unregisterAll(this);
+        if (this.interceptor != null) {
+            this.interceptor.removeChunkSendListener(this.chunkListener);
+            this.interceptor = null;
+        }
+        for (UUID uuid : new ArrayList<>(this.overrides.keySet())) {
+            @Nullable Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                this.clearFakeBlocks(player);
+            }
+        }
+        this.overrides.clear();
+    }
+
+    /**
+     * @hidden
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public final void onQuit(@NotNull PlayerQuitEvent event) {
+        this.overrides.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * @hidden
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public final void onWorldChange(@NotNull PlayerChangedWorldEvent event) {
+        // The client discards the old world's chunks, so the overrides no longer apply
+        this.overrides.remove(event.getPlayer().getUniqueId());
+    }
+
+    // ------------------------------------------------------------ //
+    //                          Overrides                           //
+    // ------------------------------------------------------------ //
+
+    /**
+     * Shows a fake block to a player and remembers it until cleared.
+     *
+     * @param player the {@link Player} to show the block to
+     * @param x the block x coordinate
+     * @param y the block y coordinate
+     * @param z the block z coordinate
+     * @param blockData the {@link XBlockData} to show
+     */
+    public void sendFakeBlock(@NotNull Player player, int x, int y, int z, @NotNull XBlockData blockData) {
+        long key = BlockPosKey.pack(x, y, z);
+        Object state = this.packetHandler.resolveBlockState(x, y, z, blockData);
+        this.getOrCreate(player).put(key, new FakeBlock(blockData, state));
+        this.sendAll(player, Collections.singletonMap(key, state));
+    }
+
+    /**
+     * Shows many fake blocks to a player, batched into one packet per chunk (or chunk section).
+     *
+     * @param player the {@link Player} to show the blocks to
+     * @param blocks the blocks to show, keyed by {@link BlockPosKey#pack(int, int, int) packed position}
+     */
+    public void sendFakeBlocks(@NotNull Player player, @NotNull Map<Long, XBlockData> blocks) {
+        if (blocks.isEmpty()) { return; }
+        PlayerOverrides playerOverrides = this.getOrCreate(player);
+        Map<Long, Object> states = new HashMap<>(blocks.size());
+        for (Map.Entry<Long, XBlockData> entry : blocks.entrySet()) {
+            long key = entry.getKey();
+            Object state = this.packetHandler.resolveBlockState(BlockPosKey.getX(key), BlockPosKey.getY(key), BlockPosKey.getZ(key), entry.getValue());
+            playerOverrides.put(key, new FakeBlock(entry.getValue(), state));
+            states.put(key, state);
+        }
+        this.sendAll(player, states);
+    }
+
+    /**
+     * Retrieves the fake block currently shown to a player at a position.
+     *
+     * @param player the {@link Player} to check
+     * @param x the block x coordinate
+     * @param y the block y coordinate
+     * @param z the block z coordinate
+     * @return the override, or {@code null} if the player sees the real block
+     */
+    @Nullable
+    public XBlockData getFakeBlock(@NotNull Player player, int x, int y, int z) {
+        @Nullable PlayerOverrides playerOverrides = this.overrides.get(player.getUniqueId());
+        return (playerOverrides == null) ? null : playerOverrides.get(BlockPosKey.pack(x, y, z));
+    }
+
+    /**
+     * Removes a fake block and resends the real block to the player.
+     *
+     * @param player the {@link Player} to restore the block for
+     * @param x the block x coordinate
+     * @param y the block y coordinate
+     * @param z the block z coordinate
+     * @return {@code true} if an override existed and was removed
+     */
+    public boolean clearFakeBlock(@NotNull Player player, int x, int y, int z) {
+        @Nullable PlayerOverrides playerOverrides = this.overrides.get(player.getUniqueId());
+        if (playerOverrides == null || !playerOverrides.remove(BlockPosKey.pack(x, y, z))) {
+            return false;
+        }
+        NmsAPI.getNMSWorld(player.getWorld()).refreshBlockAt(player, x, y, z);
+        return true;
+    }
+
+    /**
+     * Removes all of a player's fake blocks and resends the real blocks.
+     *
+     * @param player the {@link Player} to restore blocks for
+     */
+    public void clearFakeBlocks(@NotNull Player player) {
+        @Nullable PlayerOverrides playerOverrides = this.overrides.remove(player.getUniqueId());
+        if (playerOverrides == null) { return; }
+        World world = player.getWorld();
+        for (long key : playerOverrides.keys()) {
+            NmsAPI.getNMSWorld(world).refreshBlockAt(player, BlockPosKey.getX(key), BlockPosKey.getY(key), BlockPosKey.getZ(key));
+        }
+    }
+
+    /**
+     * @param player the {@link Player} to check
+     * @return the number of fake blocks currently tracked for the player
+     */
+    public int getFakeBlockCount(@NotNull Player player) {
+        @Nullable PlayerOverrides playerOverrides = this.overrides.get(player.getUniqueId());
+        return (playerOverrides == null) ? 0 : playerOverrides.size();
+    }
+
+    // ------------------------------------------------------------ //
+    //                           Internal                           //
+    // ------------------------------------------------------------ //
+
+    // Runs on the player's Netty event loop, right after the chunk was written, so it only reads resolved states
+    private void onChunkSent(@NotNull Player player, int chunkX, int chunkZ) {
+        @Nullable PlayerOverrides playerOverrides = this.overrides.get(player.getUniqueId());
+        if (playerOverrides == null) { return; }
+        Map<Long, Object> chunk = playerOverrides.snapshotChunk(BlockPosKey.chunkKey(chunkX, chunkZ));
+        if (!chunk.isEmpty()) {
+            this.sendAll(player, chunk);
+        }
+    }
+
+    private void sendAll(@NotNull Player player, @NotNull Map<Long, Object> states) {
+        for (NMSPacket packet : this.packetHandler.createResolvedBlockChangePackets(states)) {
+            this.packetHandler.sendPacket(player, packet);
+        }
+    }
+
+    @NotNull
+    private PlayerOverrides getOrCreate(@NotNull Player player) {
+        return this.overrides.computeIfAbsent(player.getUniqueId(), k -> new PlayerOverrides());
+    }
+
+    /**
+     * A single player's overrides, grouped by chunk so a chunk resend only touches its own blocks.
+     * Guarded by its own monitor since chunk resends are handled on the Netty thread.
+     */
+    private static final class PlayerOverrides {
+        private final @NotNull Map<Long, Map<Long, FakeBlock>> byChunk = new HashMap<>();
+        private int size = 0;
+
+        private synchronized void put(long key, @NotNull FakeBlock block) {
+            if (this.byChunk.computeIfAbsent(BlockPosKey.getChunkKey(key), k -> new HashMap<>()).put(key, block) == null) {
+                this.size++;
+            }
+        }
+
+        @Nullable
+        private synchronized XBlockData get(long key) {
+            @Nullable Map<Long, FakeBlock> chunk = this.byChunk.get(BlockPosKey.getChunkKey(key));
+            @Nullable FakeBlock block = (chunk == null) ? null : chunk.get(key);
+            return (block == null) ? null : block.blockData;
+        }
+
+        private synchronized boolean remove(long key) {
+            long chunkKey = BlockPosKey.getChunkKey(key);
+            @Nullable Map<Long, FakeBlock> chunk = this.byChunk.get(chunkKey);
+            if (chunk == null || chunk.remove(key) == null) {
+                return false;
+            }
+            if (chunk.isEmpty()) {
+                this.byChunk.remove(chunkKey);
+            }
+            this.size--;
+            return true;
+        }
+
+        @NotNull
+        private synchronized Map<Long, Object> snapshotChunk(long chunkKey) {
+            @Nullable Map<Long, FakeBlock> chunk = this.byChunk.get(chunkKey);
+            if (chunk == null) { return Collections.emptyMap(); }
+            Map<Long, Object> states = new HashMap<>(chunk.size());
+            for (Map.Entry<Long, FakeBlock> entry : chunk.entrySet()) {
+                states.put(entry.getKey(), entry.getValue().state);
+            }
+            return states;
+        }
+
+        @NotNull
+        private synchronized List<Long> keys() {
+            List<Long> keys = new ArrayList<>(this.size);
+            for (Map<Long, FakeBlock> chunk : this.byChunk.values()) {
+                keys.addAll(chunk.keySet());
+            }
+            return keys;
+        }
+
+        private synchronized int size() {
+            return this.size;
+        }
+    }
+
+    /**
+     * An override together with its native block state, resolved on the main thread when registered.
+     */
+    private record FakeBlock(@NotNull XBlockData blockData, @NotNull Object state) {}
+}
@@ -0,0 +1,70 @@
+package com.kamikazejam.kamicommon.nms.item;
+
+import com.kamikazejam.kamicommon.nms.abstraction.item.NmsItemMethods;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Caching {@link NmsItemMethods} wrapped around the version-specific implementation.
+ * <p>
+ * The name of an item without meta only depends on its material and data value (the
+ * durability before 1.13), so it is resolved once and remembered. Items with meta, whose
+ * name may depend on it (i.e. potions or player heads), always go to the delegate.
+ * </p>
+ * <p>
+ * Failures of the delegate (i.e. {@link UnsupportedOperationException} on 1.13 - 1.16) are
+ * thrown as before and never cached.
+ * </p>
+ *
+ * @hidden
+ */
+public final class CachedNmsItemMethods implements NmsItemMethods {
+    private final @NotNull NmsItemMethods delegate;
+    // Names of data value 0 by material ordinal, the common case, looked up without a key object
+    private final @NotNull AtomicReferenceArray<String> names = new AtomicReferenceArray<>(Material.values().length);
+    // Names of other data values (pre-1.13 only), keyed by (ordinal << 16 | data)
+    private final @NotNull Map<Integer, String> dataNames = new ConcurrentHashMap<>();
+
+    public CachedNmsItemMethods(@NotNull NmsItemMethods delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public @NotNull String getI18NItemName(@NotNull ItemStack item) {
+        if (item.hasItemMeta()) {
+            return this.delegate.getI18NItemName(item);
+        }
+
+        int ordinal = item.getType().ordinal();
+        short data = item.getDurability();
+        if (data == 0) {
+            @Nullable String name = this.names.get(ordinal);
+            if (name == null) {
+                name = this.delegate.getI18NItemName(item);
+                this.names.set(ordinal, name);
+            }
+            return name;
+        }
+
+        Integer key = (ordinal << 16) | (data & 0xFFFF);
+        @Nullable String name = this.dataNames.get(key);
+        if (name == null) {
+            name = this.delegate.getI18NItemName(item);
+            this.dataNames.put(key, name);
+        }
+        return name;
+    }
+
+    @Override
+    public @NotNull String getI18NItemName(@NotNull Material material) {
+        @Nullable String name = this.names.get(material.ordinal());
+        return (name != null) ? name : this.getI18NItemName(new ItemStack(material));
+    }
+}
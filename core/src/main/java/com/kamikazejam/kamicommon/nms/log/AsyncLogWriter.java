@@ -0,0 +1,201 @@
+package com.kamikazejam.kamicommon.nms.log;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.logging.Level;
+
+/**
+ * Background writer for an asynchronous {@link ComponentLogger}.
+ * <p>
+ * Messages are published into a bounded lock-free ring buffer (many producers, one consumer)
+ * and written in batches by a single daemon thread, so logging threads only pay for a few
+ * atomic operations. Messages from one thread are written in the order they were logged.
+ * </p>
+ */
+final class AsyncLogWriter {
+    private static final int BATCH_SIZE = 256;
+    private static final long IDLE_PARK_NANOS = 50_000_000L;
+
+    private final int mask;
+    // sequence == position: free for the producer claiming it, position + 1: published for the consumer
+    private final @NotNull AtomicLongArray sequences;
+    private final @NotNull Object[] messages;
+    private final @NotNull Level[] levels;
+    private final @NotNull AtomicLong tail = new AtomicLong();
+    private long head = 0; // consumer thread only
+
+    private final @NotNull OverflowPolicy policy;
+    private final @NotNull BiConsumer<Object, Level> sink;
+    private final @NotNull LongAdder dropped = new LongAdder();
+    private final @NotNull Thread thread;
+    // Producers between their running check and the end of their publish, shutdown waits for them
+    private final @NotNull AtomicInteger inFlight = new AtomicInteger();
+    private volatile boolean running = true;
+    private volatile boolean idle = false;
+
+    AsyncLogWriter(@NotNull String name, int capacity, @NotNull OverflowPolicy policy, @NotNull BiConsumer<Object, Level> sink) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive (capacity: " + capacity + ")");
+        }
+        int size = (capacity == 1) ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            this.sequences.set(i, i);
+        }
+        this.messages = new Object[size];
+        this.levels = new Level[size];
+        this.policy = policy;
+        this.sink = sink;
+
+        this.thread = new Thread(this::run, name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Queues a message, applying the {@link OverflowPolicy} if the buffer is full.
+     */
+    void log(@NotNull Object message, @NotNull Level level) {
+        // Logging from the writer itself (e.g. inside the sink) must not wait on its own buffer
+        if (Thread.currentThread() == this.thread) {
+            this.sink.accept(message, level);
+            return;
+        }
+
+        // Registering before checking running means shutdown either sees us in flight or we see it stopping
+        this.inFlight.incrementAndGet();
+        try {
+            if (!this.running) {
+                this.sink.accept(message, level);
+                return;
+            }
+
+            int spins = 0;
+            while (!this.offer(message, level)) {
+                if (this.policy == OverflowPolicy.DROP || (this.policy == OverflowPolicy.DROP_DEBUG && level == Level.FINE)) {
+                    this.dropped.increment();
+                    return;
+                }
+                LockSupport.unpark(this.thread);
+                if (++spins < 64) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(this, 100_000L);
+                }
+                if (!this.running) {
+                    this.sink.accept(message, level);
+                    return;
+                }
+            }
+            if (this.idle) {
+                LockSupport.unpark(this.thread);
+            }
+        } finally {
+            this.inFlight.decrementAndGet();
+        }
+    }
+
+    private boolean offer(@NotNull Object message, @NotNull Level level) {
+        long pos = this.tail.get();
+        while (true) {
+            int index = (int) (pos & this.mask);
+            long diff = this.sequences.get(index) - pos;
+            if (diff == 0) {
+                if (this.tail.compareAndSet(pos, pos + 1)) {
+                    this.messages[index] = message;
+                    this.levels[index] = level;
+                    this.sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = this.tail.get();
+            } else if (diff < 0) {
+                // The slot still holds a message from the previous lap, the buffer is full
+                return false;
+            } else {
+                pos = this.tail.get();
+            }
+        }
+    }
+
+    // Consumer thread only
+    private int drain() {
+        int count = 0;
+        while (count < BATCH_SIZE) {
+            int index = (int) (this.head & this.mask);
+            if (this.sequences.get(index) != this.head + 1) { break; }
+
+            Object message = this.messages[index];
+            Level level = this.levels[index];
+            this.messages[index] = null;
+            this.levels[index] = null;
+            this.sequences.set(index, this.head + this.mask + 1);
+            this.head++;
+            count++;
+
+            try {
+                this.sink.accept(message, level);
+            } catch (Throwable t) {
+                // Never let one bad message kill the writer
+                t.printStackTrace();
+            }
+        }
+        return count;
+    }
+
+    private boolean isEmpty() {
+        return this.sequences.get((int) (this.head & this.mask)) != this.head + 1;
+    }
+
+    private void run() {
+        while (true) {
+            if (this.drain() > 0) { continue; }
+            if (!this.running) { break; }
+
+            // Publish that we are idle before the final emptiness check, producers unpark us after publishing
+            this.idle = true;
+            if (this.isEmpty() && this.running) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            this.idle = false;
+        }
+    }
+
+    /**
+     * Stops the writer after every queued message has been written.
+     * Messages logged afterward are written synchronously by the caller.
+     */
+    void shutdown() {
+        this.running = false;
+        LockSupport.unpark(this.thread);
+        if (Thread.currentThread() == this.thread) { return; }
+        try {
+            this.thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        // Producers which saw the writer running may still be publishing, wait until their messages are in the buffer
+        while (this.inFlight.get() > 0) {
+            Thread.onSpinWait();
+        }
+        // The writer has exited, so the consumer side is ours: write anything published while it was stopping
+        int written;
+        do {
+            written = this.drain();
+        } while (written > 0);
+    }
+
+    /**
+     * @return the number of messages dropped by the {@link OverflowPolicy}
+     */
+    long getDropped() {
+        return this.dropped.sum();
+    }
+}
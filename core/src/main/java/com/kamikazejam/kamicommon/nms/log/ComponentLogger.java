@@ -6,6 +6,7 @@ import com.kamikazejam.kamicommon.nms.text.VersionedComponent;
 import com.kamikazejam.kamicommon.util.LegacyColors;
 import com.kamikazejam.kamicommon.util.Preconditions;
 import com.kamikazejam.kamicommon.util.log.LoggerService;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
@@ -13,23 +14,38 @@ import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 /**
  * A simple logger service for a specific plugin, providing additional support for sending components to the console.
+ * <p>
+ * By default messages are parsed and written on the calling thread. {@link #enableAsync(int, OverflowPolicy)}
+ * switches to an asynchronous mode where messages are queued into a lock-free ring buffer and parsed,
+ * prefixed and written in batches by a background thread, keeping console output off the main thread.
+ * Call {@link #disableAsync()} (e.g. in {@code onDisable}) to flush and stop the background thread.
+ * </p>
  */
 @SuppressWarnings("unused")
 @Getter @Accessors(chain = true)
 public class ComponentLogger extends LoggerService {
     private final @NotNull Plugin plugin;
-    @Setter
     private boolean debug = false;
+    private @NotNull Level minimumLevel = Level.ALL;
+    // Lowest Level#intValue() that is logged, derived from debug and minimumLevel
+    @Getter(AccessLevel.NONE)
+    private volatile int threshold = Level.FINE.intValue() + 1;
+    // Level#intValue() of minimumLevel, the only gate of the direct logToConsole methods
+    @Getter(AccessLevel.NONE)
+    private volatile int minimum = Level.ALL.intValue();
     @Setter
     private boolean translateLegacyAmpersandColors  = true;
     @Setter
     private boolean parseLegacySectionColors = true;
     @Setter
     private @Nullable VersionedComponent messagePrefix = null;
+    @Getter(AccessLevel.NONE)
+    private volatile @Nullable AsyncLogWriter asyncWriter = null;
     public ComponentLogger(@NotNull Plugin plugin) {
         Preconditions.checkNotNull(plugin, "plugin cannot be null");
         this.plugin = plugin;
@@ -45,6 +61,122 @@ public class ComponentLogger extends LoggerService {
         return debug;
     }
 
+    /**
+     * Enables or disables debug ({@link Level#FINE}) messages.
+     *
+     * @return this logger
+     */
+    @NotNull
+    public ComponentLogger setDebug(boolean debug) {
+        this.debug = debug;
+        this.updateThreshold();
+        return this;
+    }
+
+    /**
+     * Sets the lowest {@link Level} this logger writes. Messages below it are discarded before their
+     * text is built or parsed. Debug messages additionally require {@link #isDebug()}.
+     * <p>
+     * The debug requirement only applies to the {@code debug} methods and the level-checked lazy
+     * methods ({@link #log(Level, Supplier)} and {@link #log(Level, String, Object...)}). Calling
+     * {@link #logToConsole(VersionedComponent, Level)} directly writes {@link Level#FINE} messages
+     * regardless of debug mode, as long as they pass the minimum level.
+     * </p>
+     *
+     * @param minimumLevel the lowest {@link Level} to log (defaults to {@link Level#ALL})
+     * @return this logger
+     */
+    @NotNull
+    public ComponentLogger setMinimumLevel(@NotNull Level minimumLevel) {
+        Preconditions.checkNotNull(minimumLevel, "minimumLevel cannot be null");
+        this.minimumLevel = minimumLevel;
+        this.minimum = minimumLevel.intValue();
+        this.updateThreshold();
+        return this;
+    }
+
+    private void updateThreshold() {
+        int min = this.minimumLevel.intValue();
+        // FINE and below are only logged in debug mode
+        this.threshold = this.debug ? min : Math.max(min, Level.FINE.intValue() + 1);
+    }
+
+    /**
+     * Checks whether a message at the given level would be logged, taking both {@link #isDebug()}
+     * and {@link #getMinimumLevel()} into account. This is a single integer comparison.
+     *
+     * @param level the {@link Level} to check
+     * @return {@code true} if messages at this level are logged
+     */
+    public boolean isLoggable(@NotNull Level level) {
+        return level.intValue() >= this.threshold;
+    }
+
+    // ------------------------------------------------------------ //
+    //                         Async Logging                        //
+    // ------------------------------------------------------------ //
+    /**
+     * Switches this logger to asynchronous mode.
+     * <p>
+     * Logging calls then only queue the message; parsing legacy strings, appending the
+     * {@link #getMessagePrefix() prefix} and writing to the console all happen on a background
+     * thread, in batches. Messages logged from the same thread keep their order. If messages
+     * are logged faster than they can be written, the buffer fills up and the {@link OverflowPolicy}
+     * decides whether to wait for space or drop the message.
+     * </p>
+     * <p>
+     * The {@link Throwable} overloads queue the throwable together with their message, so its stack
+     * trace is printed by the background thread right after the message. Calling this while already asynchronous replaces the previous writer after flushing it.
+     * </p>
+     *
+     * @param capacity the number of messages the buffer holds (rounded up to a power of two)
+     * @param policy the {@link OverflowPolicy} applied when the buffer is full
+     * @return this logger
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    @NotNull
+    public synchronized ComponentLogger enableAsync(int capacity, @NotNull OverflowPolicy policy) {
+        Preconditions.checkNotNull(policy, "policy cannot be null");
+        AsyncLogWriter writer = new AsyncLogWriter(this.getLoggerName() + " Async Logger", capacity, policy, this::write);
+        @Nullable AsyncLogWriter previous = this.asyncWriter;
+        this.asyncWriter = writer;
+        if (previous != null) {
+            previous.shutdown();
+        }
+        return this;
+    }
+
+    /**
+     * Switches this logger back to synchronous mode, waiting until every queued message has been written.
+     *
+     * @return this logger
+     */
+    @NotNull
+    public synchronized ComponentLogger disableAsync() {
+        @Nullable AsyncLogWriter writer = this.asyncWriter;
+        this.asyncWriter = null;
+        if (writer != null) {
+            writer.shutdown();
+        }
+        return this;
+    }
+
+    /**
+     * @return {@code true} if this logger writes messages on a background thread
+     */
+    public boolean isAsync() {
+        return this.asyncWriter != null;
+    }
+
+    /**
+     * @return the number of messages dropped by the {@link OverflowPolicy} of the current async writer,
+     * or {@code 0} if this logger is synchronous
+     */
+    public long getDroppedMessages() {
+        @Nullable AsyncLogWriter writer = this.asyncWriter;
+        return (writer != null) ? writer.getDropped() : 0;
+    }
+
     // ------------------------------------------------------------ //
     //    String Method Inherited from LoggerService (uncolored)    //
     // ------------------------------------------------------------ //
@@ -56,24 +188,35 @@ public class ComponentLogger extends LoggerService {
     public void logToConsole(@NotNull String message, @NotNull Level level) {
         Preconditions.checkNotNull(message, "message cannot be null");
         Preconditions.checkNotNull(level, "level cannot be null");
+        if (level.intValue() < this.minimum) { return; }
+
+        // Legacy parsing is deferred to the background thread in async mode
+        @Nullable AsyncLogWriter writer = this.asyncWriter;
+        if (writer != null) {
+            writer.log(message, level);
+        } else {
+            this.writeComponent(this.parseLegacy(message), level);
+        }
+    }
+
+    @NotNull
+    private VersionedComponent parseLegacy(@NotNull String message) {
         VersionedComponentSerializer serializer = NmsAPI.getVersionedComponentSerializer();
 
         // use plain text if color parsing is disabled
         if (!this.isParseLegacySectionColors()) {
-            this.logToConsole(serializer.fromPlainText(message), level);
-            return;
+            return serializer.fromPlainText(message);
         }
 
         // color parsing is enabled, but if ampersand translation is disabled
         if (!this.isTranslateLegacyAmpersandColors()) {
             // translate only section symbols
-            this.logToConsole(serializer.fromLegacySection(message), level);
-            return;
+            return serializer.fromLegacySection(message);
         }
 
         // color parsing is enabled, and ampersand translation is enabled
         // translate ampersands to section symbols first, then parse
-        this.logToConsole(serializer.fromLegacySection(LegacyColors.t(message)), level);
+        return serializer.fromLegacySection(LegacyColors.t(message));
     }
 
     // ------------------------------------------------------------ //
@@ -85,18 +228,16 @@ public class ComponentLogger extends LoggerService {
 
     @Override
     public void info(@NotNull Throwable throwable) {
-        logToConsole(NmsAPI.getVersionedComponentSerializer().fromPlainText(throwable.getMessage()), Level.INFO);
-        throwable.printStackTrace();
+        this.logFailure(NmsAPI.getVersionedComponentSerializer().fromPlainText(throwable.getMessage()), throwable, Level.INFO);
     }
 
     public void info(@NotNull Throwable throwable, @NotNull VersionedComponent message) {
         VersionedComponent suffix = NmsAPI.getVersionedComponentSerializer().fromPlainText(" - " + throwable.getMessage());
-        logToConsole(message.append(suffix), Level.INFO);
-        throwable.printStackTrace();
+        this.logFailure(message.append(suffix), throwable, Level.INFO);
     }
 
     public void debug(@NotNull VersionedComponent message) {
-        if (!isDebug()) {
+        if (!isLoggable(Level.FINE)) {
             return;
         }
         logToConsole(message, Level.FINE);
@@ -108,14 +249,12 @@ public class ComponentLogger extends LoggerService {
 
     @Override
     public void warn(@NotNull Throwable throwable) {
-        logToConsole(NmsAPI.getVersionedComponentSerializer().fromPlainText(throwable.getMessage()), Level.WARNING);
-        throwable.printStackTrace();
+        this.logFailure(NmsAPI.getVersionedComponentSerializer().fromPlainText(throwable.getMessage()), throwable, Level.WARNING);
     }
 
     public void warn(@NotNull Throwable throwable, @NotNull VersionedComponent message) {
         VersionedComponent suffix = NmsAPI.getVersionedComponentSerializer().fromPlainText(" - " + throwable.getMessage());
-        logToConsole(message.append(suffix), Level.WARNING);
-        throwable.printStackTrace();
+        this.logFailure(message.append(suffix), throwable, Level.WARNING);
     }
 
     public void warning(@NotNull VersionedComponent message) {
@@ -137,14 +276,12 @@ public class ComponentLogger extends LoggerService {
 
     @Override
     public void severe(@NotNull Throwable throwable) {
-        logToConsole(NmsAPI.getVersionedComponentSerializer().fromPlainText(throwable.getMessage()), Level.SEVERE);
-        throwable.printStackTrace();
+        this.logFailure(NmsAPI.getVersionedComponentSerializer().fromPlainText(throwable.getMessage()), throwable, Level.SEVERE);
     }
 
     public void severe(@NotNull Throwable throwable, @NotNull VersionedComponent message) {
         VersionedComponent suffix = NmsAPI.getVersionedComponentSerializer().fromPlainText(" - " + throwable.getMessage());
-        logToConsole(message.append(suffix), Level.SEVERE);
-        throwable.printStackTrace();
+        this.logFailure(message.append(suffix), throwable, Level.SEVERE);
     }
 
     public void error(@NotNull VersionedComponent message) {
@@ -162,7 +299,44 @@ public class ComponentLogger extends LoggerService {
     public void logToConsole(@NotNull VersionedComponent message, @NotNull Level level) {
         Preconditions.checkNotNull(message, "message cannot be null");
         Preconditions.checkNotNull(level, "level cannot be null");
+        if (level.intValue() < this.minimum) { return; }
+
+        @Nullable AsyncLogWriter writer = this.asyncWriter;
+        if (writer != null) {
+            writer.log(message, level);
+        } else {
+            this.writeComponent(message, level);
+        }
+    }
+
+    // Keeps the stack trace together with its message, in async mode both are written by the background thread
+    private void logFailure(@NotNull VersionedComponent message, @NotNull Throwable throwable, @NotNull Level level) {
+        if (level.intValue() < this.minimum) { return; }
+
+        Failure failure = new Failure(message, throwable);
+        @Nullable AsyncLogWriter writer = this.asyncWriter;
+        if (writer != null) {
+            writer.log(failure, level);
+        } else {
+            this.write(failure, level);
+        }
+    }
+
+    private record Failure(@NotNull VersionedComponent message, @NotNull Throwable throwable) {}
 
+    // Called by the async writer with the queued String, VersionedComponent or Failure
+    private void write(@NotNull Object message, @NotNull Level level) {
+        if (message instanceof String legacy) {
+            this.writeComponent(this.parseLegacy(legacy), level);
+        } else if (message instanceof Failure failure) {
+            this.writeComponent(failure.message(), level);
+            failure.throwable().printStackTrace();
+        } else {
+            this.writeComponent((VersionedComponent) message, level);
+        }
+    }
+
+    private void writeComponent(@NotNull VersionedComponent message, @NotNull Level level) {
         // Use the NMS logger adapter to send the component to the console
         if (this.messagePrefix != null) {
             NmsAPI.getComponentLoggerAdapter().log(this.plugin, this.messagePrefix.append(message), level);
@@ -171,6 +345,125 @@ public class ComponentLogger extends LoggerService {
         }
     }
 
+    // ------------------------------------------------------------ //
+    //          Lazy Methods (built only if level is enabled)        //
+    // ------------------------------------------------------------ //
+    /**
+     * Logs a message which is only built if the level is enabled.
+     * <p>
+     * Use this for messages which are expensive to build, so disabled log statements
+     * (most commonly debug output) cost only a level check:
+     * <pre>{@code
+     * logger.debug(() -> serializer.fromMiniMessage("<gray>Loaded " + describe(region)));
+     * }</pre>
+     * </p>
+     * The supplier is called on the logging thread, also in async mode.
+     *
+     * @param level the {@link Level} to log at
+     * @param message the supplier of the message, called at most once
+     */
+    public void log(@NotNull Level level, @NotNull Supplier<VersionedComponent> message) {
+        if (!this.isLoggable(level)) { return; }
+        this.logToConsole(message.get(), level);
+    }
+
+    /**
+     * Logs a legacy formatted message with {@code {}} placeholders, which is only formatted and parsed
+     * if the level is enabled.
+     * <p>
+     * Each {@code {}} is replaced by the next argument (via {@link String#valueOf(Object)}), then the
+     * result is parsed like {@link #logToConsole(String, Level)}. Placeholders are filled on the logging
+     * thread; in async mode the color parsing happens on the background thread.
+     * <pre>{@code
+     * logger.debug("&7Loaded {} regions in {}ms", count, time);
+     * }</pre>
+     * </p>
+     *
+     * @param level the {@link Level} to log at
+     * @param format the legacy message containing {@code {}} placeholders
+     * @param args the arguments to fill in
+     */
+    public void log(@NotNull Level level, @NotNull String format, @Nullable Object... args) {
+        if (!this.isLoggable(level)) { return; }
+        this.logToConsole(formatMessage(format, args), level);
+    }
+
+    public void debug(@NotNull Supplier<VersionedComponent> message) {
+        this.log(Level.FINE, message);
+    }
+
+    // Fixed arity overloads avoid the varargs array for the (mostly disabled) debug level
+    public void debug(@NotNull String format, @Nullable Object arg) {
+        if (!this.isLoggable(Level.FINE)) { return; }
+        this.logToConsole(formatMessage(format, arg), Level.FINE);
+    }
+
+    public void debug(@NotNull String format, @Nullable Object arg1, @Nullable Object arg2) {
+        if (!this.isLoggable(Level.FINE)) { return; }
+        this.logToConsole(formatMessage(format, arg1, arg2), Level.FINE);
+    }
+
+    public void debug(@NotNull String format, @Nullable Object... args) {
+        this.log(Level.FINE, format, args);
+    }
+
+    public void info(@NotNull Supplier<VersionedComponent> message) {
+        this.log(Level.INFO, message);
+    }
+
+    public void info(@NotNull String format, @Nullable Object... args) {
+        this.log(Level.INFO, format, args);
+    }
+
+    public void warn(@NotNull Supplier<VersionedComponent> message) {
+        this.log(Level.WARNING, message);
+    }
+
+    public void warn(@NotNull String format, @Nullable Object... args) {
+        this.log(Level.WARNING, format, args);
+    }
+
+    public void warning(@NotNull Supplier<VersionedComponent> message) {
+        this.warn(message);
+    }
+
+    public void warning(@NotNull String format, @Nullable Object... args) {
+        this.warn(format, args);
+    }
+
+    public void severe(@NotNull Supplier<VersionedComponent> message) {
+        this.log(Level.SEVERE, message);
+    }
+
+    public void severe(@NotNull String format, @Nullable Object... args) {
+        this.log(Level.SEVERE, format, args);
+    }
+
+    public void error(@NotNull Supplier<VersionedComponent> message) {
+        this.severe(message);
+    }
+
+    public void error(@NotNull String format, @Nullable Object... args) {
+        this.severe(format, args);
+    }
+
+    @NotNull
+    private static String formatMessage(@NotNull String format, @Nullable Object... args) {
+        if (args == null || args.length == 0) {
+            return format;
+        }
+        StringBuilder sb = new StringBuilder(format.length() + 16 * args.length);
+        int start = 0;
+        int arg = 0;
+        while (arg < args.length) {
+            int index = format.indexOf("{}", start);
+            if (index < 0) { break; }
+            sb.append(format, start, index).append(args[arg++]);
+            start = index + 2;
+        }
+        return sb.append(format, start, format.length()).toString();
+    }
+
     // ------------------------------------------------------------ //
     //  Deprecated String Methods (use VersionedComponent instead)  //
     // ------------------------------------------------------------ //
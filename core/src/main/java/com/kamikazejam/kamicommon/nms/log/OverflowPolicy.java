@@ -0,0 +1,29 @@
+package com.kamikazejam.kamicommon.nms.log;
+
+import java.util.logging.Level;
+
+/**
+ * Decides what an asynchronous {@link ComponentLogger} does with a new message when its buffer is full.
+ * <p>
+ * The buffer only fills up when messages are logged faster than the console can write them,
+ * typically during bursts of debug output. Blocking keeps every message at the cost of stalling
+ * the logging thread until the writer catches up, while dropping keeps the caller fast.
+ * </p>
+ *
+ * @see ComponentLogger#enableAsync(int, OverflowPolicy)
+ */
+@SuppressWarnings("unused")
+public enum OverflowPolicy {
+    /**
+     * Wait for space in the buffer. No message is ever lost.
+     */
+    BLOCK,
+    /**
+     * Drop debug ({@link Level#FINE}) messages, and wait for space for any other level.
+     */
+    DROP_DEBUG,
+    /**
+     * Drop the new message, whatever its level.
+     */
+    DROP,
+}
@@ -2,6 +2,7 @@ package com.kamikazejam.kamicommon.nms.provider;
 
 import com.kamikazejam.kamicommon.nms.abstraction.item.AbstractItemEditor;
 import com.kamikazejam.kamicommon.nms.item.ItemEditor_1_11_R1;
+import com.kamikazejam.kamicommon.nms.item.ItemEditor_1_13_R1;
 import com.kamikazejam.kamicommon.nms.item.ItemEditor_LATEST;
 import com.kamikazejam.kamicommon.nms.item.ItemEditor_1_8_R1;
 import org.jetbrains.annotations.NotNull;
@@ -19,6 +20,8 @@ import org.jetbrains.annotations.NotNull;
  * <ul>
  * <li><strong>1.8-1.10:</strong> Basic item metadata with limited unbreakable support</li>
  * <li><strong>1.11+:</strong> Enhanced item properties including proper unbreakable flags</li>
+ * <li><strong>1.13+:</strong> Damage stored in the item's NBT (accessed through the item stack without cloning its meta)</li>
+ * <li><strong>1.20.5+:</strong> Item data components, read and written directly on the NMS stack</li>
  * </ul>
  * </p>
  * <p>
@@ -58,7 +61,12 @@ public class ItemEditorProvider extends Provider<AbstractItemEditor> {
             return new ItemEditor_1_11_R1();
         }
 
-        // 1.13+ versions
+        if (ver < f("1.20.5")) {
+            // Pre data component versions (1.13 to 1.20.4)
+            return new ItemEditor_1_13_R1();
+        }
+
+        // 1.20.5+ versions
         return new ItemEditor_LATEST();
     }
 }
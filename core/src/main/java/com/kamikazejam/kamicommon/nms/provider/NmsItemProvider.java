@@ -26,6 +26,10 @@ import org.jetbrains.annotations.NotNull;
  * and other properties that are essential for plugins requiring deep item inspection
  * or compatibility with external systems expecting specific item identifiers.
  * </p>
+ * <p>
+ * The selected implementation is wrapped in a {@link CachedNmsItemMethods}, so the names
+ * of plain items are only resolved by the server once.
+ * </p>
  *
  * @see NmsItemMethods
  */
@@ -44,6 +48,11 @@ public class NmsItemProvider extends Provider<NmsItemMethods> {
      */
     @Override
     protected @NotNull NmsItemMethods provide(int ver) {
+        return new CachedNmsItemMethods(this.provideUncached(ver));
+    }
+
+    @NotNull
+    private NmsItemMethods provideUncached(int ver) {
         if (ver < f("1.8")) {
             throw new IllegalArgumentException("Version not supported (< 1.8): " + ver);
         }
@@ -25,6 +25,10 @@ import org.jetbrains.annotations.NotNull;
  * that are essential for plugins requiring custom network communication, entity
  * manipulation, or client-side effects that go beyond standard Bukkit capabilities.
  * </p>
+ * <p>
+ * Every handler supports wrapping, sending and packet interception, as well as the destroy,
+ * packet entity and block change factories.
+ * </p>
  *
  * @see NMSPacketHandler
  */
@@ -0,0 +1,55 @@
+package com.kamikazejam.kamicommon.nms.provider;
+
+import com.kamikazejam.kamicommon.nms.text.VersionedComponentFactory;
+import com.kamikazejam.kamicommon.nms.text.VersionedComponentFactory_1_18_R1;
+import com.kamikazejam.kamicommon.nms.text.VersionedComponentFactory_LATEST;
+import com.kamikazejam.kamicommon.nms.text.VersionedComponent_1_11_R1;
+import com.kamikazejam.kamicommon.nms.text.VersionedComponent_1_15_R1;
+import com.kamikazejam.kamicommon.nms.text.VersionedComponent_1_16_R3;
+import com.kamikazejam.kamicommon.nms.text.VersionedComponent_1_18_R1;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Provider for the version-specific {@link VersionedComponentFactory}.
+ * <p>
+ * This provider selects the {@link com.kamikazejam.kamicommon.nms.text.VersionedComponent}
+ * wrapper which knows how to send components on the current Minecraft version, handling the
+ * evolution of the adventure api and its integration natively into paper. Resolving it once
+ * lets every serializer and item meta call skip the version comparison.
+ * </p>
+ *
+ * @see VersionedComponentFactory
+ */
+public class VersionedComponentFactoryProvider extends Provider<VersionedComponentFactory> {
+    /**
+     * {@inheritDoc}
+     *
+     * @param ver the formatted NMS version integer
+     * @return the version-appropriate {@link VersionedComponentFactory} implementation
+     * @throws IllegalArgumentException if the version is below 1.8 (unsupported)
+     */
+    @Override
+    protected @NotNull VersionedComponentFactory provide(int ver) {
+        if (ver < f("1.8")) {
+            throw new IllegalArgumentException("Version not supported (< 1.8): " + ver);
+        }
+
+        // Select the correct wrapper which knows how to send this kind of component
+        if (ver < f("1.12")) {
+            // uses shaded adventure - 1.8 to 1.11.X
+            return new VersionedComponentFactory_1_18_R1(VersionedComponent_1_11_R1::new);
+        } else if (ver < f("1.16")) {
+            // uses shaded adventure - 1.12 to 1.15.X
+            return new VersionedComponentFactory_1_18_R1(VersionedComponent_1_15_R1::new);
+        } else if (ver < f("1.17")) {
+            // uses shaded adventure - 1.16.X (added hex support)
+            return new VersionedComponentFactory_1_18_R1(VersionedComponent_1_16_R3::new);
+        } else if (ver <= f("1.18.1")) {
+            // uses shaded adventure - 1.17.X to 1.18.1 (has adventure, but not MiniMessage)
+            return new VersionedComponentFactory_1_18_R1(VersionedComponent_1_18_R1::new);
+        }
+
+        // 1.18.2+ has adventure and MiniMessage bundled, so we can use the native apis
+        return new VersionedComponentFactory_LATEST();
+    }
+}
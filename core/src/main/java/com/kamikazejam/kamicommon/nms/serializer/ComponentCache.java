@@ -0,0 +1,197 @@
+package com.kamikazejam.kamicommon.nms.serializer;
+
+import com.kamikazejam.kamicommon.nms.text.VersionedComponent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, approximately least-recently-used cache of parsed {@link VersionedComponent}s, keyed by input format and string.
+ * <p>
+ * Plugins commonly deserialize the same configured strings (chat formats, scoreboard lines,
+ * item names) over and over. Since {@link VersionedComponent}s are immutable, the result of
+ * parsing a given string can be shared, so repeated calls skip parsing entirely.
+ * </p>
+ * <p>
+ * The cache is bounded both by entry count and by weight, where the weight of an entry is the
+ * length of its input string. When either limit is exceeded, entries are evicted in insertion
+ * order, except that an entry read since it was last considered gets a second chance and is moved
+ * to the back (the CLOCK approximation of LRU).
+ * </p>
+ * <p>
+ * Lookups never lock and never reorder anything, a hit only marks its entry as referenced. Only
+ * insertions and eviction synchronize. Parsing happens outside of that lock, so a slow parse never
+ * blocks other lookups; two threads missing on the same key at once may both parse it, and the
+ * first result is kept.
+ * </p>
+ * <p>
+ * Enable it through {@link VersionedComponentSerializer#enableCache(int, long)}:
+ * <pre>{@code
+ * VersionedComponentSerializer serializer = NmsAPI.getVersionedComponentSerializer();
+ * serializer.enableCache(4096, 1_000_000);
+ * // ...
+ * ComponentCache.Stats stats = serializer.getCacheStats();
+ * }</pre>
+ * </p>
+ */
+@SuppressWarnings("unused")
+public final class ComponentCache {
+    /**
+     * The input format a cached component was parsed from.
+     */
+    public enum Format {
+        PLAIN_TEXT,
+        MINI_MESSAGE,
+        LEGACY_AMPERSAND,
+        LEGACY_SECTION,
+    }
+
+    private record Key(@NotNull Format format, @NotNull String input) {}
+
+    private static final class Node {
+        private final @NotNull Key key;
+        private final @NotNull VersionedComponent component;
+        private volatile boolean referenced = false;
+
+        private Node(@NotNull Key key, @NotNull VersionedComponent component) {
+            this.key = key;
+            this.component = component;
+        }
+    }
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final @NotNull Map<Key, Node> entries = new ConcurrentHashMap<>();
+    // Eviction order of the cached nodes, guarded by this
+    private final @NotNull ArrayDeque<Node> order = new ArrayDeque<>();
+    private volatile long weight = 0;
+
+    private final @NotNull LongAdder hits = new LongAdder();
+    private final @NotNull LongAdder misses = new LongAdder();
+    private final @NotNull LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxEntries the maximum number of cached components
+     * @param maxWeight the maximum total length of all cached input strings
+     */
+    public ComponentCache(int maxEntries, long maxWeight) {
+        if (maxEntries <= 0 || maxWeight <= 0) {
+            throw new IllegalArgumentException("Cache limits must be positive (maxEntries: " + maxEntries + ", maxWeight: " + maxWeight + ")");
+        }
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Returns the cached component for the input, parsing and caching it on a miss.
+     * <p>
+     * Inputs longer than the maximum weight are parsed but never cached.
+     * </p>
+     *
+     * @param format the {@link Format} of the input
+     * @param input the input string
+     * @param parser the function parsing the input on a cache miss
+     * @return the cached or freshly parsed {@link VersionedComponent}
+     */
+    @NotNull
+    public VersionedComponent get(@NotNull Format format, @NotNull String input, @NotNull Function<String, VersionedComponent> parser) {
+        Key key = new Key(format, input);
+        @Nullable Node cached = this.entries.get(key);
+        if (cached != null) {
+            // Avoid writing the shared field again when it is already set
+            if (!cached.referenced) {
+                cached.referenced = true;
+            }
+            this.hits.increment();
+            return cached.component;
+        }
+
+        this.misses.increment();
+        VersionedComponent parsed = parser.apply(input);
+        if (input.length() > this.maxWeight) {
+            return parsed;
+        }
+
+        synchronized (this) {
+            Node node = new Node(key, parsed);
+            @Nullable Node existing = this.entries.putIfAbsent(key, node);
+            if (existing != null) {
+                return existing.component;
+            }
+            this.order.addLast(node);
+            this.weight += input.length();
+            this.evict();
+        }
+        return parsed;
+    }
+
+    /**
+     * Removes every cached component. Statistics are kept.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.order.clear();
+        this.weight = 0;
+    }
+
+    /**
+     * @return the number of cached components
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * @return a snapshot of this cache's statistics
+     */
+    @NotNull
+    public Stats getStats() {
+        int size;
+        long weight;
+        synchronized (this) {
+            size = this.entries.size();
+            weight = this.weight;
+        }
+        return new Stats(this.hits.sum(), this.misses.sum(), this.evictions.sum(), size, weight);
+    }
+
+    // Must hold the lock
+    private void evict() {
+        // Every node is given at most one second chance, so this ends after two passes at worst
+        while ((this.order.size() > this.maxEntries || this.weight > this.maxWeight) && !this.order.isEmpty()) {
+            Node eldest = this.order.pollFirst();
+            if (eldest.referenced) {
+                eldest.referenced = false;
+                this.order.addLast(eldest);
+                continue;
+            }
+            this.entries.remove(eldest.key);
+            this.weight -= eldest.key.input.length();
+            this.evictions.increment();
+        }
+    }
+
+    /**
+     * Snapshot of {@link ComponentCache} statistics.
+     *
+     * @param hits the number of lookups served from the cache
+     * @param misses the number of lookups which had to parse their input
+     * @param evictions the number of entries evicted to stay within the limits
+     * @param size the number of cached components
+     * @param weight the total length of all cached input strings
+     */
+    public record Stats(long hits, long misses, long evictions, int size, long weight) {
+        /**
+         * @return the fraction of lookups served from the cache, or {@code 0} if there were none
+         */
+        public double hitRate() {
+            long total = this.hits + this.misses;
+            return (total == 0) ? 0 : (double) this.hits / total;
+        }
+    }
+}
@@ -1,24 +1,17 @@
 package com.kamikazejam.kamicommon.nms.serializer;
 
-import com.kamikazejam.kamicommon.nms.NmsVersion;
+import com.kamikazejam.kamicommon.nms.NmsAPI;
 import com.kamikazejam.kamicommon.nms.text.VersionedComponent;
-import com.kamikazejam.kamicommon.nms.text.VersionedComponent_1_11_R1;
-import com.kamikazejam.kamicommon.nms.text.VersionedComponent_1_15_R1;
-import com.kamikazejam.kamicommon.nms.text.VersionedComponent_1_16_R3;
-import com.kamikazejam.kamicommon.nms.text.VersionedComponent_1_18_R1;
-import com.kamikazejam.kamicommon.nms.text.VersionedComponent_LATEST;
-import com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.minimessage.MiniMessage;
-import com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
-import com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import com.kamikazejam.kamicommon.nms.text.VersionedComponentFactory;
 import com.kamikazejam.kamicommon.util.Preconditions;
-import com.kamikazejam.kamicommon.util.nms.NmsVersionParser;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Provider for version-specific adventure component wrappers.
  * <p>
- * This provider selects the appropriate {@link VersionedComponent} implementation
- * based on the current Minecraft version, handling the evolution of
+ * Components are created by the {@link VersionedComponentFactory} for the current Minecraft version,
+ * which is selected once by its provider, handling the evolution of
  * the adventure api and its integration natively into paper.
  * </p>
  *
@@ -26,6 +19,58 @@ import org.jetbrains.annotations.NotNull;
  */
 @SuppressWarnings("unused")
 public class VersionedComponentSerializer {
+    private volatile @Nullable ComponentCache cache = null;
+
+    // ------------------------------------------------------------ //
+    //                            Cache                             //
+    // ------------------------------------------------------------ //
+
+    /**
+     * Enables caching of parsed components (disabled by default).
+     * <p>
+     * While enabled, {@link #fromPlainText(String)}, {@link #fromMiniMessage(String)},
+     * {@link #fromLegacyAmpersand(String)}, and {@link #fromLegacySection(String)} return a
+     * shared, immutable {@link VersionedComponent} for inputs seen before, instead of parsing
+     * them again. This is most effective for configured messages that are parsed repeatedly.
+     * Enabling the cache again replaces the existing cache (and its contents).
+     * </p>
+     * <p>
+     * See {@link ComponentCache} for how the limits are applied.
+     * </p>
+     *
+     * @param maxEntries the maximum number of cached components
+     * @param maxWeight the maximum total length of all cached input strings
+     * @throws IllegalArgumentException if either limit is not positive
+     */
+    public void enableCache(int maxEntries, long maxWeight) {
+        this.cache = new ComponentCache(maxEntries, maxWeight);
+    }
+
+    /**
+     * Disables and clears the component cache, if enabled.
+     */
+    public void disableCache() {
+        this.cache = null;
+    }
+
+    /**
+     * @return the active {@link ComponentCache}, or {@code null} if caching is disabled
+     */
+    public @Nullable ComponentCache getCache() {
+        return this.cache;
+    }
+
+    /**
+     * @return a snapshot of the cache statistics, or {@code null} if caching is disabled
+     */
+    public @Nullable ComponentCache.Stats getCacheStats() {
+        @Nullable ComponentCache cache = this.cache;
+        return (cache != null) ? cache.getStats() : null;
+    }
+
+    // ------------------------------------------------------------ //
+    //                        Deserialization                       //
+    // ------------------------------------------------------------ //
 
     /**
      * Convert a string (treated as plain text) into a {@link VersionedComponent} for this version.<br>
@@ -34,28 +79,7 @@ public class VersionedComponentSerializer {
      */
     public @NotNull VersionedComponent fromInternalComponent(@NotNull com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component component) {
         Preconditions.checkNotNull(component, "component cannot be null");
-        int ver = NmsVersion.getFormattedNmsInteger();
-        if (ver < f("1.8")) {
-            throw new IllegalArgumentException("Version not supported (< 1.8): " + ver);
-        }
-
-        // Select the correct wrapper which knows how to send this kind of component
-        if (ver < f("1.12")) {
-            // uses shaded PlainTextComponentSerializer - 1.8 to 1.11.X
-            return new VersionedComponent_1_11_R1(component);
-        } else if (ver < f("1.16")) {
-            // uses shaded PlainTextComponentSerializer - 1.12 to 1.15.X
-            return new VersionedComponent_1_15_R1(component);
-        } else if (ver < f("1.17")) {
-            // uses shaded PlainTextComponentSerializer - 1.16.X (added hex support)
-            return new VersionedComponent_1_16_R3(component);
-        } else if (ver <= f("1.18.1")) {
-            // uses shaded PlainTextComponentSerializer - 1.17.X to 1.18.1 (has adventure, but not MiniMessage)
-            return new VersionedComponent_1_18_R1(component);
-        }
-
-        // 1.18.2+ has adventure bundled, so we can use the native apis
-        return VersionedComponent_LATEST.fromInternalComponent(component);
+        return factory().fromInternalComponent(component);
     }
 
     /**
@@ -65,28 +89,9 @@ public class VersionedComponentSerializer {
      */
     public @NotNull VersionedComponent fromPlainText(@NotNull String text) {
         Preconditions.checkNotNull(text, "text cannot be null");
-        int ver = NmsVersion.getFormattedNmsInteger();
-        if (ver < f("1.8")) {
-            throw new IllegalArgumentException("Version not supported (< 1.8): " + ver);
-        }
-
-        // Select the correct wrapper which knows how to send this kind of component
-        if (ver < f("1.12")) {
-            // uses shaded PlainTextComponentSerializer - 1.8 to 1.11.X
-            return new VersionedComponent_1_11_R1(PlainTextComponentSerializer.plainText().deserialize(text));
-        } else if (ver < f("1.16")) {
-            // uses shaded PlainTextComponentSerializer - 1.12 to 1.15.X
-            return new VersionedComponent_1_15_R1(PlainTextComponentSerializer.plainText().deserialize(text));
-        } else if (ver < f("1.17")) {
-            // uses shaded PlainTextComponentSerializer - 1.16.X (added hex support)
-            return new VersionedComponent_1_16_R3(PlainTextComponentSerializer.plainText().deserialize(text));
-        } else if (ver <= f("1.18.1")) {
-            // uses shaded PlainTextComponentSerializer - 1.17.X to 1.18.1 (has adventure, but not MiniMessage)
-            return new VersionedComponent_1_18_R1(PlainTextComponentSerializer.plainText().deserialize(text));
-        }
-
-        // 1.18.2+ has adventure bundled, so we can use the native apis
-        return VersionedComponent_LATEST.fromPlainText(text);
+        @Nullable ComponentCache cache = this.cache;
+        VersionedComponentFactory factory = factory();
+        return (cache != null) ? cache.get(ComponentCache.Format.PLAIN_TEXT, text, factory::fromPlainText) : factory.fromPlainText(text);
     }
 
     /**
@@ -96,28 +101,9 @@ public class VersionedComponentSerializer {
      */
     public @NotNull VersionedComponent fromMiniMessage(@NotNull String miniMessage) {
         Preconditions.checkNotNull(miniMessage, "miniMessage cannot be null");
-        int ver = NmsVersion.getFormattedNmsInteger();
-        if (ver < f("1.8")) {
-            throw new IllegalArgumentException("Version not supported (< 1.8): " + ver);
-        }
-
-        // Select the correct wrapper which knows how to send this kind of component
-        if (ver < f("1.12")) {
-            // uses shaded MiniMessage - 1.8 to 1.11.X
-            return new VersionedComponent_1_11_R1(MiniMessage.miniMessage().deserialize(miniMessage));
-        } else if (ver < f("1.16")) {
-            // uses shaded MiniMessage - 1.12 to 1.15.X
-            return new VersionedComponent_1_15_R1(MiniMessage.miniMessage().deserialize(miniMessage));
-        } else if (ver < f("1.17")) {
-            // uses shaded MiniMessage - 1.16.X (added hex support)
-            return new VersionedComponent_1_16_R3(MiniMessage.miniMessage().deserialize(miniMessage));
-        } else if (ver <= f("1.18.1")) {
-            // uses shaded MiniMessage - 1.17.X to 1.18.1 (has adventure, but not MiniMessage)
-            return new VersionedComponent_1_18_R1(MiniMessage.miniMessage().deserialize(miniMessage));
-        }
-
-        // 1.18.2+ has adventure and MiniMessage bundled, so we can use the native MiniMessage
-        return VersionedComponent_LATEST.fromMiniMessage(miniMessage);
+        @Nullable ComponentCache cache = this.cache;
+        VersionedComponentFactory factory = factory();
+        return (cache != null) ? cache.get(ComponentCache.Format.MINI_MESSAGE, miniMessage, factory::fromMiniMessage) : factory.fromMiniMessage(miniMessage);
     }
 
     /**
@@ -127,28 +113,9 @@ public class VersionedComponentSerializer {
      */
     public @NotNull VersionedComponent fromLegacyAmpersand(@NotNull String legacy) {
         Preconditions.checkNotNull(legacy, "legacy cannot be null");
-        int ver = NmsVersion.getFormattedNmsInteger();
-        if (ver < f("1.8")) {
-            throw new IllegalArgumentException("Version not supported (< 1.8): " + ver);
-        }
-
-        // Select the correct wrapper which knows how to send this kind of component
-        if (ver < f("1.12")) {
-            // uses shaded MiniMessage - 1.8 to 1.11.X
-            return new VersionedComponent_1_11_R1(LegacyComponentSerializer.legacyAmpersand().deserialize(legacy));
-        } else if (ver < f("1.16")) {
-            // uses shaded MiniMessage - 1.12 to 1.15.X
-            return new VersionedComponent_1_15_R1(LegacyComponentSerializer.legacyAmpersand().deserialize(legacy));
-        } else if (ver < f("1.17")) {
-            // uses shaded MiniMessage - 1.16.X (added hex support)
-            return new VersionedComponent_1_16_R3(LegacyComponentSerializer.legacyAmpersand().deserialize(legacy));
-        } else if (ver <= f("1.18.1")) {
-            // uses shaded MiniMessage - 1.17.X to 1.18.1 (has adventure, but not MiniMessage)
-            return new VersionedComponent_1_18_R1(LegacyComponentSerializer.legacyAmpersand().deserialize(legacy));
-        }
-
-        // 1.18.2+ has adventure and MiniMessage bundled, so we can use the native MiniMessage
-        return VersionedComponent_LATEST.fromLegacyAmpersand(legacy);
+        @Nullable ComponentCache cache = this.cache;
+        VersionedComponentFactory factory = factory();
+        return (cache != null) ? cache.get(ComponentCache.Format.LEGACY_AMPERSAND, legacy, factory::fromLegacyAmpersand) : factory.fromLegacyAmpersand(legacy);
     }
 
     /**
@@ -158,28 +125,9 @@ public class VersionedComponentSerializer {
      */
     public @NotNull VersionedComponent fromLegacySection(@NotNull String legacy) {
         Preconditions.checkNotNull(legacy, "legacy cannot be null");
-        int ver = NmsVersion.getFormattedNmsInteger();
-        if (ver < f("1.8")) {
-            throw new IllegalArgumentException("Version not supported (< 1.8): " + ver);
-        }
-
-        // Select the correct wrapper which knows how to send this kind of component
-        if (ver < f("1.12")) {
-            // uses shaded MiniMessage - 1.8 to 1.11.X
-            return new VersionedComponent_1_11_R1(LegacyComponentSerializer.legacySection().deserialize(legacy));
-        } else if (ver < f("1.16")) {
-            // uses shaded MiniMessage - 1.12 to 1.15.X
-            return new VersionedComponent_1_15_R1(LegacyComponentSerializer.legacySection().deserialize(legacy));
-        } else if (ver < f("1.17")) {
-            // uses shaded MiniMessage - 1.16.X (added hex support)
-            return new VersionedComponent_1_16_R3(LegacyComponentSerializer.legacySection().deserialize(legacy));
-        } else if (ver <= f("1.18.1")) {
-            // uses shaded MiniMessage - 1.17.X to 1.18.1 (has adventure, but not MiniMessage)
-            return new VersionedComponent_1_18_R1(LegacyComponentSerializer.legacySection().deserialize(legacy));
-        }
-
-        // 1.18.2+ has adventure and MiniMessage bundled, so we can use the native MiniMessage
-        return VersionedComponent_LATEST.fromLegacySection(legacy);
+        @Nullable ComponentCache cache = this.cache;
+        VersionedComponentFactory factory = factory();
+        return (cache != null) ? cache.get(ComponentCache.Format.LEGACY_SECTION, legacy, factory::fromLegacySection) : factory.fromLegacySection(legacy);
     }
 
     /**
@@ -197,7 +145,8 @@ public class VersionedComponentSerializer {
         return fromMiniMessage(miniMessage);
     }
 
-    private int f(String mcVersion) {
-        return NmsVersionParser.getFormattedNmsInteger(mcVersion);
+    // The factory is resolved once by its provider, so each call is a direct call without a version check
+    private static @NotNull VersionedComponentFactory factory() {
+        return NmsAPI.getVersionedComponentFactory();
     }
 }
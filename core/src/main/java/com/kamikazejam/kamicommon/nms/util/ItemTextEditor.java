@@ -0,0 +1,137 @@
+package com.kamikazejam.kamicommon.nms.util;
+
+import com.kamikazejam.kamicommon.nms.NmsAPI;
+import com.kamikazejam.kamicommon.nms.text.VersionedComponent;
+import com.kamikazejam.kamicommon.nms.text.VersionedComponentFactory;
+import com.kamikazejam.kamicommon.util.Preconditions;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Collects lore and display name changes for an {@link ItemMeta} and writes them in a single pass.
+ * <p>
+ * Every call to {@link VersionedComponentUtil#addLoreLine(ItemMeta, VersionedComponent)} reads the
+ * current lore, copies it, and writes it back to the meta. Building a long lore that way costs one
+ * copy and one rewrite per line. This editor only records the changes, and {@link #apply()} writes
+ * the lore and display name at most once each. Existing lore is never read back unless lines are
+ * appended to it.
+ * </p>
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * VersionedComponentUtil.editText(meta)
+ *         .displayName(name)
+ *         .clearLore()
+ *         .addLore(header)
+ *         .addLore(lines)
+ *         .apply();
+ * }</pre>
+ * </p>
+ * <p>
+ * An editor is meant to be used once, from a single thread.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public final class ItemTextEditor {
+    private final @NotNull ItemMeta meta;
+    private final @NotNull List<VersionedComponent> lines = new ArrayList<>();
+    private boolean replaceLore = false;
+    private boolean removeLore = false;
+    private boolean setName = false;
+    private @Nullable VersionedComponent name = null;
+
+    ItemTextEditor(@NotNull ItemMeta meta) {
+        Preconditions.checkNotNull(meta, "meta cannot be null");
+        this.meta = meta;
+    }
+
+    /**
+     * Sets (or removes, if {@code null}) the display name.
+     *
+     * @return this editor
+     */
+    @NotNull
+    public ItemTextEditor displayName(@Nullable VersionedComponent name) {
+        this.setName = true;
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * Discards the existing lore and any lines added so far, so the lore consists only of lines added afterward.
+     *
+     * @return this editor
+     */
+    @NotNull
+    public ItemTextEditor clearLore() {
+        this.lines.clear();
+        this.replaceLore = true;
+        this.removeLore = false;
+        return this;
+    }
+
+    /**
+     * Removes the lore entirely (an item without lore rather than an empty lore list), discarding any added lines.
+     *
+     * @return this editor
+     */
+    @NotNull
+    public ItemTextEditor removeLore() {
+        this.lines.clear();
+        this.replaceLore = true;
+        this.removeLore = true;
+        return this;
+    }
+
+    /**
+     * Appends a lore line.
+     *
+     * @return this editor
+     */
+    @NotNull
+    public ItemTextEditor addLore(@NotNull VersionedComponent line) {
+        Preconditions.checkNotNull(line, "line cannot be null");
+        this.lines.add(line);
+        this.removeLore = false;
+        return this;
+    }
+
+    /**
+     * Appends several lore lines, in order.
+     *
+     * @return this editor
+     */
+    @NotNull
+    public ItemTextEditor addLore(@NotNull Collection<? extends VersionedComponent> lines) {
+        Preconditions.checkNotNull(lines, "lines cannot be null");
+        this.lines.addAll(lines);
+        this.removeLore = false;
+        return this;
+    }
+
+    /**
+     * Writes the recorded changes to the item meta. Unchanged parts of the meta are not touched.
+     *
+     * @return the same {@link ItemMeta} instance (for chaining)
+     */
+    @NotNull
+    public ItemMeta apply() {
+        VersionedComponentFactory factory = NmsAPI.getVersionedComponentFactory();
+        if (this.setName) {
+            factory.setDisplayName(this.meta, this.name);
+        }
+        if (this.removeLore) {
+            factory.setLore(this.meta, null);
+        } else if (this.replaceLore) {
+            factory.setLore(this.meta, this.lines);
+        } else if (!this.lines.isEmpty()) {
+            factory.addLoreLines(this.meta, this.lines);
+        }
+        return this.meta;
+    }
+}
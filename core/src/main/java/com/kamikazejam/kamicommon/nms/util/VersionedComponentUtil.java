@@ -1,13 +1,9 @@
 package com.kamikazejam.kamicommon.nms.util;
 
 import com.kamikazejam.kamicommon.nms.NmsAPI;
-import com.kamikazejam.kamicommon.nms.NmsVersion;
 import com.kamikazejam.kamicommon.nms.serializer.VersionedComponentSerializer;
 import com.kamikazejam.kamicommon.nms.text.VersionedComponent;
-import com.kamikazejam.kamicommon.nms.text.VersionedComponent_1_18_R1;
-import com.kamikazejam.kamicommon.nms.text.VersionedComponent_LATEST;
 import com.kamikazejam.kamicommon.util.Preconditions;
-import com.kamikazejam.kamicommon.util.nms.NmsVersionParser;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -17,8 +13,8 @@ import java.util.List;
 /**
  * Utility for interacting with {@link VersionedComponent} and various server apis.
  * <p>
- * This provider selects the appropriate {@link VersionedComponent} implementation
- * based on the current Minecraft version, handling the evolution of
+ * Delegates to the {@link com.kamikazejam.kamicommon.nms.text.VersionedComponentFactory} for the
+ * current Minecraft version, handling the evolution of
  * the adventure api and its integration natively into paper.
  * </p>
  *
@@ -34,10 +30,6 @@ public class VersionedComponentUtil {
         return NmsAPI.getVersionedComponentSerializer();
     }
 
-    private static int f(String mcVersion) {
-        return NmsVersionParser.getFormattedNmsInteger(mcVersion);
-    }
-
     /**
      * Set the display name of an item stack using a {@link VersionedComponent}.<br>
      * <br>
@@ -46,19 +38,7 @@ public class VersionedComponentUtil {
      */
     public static @NotNull ItemMeta setDisplayName(@NotNull ItemMeta meta, @Nullable VersionedComponent component) {
         Preconditions.checkNotNull(meta, "meta cannot be null");
-        int ver = NmsVersion.getFormattedNmsInteger();
-        if (ver < f("1.8")) {
-            throw new IllegalArgumentException("Version not supported (< 1.8): " + ver);
-        }
-
-        // Select the correct wrapper which knows how to send this kind of component
-        if (ver <= f("1.18.1")) {
-            // uses shaded components
-            return VersionedComponent_1_18_R1.setDisplayName(meta, component);
-        }
-
-        // 1.18.2+ has adventure bundled, so we can use the native apis
-        return VersionedComponent_LATEST.setDisplayName(meta, component);
+        return NmsAPI.getVersionedComponentFactory().setDisplayName(meta, component);
     }
 
     /**
@@ -71,19 +51,7 @@ public class VersionedComponentUtil {
      */
     public static @NotNull ItemMeta setLore(@NotNull ItemMeta meta, @Nullable List<VersionedComponent> lore) {
         Preconditions.checkNotNull(meta, "meta cannot be null");
-        int ver = NmsVersion.getFormattedNmsInteger();
-        if (ver < f("1.8")) {
-            throw new IllegalArgumentException("Version not supported (< 1.8): " + ver);
-        }
-
-        // Select the correct wrapper which knows how to send this kind of component
-        if (ver <= f("1.18.1")) {
-            // uses shaded components
-            return VersionedComponent_1_18_R1.setLore(meta, lore);
-        }
-
-        // 1.18.2+ has adventure bundled, so we can use the native apis
-        return VersionedComponent_LATEST.setLore(meta, lore);
+        return NmsAPI.getVersionedComponentFactory().setLore(meta, lore);
     }
 
     /**
@@ -95,19 +63,7 @@ public class VersionedComponentUtil {
      */
     public static @Nullable List<VersionedComponent> getLore(@NotNull ItemMeta meta) {
         Preconditions.checkNotNull(meta, "meta cannot be null");
-        int ver = NmsVersion.getFormattedNmsInteger();
-        if (ver < f("1.8")) {
-            throw new IllegalArgumentException("Version not supported (< 1.8): " + ver);
-        }
-
-        // Select the correct wrapper which knows how to send this kind of component
-        if (ver <= f("1.18.1")) {
-            // uses shaded components
-            return VersionedComponent_1_18_R1.getLore(meta);
-        }
-
-        // 1.18.2+ has adventure bundled, so we can use the native apis
-        return VersionedComponent_LATEST.getLore(meta);
+        return NmsAPI.getVersionedComponentFactory().getLore(meta);
     }
 
     /**
@@ -119,19 +75,7 @@ public class VersionedComponentUtil {
      */
     public static @Nullable VersionedComponent getDisplayName(@NotNull ItemMeta meta) {
         Preconditions.checkNotNull(meta, "meta cannot be null");
-        int ver = NmsVersion.getFormattedNmsInteger();
-        if (ver < f("1.8")) {
-            throw new IllegalArgumentException("Version not supported (< 1.8): " + ver);
-        }
-
-        // Select the correct wrapper which knows how to send this kind of component
-        if (ver <= f("1.18.1")) {
-            // uses shaded components
-            return VersionedComponent_1_18_R1.getDisplayName(meta);
-        }
-
-        // 1.18.2+ has adventure bundled, so we can use the native apis
-        return VersionedComponent_LATEST.getDisplayName(meta);
+        return NmsAPI.getVersionedComponentFactory().getDisplayName(meta);
     }
 
     /**
@@ -145,18 +89,31 @@ public class VersionedComponentUtil {
     public static @NotNull ItemMeta addLoreLine(@NotNull ItemMeta meta, @NotNull VersionedComponent component) {
         Preconditions.checkNotNull(meta, "meta cannot be null");
         Preconditions.checkNotNull(component, "component cannot be null");
-        int ver = NmsVersion.getFormattedNmsInteger();
-        if (ver < f("1.8")) {
-            throw new IllegalArgumentException("Version not supported (< 1.8): " + ver);
-        }
+        return NmsAPI.getVersionedComponentFactory().addLoreLine(meta, component);
+    }
 
-        // Select the correct wrapper which knows how to send this kind of component
-        if (ver <= f("1.18.1")) {
-            // uses shaded components
-            return VersionedComponent_1_18_R1.addLoreLine(meta, component);
-        }
+    /**
+     * Add several lines to the lore of an item stack using {@link VersionedComponent}s.<br>
+     * <br>
+     * The existing lore is read and written only once, regardless of the number of lines.
+     * @param meta the item meta to modify
+     * @param lines the lore lines to add, in order
+     * @return the same {@link ItemMeta} instance (for chaining).
+     */
+    public static @NotNull ItemMeta addLoreLines(@NotNull ItemMeta meta, @NotNull List<VersionedComponent> lines) {
+        Preconditions.checkNotNull(meta, "meta cannot be null");
+        Preconditions.checkNotNull(lines, "lines cannot be null");
+        return NmsAPI.getVersionedComponentFactory().addLoreLines(meta, lines);
+    }
 
-        // 1.18.2+ has adventure bundled, so we can use the native apis
-        return VersionedComponent_LATEST.addLoreLine(meta, component);
+    /**
+     * Start a batch of lore and display name changes, written to the meta once by {@link ItemTextEditor#apply()}.<br>
+     * <br>
+     * Prefer this over repeated {@link #addLoreLine(ItemMeta, VersionedComponent)} calls when building lore.
+     * @param meta the item meta to modify
+     * @return a new {@link ItemTextEditor} for the meta
+     */
+    public static @NotNull ItemTextEditor editText(@NotNull ItemMeta meta) {
+        return new ItemTextEditor(meta);
     }
 }
@@ -0,0 +1,27 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandle;
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandles;
+import net.minecraft.server.v1_10_R1.PacketPlayOutEntityEquipment;
+import org.jetbrains.annotations.NotNull;
+
+@SuppressWarnings("unchecked")
+public class OutEntityEquipment_1_10_R1 implements NMSOutEntityEquipment {
+    private static final FieldHandle<Integer> entityHandle = (FieldHandle<Integer>) FieldHandles.getHandle("a", PacketPlayOutEntityEquipment.class);
+
+    private final @NotNull PacketPlayOutEntityEquipment packet;
+
+    public OutEntityEquipment_1_10_R1(@NotNull PacketPlayOutEntityEquipment packet) {
+        this.packet = packet;
+    }
+
+    @Override
+    public @NotNull Object getHandle() {
+        return this.packet;
+    }
+
+    @Override
+    public int getEntityID() {
+        return OutEntityEquipment_1_10_R1.entityHandle.get(this.packet);
+    }
+}
@@ -0,0 +1,27 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandle;
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandles;
+import net.minecraft.server.v1_10_R1.PacketPlayOutEntity;
+import org.jetbrains.annotations.NotNull;
+
+@SuppressWarnings("unchecked")
+public class OutEntityMove_1_10_R1 implements NMSOutEntityMove {
+    private static final FieldHandle<Integer> entityHandle = (FieldHandle<Integer>) FieldHandles.getHandle("a", PacketPlayOutEntity.class);
+
+    private final @NotNull PacketPlayOutEntity packet;
+
+    public OutEntityMove_1_10_R1(@NotNull PacketPlayOutEntity packet) {
+        this.packet = packet;
+    }
+
+    @Override
+    public @NotNull Object getHandle() {
+        return this.packet;
+    }
+
+    @Override
+    public int getEntityID() {
+        return OutEntityMove_1_10_R1.entityHandle.get(this.packet);
+    }
+}
@@ -14,12 +14,19 @@ import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
 
 /**
  * Confirmed For: 1_8_R1, 1_8_R2, 1_8_R3, 1_9_R1, 1_9_R2, 1_10_R1, 1_11_R1
  */
 public class VersionedComponent_1_11_R1 implements VersionedComponent {
     private final @NotNull Component component;
+    // Components are immutable, so each serialized form is computed at most once (racy but idempotent)
+    private volatile @Nullable String miniMessage, legacyAmpersand, legacySection, plainText;
+    private volatile BaseComponent[] bungee;
+    private volatile @Nullable String bungeeLegacyText;
     public VersionedComponent_1_11_R1(@NotNull Component component) {
         this.component = component;
     }
@@ -28,48 +35,94 @@ public class VersionedComponent_1_11_R1 implements VersionedComponent {
     public void sendTo(@NotNull CommandSender sender) {
         if (sender instanceof Player player) {
             // Use direct spigot method
-            player.spigot().sendMessage(BungeeComponentSerializer.legacy().serialize(this.component));
+            player.spigot().sendMessage(this.serializeBungee());
         } else {
             // Wrap into legacy string format to use String message method
-            BaseComponent[] baseComponents = BungeeComponentSerializer.legacy().serialize(this.component);
-            sender.sendMessage((new TextComponent(baseComponents)).toLegacyText());
+            sender.sendMessage(this.serializeBungeeLegacyText());
+        }
+    }
+
+    @Override
+    public void broadcast(@NotNull Collection<? extends CommandSender> recipients) {
+        // Serialize once and share the result between recipients
+        BaseComponent[] baseComponents = this.serializeBungee();
+        for (CommandSender sender : recipients) {
+            if (sender instanceof Player player) {
+                player.spigot().sendMessage(baseComponents);
+            } else {
+                sender.sendMessage(this.serializeBungeeLegacyText());
+            }
         }
     }
 
     @Override
     public @NotNull String serializeMiniMessage() {
-        return MiniMessage.miniMessage().serialize(this.component);
+        @Nullable String s = this.miniMessage;
+        if (s == null) {
+            this.miniMessage = s = MiniMessage.miniMessage().serialize(this.component);
+        }
+        return s;
     }
 
     @Override
     public @NotNull String serializePlainText() {
-        return PlainTextComponentSerializer.plainText().serialize(this.component);
+        @Nullable String s = this.plainText;
+        if (s == null) {
+            this.plainText = s = PlainTextComponentSerializer.plainText().serialize(this.component);
+        }
+        return s;
     }
 
     @Override
     public @NotNull String serializeLegacyAmpersand() {
-        return LegacyComponentSerializer.legacyAmpersand().serialize(this.component);
+        @Nullable String s = this.legacyAmpersand;
+        if (s == null) {
+            this.legacyAmpersand = s = LegacyComponentSerializer.legacyAmpersand().serialize(this.component);
+        }
+        return s;
     }
 
     @Override
     public @NotNull String serializeLegacySection() {
-        return LegacyComponentSerializer.legacySection().serialize(this.component);
+        @Nullable String s = this.legacySection;
+        if (s == null) {
+            this.legacySection = s = LegacyComponentSerializer.legacySection().serialize(this.component);
+        }
+        return s;
     }
 
     @Override
     public @NotNull Inventory createInventory(@NotNull InventoryHolder owner, int size) {
         // Needs to be serialized into legacy string that contains section symbols for title
-        String title = LegacyComponentSerializer.legacySection().serialize(this.component);
+        String title = this.serializeLegacySection();
         return Bukkit.createInventory(owner, size, title);
     }
 
     @Override
     public @NotNull Inventory createInventory(@NotNull InventoryHolder owner, @NotNull InventoryType type) {
         // Needs to be serialized into legacy string that contains section symbols for title
-        String title = LegacyComponentSerializer.legacySection().serialize(this.component);
+        String title = this.serializeLegacySection();
         return Bukkit.createInventory(owner, type, title);
     }
 
+    // Shared between sends, never mutate the returned array
+    private BaseComponent[] serializeBungee() {
+        BaseComponent[] components = this.bungee;
+        if (components == null) {
+            this.bungee = components = BungeeComponentSerializer.legacy().serialize(this.component);
+        }
+        return components;
+    }
+
+    @NotNull
+    private String serializeBungeeLegacyText() {
+        @Nullable String s = this.bungeeLegacyText;
+        if (s == null) {
+            this.bungeeLegacyText = s = (new TextComponent(this.serializeBungee())).toLegacyText();
+        }
+        return s;
+    }
+
     @Override
     public @NotNull Component asInternalComponent() {
         return this.component;
@@ -0,0 +1,27 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandle;
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandles;
+import net.minecraft.server.v1_11_R1.PacketPlayOutEntityMetadata;
+import org.jetbrains.annotations.NotNull;
+
+@SuppressWarnings("unchecked")
+public class OutEntityMetadata_1_11_R1 implements NMSOutEntityMetadata {
+    private static final FieldHandle<Integer> entityHandle = (FieldHandle<Integer>) FieldHandles.getHandle("a", PacketPlayOutEntityMetadata.class);
+
+    private final @NotNull PacketPlayOutEntityMetadata packet;
+
+    public OutEntityMetadata_1_11_R1(@NotNull PacketPlayOutEntityMetadata packet) {
+        this.packet = packet;
+    }
+
+    @Override
+    public @NotNull Object getHandle() {
+        return this.packet;
+    }
+
+    @Override
+    public int getEntityID() {
+        return OutEntityMetadata_1_11_R1.entityHandle.get(this.packet);
+    }
+}
@@ -0,0 +1,27 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandle;
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandles;
+import net.minecraft.server.v1_11_R1.PacketPlayOutEntityTeleport;
+import org.jetbrains.annotations.NotNull;
+
+@SuppressWarnings("unchecked")
+public class OutEntityTeleport_1_11_R1 implements NMSOutEntityTeleport {
+    private static final FieldHandle<Integer> entityHandle = (FieldHandle<Integer>) FieldHandles.getHandle("a", PacketPlayOutEntityTeleport.class);
+
+    private final @NotNull PacketPlayOutEntityTeleport packet;
+
+    public OutEntityTeleport_1_11_R1(@NotNull PacketPlayOutEntityTeleport packet) {
+        this.packet = packet;
+    }
+
+    @Override
+    public @NotNull Object getHandle() {
+        return this.packet;
+    }
+
+    @Override
+    public int getEntityID() {
+        return OutEntityTeleport_1_11_R1.entityHandle.get(this.packet);
+    }
+}
@@ -0,0 +1,33 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandle;
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandles;
+import net.minecraft.server.v1_12_R1.ChunkCoordIntPair;
+import net.minecraft.server.v1_12_R1.PacketPlayOutMultiBlockChange;
+import org.jetbrains.annotations.NotNull;
+
+@SuppressWarnings("unchecked")
+public class OutMultiBlockChange_1_12_R1 implements NMSOutMultiBlockChange {
+    private static final FieldHandle<ChunkCoordIntPair> chunkHandle = (FieldHandle<ChunkCoordIntPair>) FieldHandles.getHandle("a", PacketPlayOutMultiBlockChange.class);
+
+    private final @NotNull PacketPlayOutMultiBlockChange packet;
+
+    public OutMultiBlockChange_1_12_R1(@NotNull PacketPlayOutMultiBlockChange packet) {
+        this.packet = packet;
+    }
+
+    @Override
+    public @NotNull Object getHandle() {
+        return this.packet;
+    }
+
+    @Override
+    public int getChunkX() {
+        return OutMultiBlockChange_1_12_R1.chunkHandle.get(this.packet).x;
+    }
+
+    @Override
+    public int getChunkZ() {
+        return OutMultiBlockChange_1_12_R1.chunkHandle.get(this.packet).z;
+    }
+}
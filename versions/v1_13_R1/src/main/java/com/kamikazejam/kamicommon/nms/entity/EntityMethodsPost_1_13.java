@@ -2,6 +2,9 @@ package com.kamikazejam.kamicommon.nms.entity;
 
 import com.cryptomorin.xseries.XMaterial;
 import com.kamikazejam.kamicommon.nms.abstraction.entity.AbstractEntityMethods;
+import de.tr7zw.changeme.nbtapi.NBT;
+import de.tr7zw.changeme.nbtapi.iface.ReadableNBT;
+import org.bukkit.Material;
 import org.bukkit.block.BlockState;
 import org.bukkit.block.CreatureSpawner;
 import org.bukkit.entity.EntityType;
@@ -13,9 +16,11 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Optional;
 
 public abstract class EntityMethodsPost_1_13 extends AbstractEntityMethods {
+    protected static final Material SPAWNER = XMaterial.SPAWNER.parseMaterial();
+
     @Override
     public @NotNull ItemStack setSpawnerType(@NotNull ItemStack stack, @NotNull EntityType type) {
-        if (stack.getType() != XMaterial.SPAWNER.parseMaterial() || !stack.hasItemMeta()) {
+        if (stack.getType() != SPAWNER || !stack.hasItemMeta()) {
             return stack;
         }
 
@@ -29,11 +34,49 @@ public abstract class EntityMethodsPost_1_13 extends AbstractEntityMethods {
 
     @Override
     public @NotNull Optional<EntityType> getSpawnerType(@Nullable ItemStack stack) {
-        if (stack == null || stack.getType() != XMaterial.SPAWNER.parseMaterial() || !stack.hasItemMeta()) {
+        if (stack == null || stack.getType() != SPAWNER || !stack.hasItemMeta()) {
             return Optional.empty();
         }
-        BlockStateMeta meta = (BlockStateMeta)stack.getItemMeta();
+        // Read the entity id straight from the item's nbt, instead of cloning the meta and then its block state
+        @Nullable String id = NBT.get(stack, nbt -> {
+            @Nullable ReadableNBT blockEntity = nbt.getCompound("BlockEntityTag");
+            return (blockEntity != null) ? getSpawnDataId(blockEntity) : null;
+        });
+        @Nullable EntityType type = fromEntityId(id);
+        if (type != null) {
+            return Optional.of(type);
+        }
+        return this.getSpawnerTypeByMeta(stack);
+    }
+
+    @NotNull
+    protected Optional<EntityType> getSpawnerTypeByMeta(@NotNull ItemStack stack) {
+        BlockStateMeta meta = (BlockStateMeta) stack.getItemMeta();
         BlockState state = meta.getBlockState();
         return Optional.ofNullable(((CreatureSpawner) state).getSpawnedType());
     }
+
+    /**
+     * @param blockEntity the spawner block entity nbt
+     * @return the namespaced entity id of the spawner's SpawnData, or null if it has none
+     */
+    @Nullable
+    protected static String getSpawnDataId(@NotNull ReadableNBT blockEntity) {
+        @Nullable ReadableNBT spawnData = blockEntity.getCompound("SpawnData");
+        if (spawnData == null) { return null; }
+        // 1.18+ nests the entity under "entity"
+        @Nullable ReadableNBT entity = spawnData.getCompound("entity");
+        ReadableNBT holder = (entity != null) ? entity : spawnData;
+        return holder.hasTag("id") ? holder.getString("id") : null;
+    }
+
+    @Nullable
+    @SuppressWarnings("deprecation")
+    protected static EntityType fromEntityId(@Nullable String id) {
+        if (id == null || id.isEmpty()) { return null; }
+        int colon = id.indexOf(':');
+        // EntityType names are the keys of the minecraft namespace
+        if (colon >= 0 && !id.startsWith("minecraft:")) { return null; }
+        return EntityType.fromName((colon >= 0) ? id.substring(colon + 1) : id);
+    }
 }
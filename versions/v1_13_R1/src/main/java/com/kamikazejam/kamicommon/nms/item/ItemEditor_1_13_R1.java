@@ -0,0 +1,71 @@
+package com.kamikazejam.kamicommon.nms.item;
+
+import com.kamikazejam.kamicommon.nms.abstraction.item.AbstractItemEditor;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.Damageable;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Working for: 1.13 --> 1.20.4
+ */
+@SuppressWarnings({"unused", "deprecation"})
+public class ItemEditor_1_13_R1 extends AbstractItemEditor {
+    // Whether the meta of each material is Damageable, resolved once per material instead of cloning the item's meta
+    private final Map<Material, Boolean> damageable = new ConcurrentHashMap<>();
+
+    @Override
+    public ItemMeta setUnbreakable(@NotNull ItemMeta meta, boolean unbreakable) {
+        // 1.11+ method
+        meta.setUnbreakable(unbreakable);
+        return meta;
+    }
+
+    @Override
+    public boolean isUnbreakable(@NotNull ItemMeta meta) {
+        // 1.11+ method
+        return meta.isUnbreakable();
+    }
+
+    @Override
+    public ItemStack setDamage(@NotNull ItemStack item, int damage) {
+        if (!this.isDamageable(item)) {
+            throw new IllegalArgumentException("ItemMeta is not Damageable");
+        }
+        if (damage >= 0 && damage <= Short.MAX_VALUE) {
+            // CraftItemStack writes the damage straight to the nms stack
+            item.setDurability((short) damage);
+            return item;
+        }
+        // 1.13+ method
+        Damageable meta = (Damageable) item.getItemMeta();
+        meta.setDamage(damage);
+        item.setItemMeta((ItemMeta) meta);
+        return item;
+    }
+
+    @Override
+    public int getDamage(@NotNull ItemStack item) {
+        if (!this.isDamageable(item)) {
+            throw new IllegalArgumentException("ItemMeta is not Damageable");
+        }
+        // CraftItemStack reads the damage straight from the nms stack, but truncates it to a short.
+        // Only trust it within the material's durability, anything else may have wrapped around
+        short durability = item.getDurability();
+        if (durability >= 0 && durability <= item.getType().getMaxDurability()) {
+            return durability;
+        }
+        // Damage beyond the material's durability (possibly beyond the short range), read it through the meta
+        return ((Damageable) item.getItemMeta()).getDamage();
+    }
+
+    @Override
+    public boolean isDamageable(@NotNull ItemStack item) {
+        return this.damageable.computeIfAbsent(item.getType(), type -> Bukkit.getItemFactory().getItemMeta(type) instanceof Damageable);
+    }
+}
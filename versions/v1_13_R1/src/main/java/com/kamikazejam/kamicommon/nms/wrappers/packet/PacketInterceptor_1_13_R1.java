@@ -0,0 +1,90 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet;
+
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandle;
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandles;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.listener.PacketDirection;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.listener.PacketInterceptor;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import net.minecraft.server.v1_13_R1.PacketPlayOutMapChunk;
+import org.bukkit.craftbukkit.v1_13_R1.entity.CraftPlayer;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+@SuppressWarnings("unchecked")
+public class PacketInterceptor_1_13_R1 extends PacketInterceptor {
+    private static final FieldHandle<Integer> chunkXHandle = (FieldHandle<Integer>) FieldHandles.getHandle("a", PacketPlayOutMapChunk.class);
+    private static final FieldHandle<Integer> chunkZHandle = (FieldHandle<Integer>) FieldHandles.getHandle("b", PacketPlayOutMapChunk.class);
+
+    @Override
+    public void inject(@NotNull Player player) {
+        @Nullable Channel channel = getChannel(player);
+        if (channel == null || !channel.isOpen()) { return; }
+
+        // Modify the pipeline on its own event loop to avoid racing the connection setup
+        channel.eventLoop().execute(() -> {
+            ChannelPipeline pipeline = channel.pipeline();
+            if (pipeline.get(HANDLER_NAME) != null || pipeline.get("packet_handler") == null) { return; }
+            pipeline.addBefore("packet_handler", HANDLER_NAME, new InterceptorHandler(player));
+        });
+    }
+
+    @Override
+    public void uninject(@NotNull Player player) {
+        @Nullable Channel channel = getChannel(player);
+        if (channel == null) { return; }
+
+        channel.eventLoop().execute(() -> {
+            ChannelPipeline pipeline = channel.pipeline();
+            if (pipeline.get(HANDLER_NAME) != null) {
+                pipeline.remove(HANDLER_NAME);
+            }
+        });
+    }
+
+    @Nullable
+    private static Channel getChannel(@NotNull Player player) {
+        CraftPlayer craftPlayer = (CraftPlayer) player;
+        if (craftPlayer.getHandle().playerConnection == null) { return null; }
+        return craftPlayer.getHandle().playerConnection.networkManager.channel;
+    }
+
+    private final class InterceptorHandler extends ChannelDuplexHandler {
+        private final @NotNull Player player;
+        private InterceptorHandler(@NotNull Player player) {
+            this.player = player;
+        }
+
+        @Override
+        public void channelRead(@NotNull ChannelHandlerContext ctx, @NotNull Object msg) throws Exception {
+            @Nullable Object packet = dispatch(this.player, PacketDirection.INBOUND, msg);
+            if (packet != null) {
+                super.channelRead(ctx, packet);
+            }
+        }
+
+        @Override
+        public void write(@NotNull ChannelHandlerContext ctx, @NotNull Object msg, @NotNull ChannelPromise promise) throws Exception {
+            @Nullable Object packet = dispatch(this.player, PacketDirection.OUTBOUND, msg);
+            if (packet != null) {
+                super.write(ctx, packet, promise);
+                if (hasChunkSendListeners()) {
+                    this.notifyChunks(packet);
+                }
+            } else {
+                // Dropped packets still need their promise completed so listeners on the write are notified
+                promise.trySuccess();
+            }
+        }
+
+        private void notifyChunks(@NotNull Object packet) {
+            if (packet instanceof PacketPlayOutMapChunk chunk) {
+                fireChunkSent(this.player, chunkXHandle.get(chunk), chunkZHandle.get(chunk));
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandle;
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandles;
+import net.minecraft.server.v1_13_R1.BlockPosition;
+import net.minecraft.server.v1_13_R1.PacketPlayOutBlockChange;
+import org.jetbrains.annotations.NotNull;
+
+@SuppressWarnings("unchecked")
+public class OutBlockChange_1_13_R1 implements NMSOutBlockChange {
+    private static final FieldHandle<BlockPosition> positionHandle = (FieldHandle<BlockPosition>) FieldHandles.getHandle("a", PacketPlayOutBlockChange.class);
+
+    private final @NotNull PacketPlayOutBlockChange packet;
+
+    public OutBlockChange_1_13_R1(@NotNull PacketPlayOutBlockChange packet) {
+        this.packet = packet;
+    }
+
+    @Override
+    public @NotNull Object getHandle() {
+        return this.packet;
+    }
+
+    @Override
+    public int getX() {
+        return OutBlockChange_1_13_R1.positionHandle.get(this.packet).getX();
+    }
+
+    @Override
+    public int getY() {
+        return OutBlockChange_1_13_R1.positionHandle.get(this.packet).getY();
+    }
+
+    @Override
+    public int getZ() {
+        return OutBlockChange_1_13_R1.positionHandle.get(this.packet).getZ();
+    }
+}
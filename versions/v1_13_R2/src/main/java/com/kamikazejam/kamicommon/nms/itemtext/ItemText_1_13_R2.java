@@ -1,6 +1,7 @@
 package com.kamikazejam.kamicommon.nms.itemtext;
 
 import com.kamikazejam.kamicommon.nms.abstraction.itemtext.AbstractItemTextPre_1_17;
+import com.kamikazejam.kamicommon.nms.abstraction.itemtext.ItemNbtCache;
 import net.md_5.bungee.api.chat.BaseComponent;
 import net.md_5.bungee.api.chat.TextComponent;
 import net.minecraft.server.v1_13_R2.NBTTagCompound;
@@ -8,17 +9,19 @@ import org.bukkit.craftbukkit.v1_13_R2.inventory.CraftItemStack;
 import org.bukkit.inventory.ItemStack;
 
 public class ItemText_1_13_R2 implements AbstractItemTextPre_1_17 {
+    private final ItemNbtCache<net.minecraft.server.v1_13_R2.ItemStack> nbtCache = new ItemNbtCache<>(
+            CraftItemStack.class, CraftItemStack::asNMSCopy, stack -> stack.save(new NBTTagCompound()).toString()
+    );
+
     @Override
     public BaseComponent[] getComponents(ItemStack item) {
-        net.minecraft.server.v1_13_R2.ItemStack v1_13_R2Stack = CraftItemStack.asNMSCopy(item);
-        if (v1_13_R2Stack == null) { return TextComponent.fromLegacyText(""); }
-        return new BaseComponent[]{ new TextComponent(v1_13_R2Stack.save(new NBTTagCompound()).toString()) };
+        String nbt = this.nbtCache.get(item);
+        if (nbt.isEmpty()) { return TextComponent.fromLegacyText(""); }
+        return new BaseComponent[]{ new TextComponent(nbt) };
     }
 
     @Override
     public String getNbtStringTooltip(ItemStack item) {
-        net.minecraft.server.v1_13_R2.ItemStack v1_13_R2Stack = CraftItemStack.asNMSCopy(item);
-        if (v1_13_R2Stack == null) { return ""; }
-        return v1_13_R2Stack.save(new NBTTagCompound()).toString();
+        return this.nbtCache.get(item);
     }
 }
@@ -1,21 +1,104 @@
 package com.kamikazejam.kamicommon.nms.wrappers.packet;
 
-import com.kamikazejam.kamicommon.nms.wrappers.packet.impl.NMSOutEntityDestroy;
-import com.kamikazejam.kamicommon.nms.wrappers.packet.impl.OutEntityDestroy_1_13_R2;
-import com.kamikazejam.kamicommon.nms.wrappers.packet.impl.OutEntityStatus_1_13_R2;
-import net.minecraft.server.v1_13_R2.Packet;
-import net.minecraft.server.v1_13_R2.PacketPlayOutEntityDestroy;
-import net.minecraft.server.v1_13_R2.PacketPlayOutEntityStatus;
+import com.cryptomorin.xseries.XMaterial;
+import com.kamikazejam.kamicommon.nms.abstraction.block.IBlockUtil1_13;
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandle;
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandles;
+import com.kamikazejam.kamicommon.nms.util.data.BlockPosKey;
+import com.kamikazejam.kamicommon.nms.util.data.XBlockData;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.data.EntityMetadata;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.impl.*;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.listener.PacketInterceptor;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.server.v1_13_R2.*;
+import org.bukkit.Location;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.craftbukkit.v1_13_R2.CraftWorld;
+import org.bukkit.craftbukkit.v1_13_R2.block.data.CraftBlockData;
 import org.bukkit.craftbukkit.v1_13_R2.entity.CraftPlayer;
+import org.bukkit.craftbukkit.v1_13_R2.inventory.CraftItemStack;
+import org.bukkit.craftbukkit.v1_13_R2.util.CraftChatMessage;
+import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Function;
+
+@SuppressWarnings("unchecked")
 public class NMSPacketHandler_1_13_R2 implements NMSPacketHandler {
+    private static final FieldHandle<Integer> entityIdHandle = (FieldHandle<Integer>) FieldHandles.getHandle("id", Entity.class);
+    private static final FieldHandle<BlockPosition> blockChangePositionHandle = (FieldHandle<BlockPosition>) FieldHandles.getHandle("a", PacketPlayOutBlockChange.class);
+    private static final FieldHandle<ChunkCoordIntPair> multiBlockChunkHandle = (FieldHandle<ChunkCoordIntPair>) FieldHandles.getHandle("a", PacketPlayOutMultiBlockChange.class);
+    private static final FieldHandle<PacketPlayOutMultiBlockChange.MultiBlockChangeInfo[]> multiBlockInfoHandle = (FieldHandle<PacketPlayOutMultiBlockChange.MultiBlockChangeInfo[]>) FieldHandles.getHandle("b", PacketPlayOutMultiBlockChange.class);
+
+    // Data watcher indices
+    private static final int DATA_SHARED_FLAGS = 0;
+    private static final int DATA_CUSTOM_NAME = 2;
+    private static final int DATA_CUSTOM_NAME_VISIBLE = 3;
+    private static final int DATA_SILENT = 4;
+    private static final int DATA_NO_GRAVITY = 5;
+    private static final int DATA_ARMOR_STAND_FLAGS = 11;
+    // Relative moves are encoded in 1/4096ths of a block, and sent as shorts
+    private static final double MAX_RELATIVE_MOVE = Short.MAX_VALUE / 4096D;
+
+    // Object type ids used by PacketPlayOutSpawnEntity (non-living entities)
+    private static final Map<EntityType, Integer> OBJECT_TYPES = new EnumMap<>(EntityType.class);
+    static {
+        OBJECT_TYPES.put(EntityType.BOAT, 1);
+        OBJECT_TYPES.put(EntityType.DROPPED_ITEM, 2);
+        OBJECT_TYPES.put(EntityType.AREA_EFFECT_CLOUD, 3);
+        OBJECT_TYPES.put(EntityType.MINECART, 10);
+        OBJECT_TYPES.put(EntityType.PRIMED_TNT, 50);
+        OBJECT_TYPES.put(EntityType.ENDER_CRYSTAL, 51);
+        OBJECT_TYPES.put(EntityType.ARROW, 60);
+        OBJECT_TYPES.put(EntityType.SNOWBALL, 61);
+        OBJECT_TYPES.put(EntityType.EGG, 62);
+        OBJECT_TYPES.put(EntityType.FIREBALL, 63);
+        OBJECT_TYPES.put(EntityType.SMALL_FIREBALL, 64);
+        OBJECT_TYPES.put(EntityType.ENDER_PEARL, 65);
+        OBJECT_TYPES.put(EntityType.WITHER_SKULL, 66);
+        OBJECT_TYPES.put(EntityType.SHULKER_BULLET, 67);
+        OBJECT_TYPES.put(EntityType.LLAMA_SPIT, 68);
+        OBJECT_TYPES.put(EntityType.ENDER_SIGNAL, 72);
+        OBJECT_TYPES.put(EntityType.THROWN_EXP_BOTTLE, 75);
+        OBJECT_TYPES.put(EntityType.FIREWORK, 76);
+        OBJECT_TYPES.put(EntityType.ARMOR_STAND, 78);
+        OBJECT_TYPES.put(EntityType.EVOKER_FANGS, 79);
+        OBJECT_TYPES.put(EntityType.SPECTRAL_ARROW, 91);
+        OBJECT_TYPES.put(EntityType.DRAGON_FIREBALL, 93);
+        OBJECT_TYPES.put(EntityType.TRIDENT, 94);
+    }
+
+    // Precomputed packet class -> wrapper factory table, so wrapping is a map lookup instead of an instanceof chain
+    private static final Map<Class<?>, Function<Object, NMSPacket>> WRAPPERS = Map.of(
+            PacketPlayOutEntityStatus.class, p -> new OutEntityStatus_1_13_R2((PacketPlayOutEntityStatus) p),
+            PacketPlayOutEntityDestroy.class, p -> new OutEntityDestroy_1_13_R2((PacketPlayOutEntityDestroy) p),
+            PacketPlayOutSpawnEntityLiving.class, p -> new OutSpawnEntity_1_13_R2((PacketPlayOutSpawnEntityLiving) p),
+            PacketPlayOutSpawnEntity.class, p -> new OutSpawnEntity_1_13_R2((PacketPlayOutSpawnEntity) p),
+            PacketPlayOutEntityMetadata.class, p -> new OutEntityMetadata_1_13_R2((PacketPlayOutEntityMetadata) p),
+            PacketPlayOutEntity.class, p -> new OutEntityMove_1_13_R2((PacketPlayOutEntity) p),
+            PacketPlayOutEntityTeleport.class, p -> new OutEntityTeleport_1_13_R2((PacketPlayOutEntityTeleport) p),
+            PacketPlayOutEntityEquipment.class, p -> new OutEntityEquipment_1_13_R2((PacketPlayOutEntityEquipment) p),
+            PacketPlayOutBlockChange.class, p -> new OutBlockChange_1_13_R2((PacketPlayOutBlockChange) p),
+            PacketPlayOutMultiBlockChange.class, p -> new OutMultiBlockChange_1_13_R2((PacketPlayOutMultiBlockChange) p)
+    );
+
+    private final @NotNull PacketInterceptor_1_13_R2 interceptor = new PacketInterceptor_1_13_R2();
 
     @Override
     public @NotNull NMSPacket wrapPacket(@NotNull Object packet) {
-        if (packet instanceof PacketPlayOutEntityStatus) {
-            return new OutEntityStatus_1_13_R2((PacketPlayOutEntityStatus) packet);
+        // Walk up the hierarchy so packet subclasses (i.e. PacketPlayOutRelEntityMove) resolve to their base wrapper
+        for (Class<?> clazz = packet.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
+            @Nullable Function<Object, NMSPacket> factory = WRAPPERS.get(clazz);
+            if (factory != null) {
+                return factory.apply(packet);
+            }
         }
         throw new IllegalArgumentException("Unknown packet type: " + packet.getClass().getName());
     }
@@ -25,9 +108,189 @@ public class NMSPacketHandler_1_13_R2 implements NMSPacketHandler {
         return new OutEntityDestroy_1_13_R2(new PacketPlayOutEntityDestroy(ids));
     }
 
+    @Override
+    public @NotNull NMSOutSpawnEntity createSpawnEntityPacket(int entityId, @NotNull UUID uuid, @NotNull EntityType type, @NotNull Location location) {
+        // The spawn packets are built from an entity instance, so construct one without adding it to the world
+        //  (the uuid is not applied, the entity keeps the random one it was created with)
+        @Nullable Class<? extends org.bukkit.entity.Entity> entityClass = type.getEntityClass();
+        boolean living = entityClass != null && org.bukkit.entity.LivingEntity.class.isAssignableFrom(entityClass);
+        if (entityClass == null || type == EntityType.PLAYER || (!living && !OBJECT_TYPES.containsKey(type))) {
+            throw new IllegalArgumentException("EntityType " + type + " cannot be spawned by packet.");
+        }
+
+        CraftWorld world = (CraftWorld) Objects.requireNonNull(location.getWorld(), "location world");
+        Entity entity = world.createEntity(location, entityClass);
+        entity.setPositionRotation(location.getX(), location.getY(), location.getZ(), location.getYaw(), location.getPitch());
+        entityIdHandle.set(entity, entityId);
+
+        if (entity instanceof EntityLiving livingEntity) {
+            return new OutSpawnEntity_1_13_R2(new PacketPlayOutSpawnEntityLiving(livingEntity));
+        }
+        return new OutSpawnEntity_1_13_R2(new PacketPlayOutSpawnEntity(entity, OBJECT_TYPES.get(type)));
+    }
+
+    @Override
+    public @NotNull NMSOutEntityMetadata createEntityMetadataPacket(int entityId, @NotNull EntityMetadata metadata) {
+        DataWatcher watcher = new DataWatcher(null);
+        if (metadata.hasEntityFlags()) {
+            watcher.register(new DataWatcherObject<>(DATA_SHARED_FLAGS, DataWatcherRegistry.a), metadata.packEntityFlags(true));
+        }
+        if (metadata.getCustomName() != null) {
+            @Nullable IChatBaseComponent name = CraftChatMessage.fromStringOrNull(metadata.getCustomName());
+            watcher.register(new DataWatcherObject<>(DATA_CUSTOM_NAME, DataWatcherRegistry.f), Optional.ofNullable(name));
+        }
+        if (metadata.getCustomNameVisible() != null) {
+            watcher.register(new DataWatcherObject<>(DATA_CUSTOM_NAME_VISIBLE, DataWatcherRegistry.i), metadata.getCustomNameVisible());
+        }
+        if (metadata.getSilent() != null) {
+            watcher.register(new DataWatcherObject<>(DATA_SILENT, DataWatcherRegistry.i), metadata.getSilent());
+        }
+        if (metadata.getNoGravity() != null) {
+            watcher.register(new DataWatcherObject<>(DATA_NO_GRAVITY, DataWatcherRegistry.i), metadata.getNoGravity());
+        }
+        if (metadata.hasArmorStandFlags()) {
+            watcher.register(new DataWatcherObject<>(DATA_ARMOR_STAND_FLAGS, DataWatcherRegistry.a), metadata.packArmorStandFlags(false));
+        }
+        return new OutEntityMetadata_1_13_R2(new PacketPlayOutEntityMetadata(entityId, watcher, true));
+    }
+
+    @Override
+    public @NotNull NMSOutEntityMove createRelativeMovePacket(int entityId, double dx, double dy, double dz, boolean onGround) {
+        return new OutEntityMove_1_13_R2(new PacketPlayOutEntity.PacketPlayOutRelEntityMove(
+                entityId, encodeDelta(dx), encodeDelta(dy), encodeDelta(dz), onGround
+        ));
+    }
+
+    @Override
+    public @NotNull NMSOutEntityTeleport createTeleportPacket(int entityId, @NotNull Location location, boolean onGround) {
+        // The packet can only be built from an Entity, so decode it from its wire format instead
+        PacketDataSerializer serializer = new PacketDataSerializer(Unpooled.buffer());
+        try {
+            writeVarInt(serializer, entityId);
+            serializer.writeDouble(location.getX());
+            serializer.writeDouble(location.getY());
+            serializer.writeDouble(location.getZ());
+            serializer.writeByte(encodeAngle(location.getYaw()));
+            serializer.writeByte(encodeAngle(location.getPitch()));
+            serializer.writeBoolean(onGround);
+            PacketPlayOutEntityTeleport packet = new PacketPlayOutEntityTeleport();
+            packet.a(serializer);
+            return new OutEntityTeleport_1_13_R2(packet);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to decode the teleport packet", e);
+        } finally {
+            serializer.release();
+        }
+    }
+
+    @Override
+    public @NotNull NMSOutEntityEquipment createEquipmentPacket(int entityId, @NotNull NMSOutEntityEquipment.Slot slot, @Nullable ItemStack item) {
+        EnumItemSlot nmsSlot = switch (slot) {
+            case MAIN_HAND -> EnumItemSlot.MAINHAND;
+            case OFF_HAND -> EnumItemSlot.OFFHAND;
+            case FEET -> EnumItemSlot.FEET;
+            case LEGS -> EnumItemSlot.LEGS;
+            case CHEST -> EnumItemSlot.CHEST;
+            case HEAD -> EnumItemSlot.HEAD;
+        };
+        return new OutEntityEquipment_1_13_R2(new PacketPlayOutEntityEquipment(entityId, nmsSlot, CraftItemStack.asNMSCopy(item)));
+    }
+
+    @Override
+    public @NotNull NMSOutBlockChange createBlockChangePacket(int x, int y, int z, @NotNull XBlockData blockData) {
+        PacketPlayOutBlockChange packet = new PacketPlayOutBlockChange();
+        blockChangePositionHandle.set(packet, new BlockPosition(x, y, z));
+        packet.block = toBlockData(x, y, z, blockData);
+        return new OutBlockChange_1_13_R2(packet);
+    }
+
+    @Override
+    public @NotNull List<NMSPacket> createBlockChangePackets(@NotNull Map<Long, XBlockData> blocks) {
+        Map<Long, Object> states = new HashMap<>(blocks.size());
+        for (Map.Entry<Long, XBlockData> entry : blocks.entrySet()) {
+            long key = entry.getKey();
+            states.put(key, toBlockData(BlockPosKey.getX(key), BlockPosKey.getY(key), BlockPosKey.getZ(key), entry.getValue()));
+        }
+        return this.createResolvedBlockChangePackets(states);
+    }
+
+    @Override
+    public @NotNull Object resolveBlockState(int x, int y, int z, @NotNull XBlockData blockData) {
+        return toBlockData(x, y, z, blockData);
+    }
+
+    @Override
+    public @NotNull List<NMSPacket> createResolvedBlockChangePackets(@NotNull Map<Long, Object> states) {
+        // Group by chunk, each chunk is sent as a single packet
+        Map<Long, List<Map.Entry<Long, Object>>> chunks = new HashMap<>();
+        for (Map.Entry<Long, Object> entry : states.entrySet()) {
+            chunks.computeIfAbsent(BlockPosKey.getChunkKey(entry.getKey()), k -> new ArrayList<>()).add(entry);
+        }
+
+        List<NMSPacket> packets = new ArrayList<>(chunks.size());
+        for (Map.Entry<Long, List<Map.Entry<Long, Object>>> chunk : chunks.entrySet()) {
+            List<Map.Entry<Long, Object>> entries = chunk.getValue();
+            if (entries.size() == 1) {
+                long key = entries.getFirst().getKey();
+                PacketPlayOutBlockChange packet = new PacketPlayOutBlockChange();
+                blockChangePositionHandle.set(packet, new BlockPosition(BlockPosKey.getX(key), BlockPosKey.getY(key), BlockPosKey.getZ(key)));
+                packet.block = (IBlockData) entries.getFirst().getValue();
+                packets.add(new OutBlockChange_1_13_R2(packet));
+                continue;
+            }
+
+            PacketPlayOutMultiBlockChange packet = new PacketPlayOutMultiBlockChange();
+            PacketPlayOutMultiBlockChange.MultiBlockChangeInfo[] infos = new PacketPlayOutMultiBlockChange.MultiBlockChangeInfo[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                long key = entries.get(i).getKey();
+                short position = (short) ((BlockPosKey.getX(key) & 15) << 12 | (BlockPosKey.getZ(key) & 15) << 8 | BlockPosKey.getY(key));
+                infos[i] = packet.new MultiBlockChangeInfo(position, (IBlockData) entries.get(i).getValue());
+            }
+            multiBlockChunkHandle.set(packet, new ChunkCoordIntPair((int) (chunk.getKey() >> 32), (int) (long) chunk.getKey()));
+            multiBlockInfoHandle.set(packet, infos);
+            packets.add(new OutMultiBlockChange_1_13_R2(packet));
+        }
+        return packets;
+    }
+
     @Override
     @SuppressWarnings("rawtypes")
     public void sendPacket(@NotNull Player player, @NotNull NMSPacket packet) {
         ((CraftPlayer) player).getHandle().playerConnection.sendPacket((Packet) packet.getHandle());
     }
+
+    @Override
+    public @NotNull PacketInterceptor getPacketInterceptor() {
+        return this.interceptor;
+    }
+
+    @NotNull
+    private static IBlockData toBlockData(int x, int y, int z, @NotNull XBlockData blockData) {
+        @Nullable BlockData data = IBlockUtil1_13.findBlockData(new Vector(x, y, z), blockData);
+        if (data == null) {
+            XMaterial material = Objects.requireNonNull(blockData.getMaterialData().getMaterial());
+            data = IBlockUtil1_13.createBlockData(material);
+        }
+        return ((CraftBlockData) data).getState();
+    }
+
+    private static long encodeDelta(double delta) {
+        if (Math.abs(delta) > MAX_RELATIVE_MOVE) {
+            throw new IllegalArgumentException("Relative move of " + delta + " exceeds the maximum of " + MAX_RELATIVE_MOVE + " blocks.");
+        }
+        return (long) Math.round(delta * 4096D);
+    }
+
+    private static byte encodeAngle(float degrees) {
+        return (byte) ((int) (degrees * 256.0F / 360.0F));
+    }
+
+    // Same encoding as the serializer's own (obfuscated) var int writer
+    private static void writeVarInt(@NotNull ByteBuf buf, int value) {
+        while ((value & -128) != 0) {
+            buf.writeByte(value & 127 | 128);
+            value >>>= 7;
+        }
+        buf.writeByte(value);
+    }
 }
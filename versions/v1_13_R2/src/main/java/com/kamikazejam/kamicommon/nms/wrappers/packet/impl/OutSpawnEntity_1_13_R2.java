@@ -0,0 +1,38 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandle;
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandles;
+import net.minecraft.server.v1_13_R2.Packet;
+import net.minecraft.server.v1_13_R2.PacketPlayOutSpawnEntity;
+import net.minecraft.server.v1_13_R2.PacketPlayOutSpawnEntityLiving;
+import org.jetbrains.annotations.NotNull;
+
+// Living entities and objects use separate spawn packets, this wrapper covers both
+@SuppressWarnings("unchecked")
+public class OutSpawnEntity_1_13_R2 implements NMSOutSpawnEntity {
+    private static final FieldHandle<Integer> livingEntityHandle = (FieldHandle<Integer>) FieldHandles.getHandle("a", PacketPlayOutSpawnEntityLiving.class);
+    private static final FieldHandle<Integer> objectEntityHandle = (FieldHandle<Integer>) FieldHandles.getHandle("a", PacketPlayOutSpawnEntity.class);
+
+    private final @NotNull Packet<?> packet;
+    private final @NotNull FieldHandle<Integer> entityHandle;
+
+    public OutSpawnEntity_1_13_R2(@NotNull PacketPlayOutSpawnEntityLiving packet) {
+        this.packet = packet;
+        this.entityHandle = livingEntityHandle;
+    }
+
+    public OutSpawnEntity_1_13_R2(@NotNull PacketPlayOutSpawnEntity packet) {
+        this.packet = packet;
+        this.entityHandle = objectEntityHandle;
+    }
+
+    @Override
+    public @NotNull Object getHandle() {
+        return this.packet;
+    }
+
+    @Override
+    public int getEntityID() {
+        return this.entityHandle.get(this.packet);
+    }
+}
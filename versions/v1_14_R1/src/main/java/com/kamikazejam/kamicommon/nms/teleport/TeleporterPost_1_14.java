@@ -0,0 +1,49 @@
+package com.kamikazejam.kamicommon.nms.teleport;
+
+import com.kamikazejam.kamicommon.nms.abstraction.teleport.AbstractTeleporter;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+// 1.14 added plugin chunk tickets, which hold the target chunks of an async batch teleport
+public abstract class TeleporterPost_1_14 extends AbstractTeleporter {
+    /**
+     * Loads every target chunk asynchronously, then runs the move step on the main thread.
+     *
+     * @param mainThread the server's main thread executor
+     * @param move moves the players (which are all online) once every target chunk is loaded
+     * @hidden
+     */
+    @NotNull
+    protected CompletableFuture<Void> teleportAfterChunksLoad(@NotNull Plugin plugin, @NotNull Map<? extends Player, ? extends Location> destinations, @NotNull Executor mainThread, @NotNull Consumer<Map<Player, Location>> move) {
+        final Map<Player, Location> targets = copyDestinations(destinations);
+        final Set<ChunkTarget> chunks = groupByChunk(targets).keySet();
+
+        // The tickets keep the chunks loaded from the moment they are requested until every player has been moved,
+        //  and the chunks are loaded asynchronously (all at once) instead of being loaded on the main thread.
+        return CompletableFuture.runAsync(() -> chunks.forEach(c -> c.world().addPluginChunkTicket(c.x(), c.z(), plugin)), mainThread)
+                .thenCompose(v -> CompletableFuture.allOf(chunks.stream()
+                        .map(this::loadChunkAsync)
+                        .toArray(CompletableFuture[]::new)))
+                .thenRunAsync(() -> {
+                    targets.keySet().removeIf(player -> !player.isOnline());
+                    move.accept(targets);
+                }, mainThread)
+                .whenCompleteAsync((v, t) -> chunks.forEach(c -> c.world().removePluginChunkTicket(c.x(), c.z(), plugin)), mainThread);
+    }
+
+    /**
+     * Loads a target chunk without blocking the main thread (i.e. Paper's {@code World#getChunkAtAsync}).
+     *
+     * @hidden
+     */
+    @NotNull
+    protected abstract CompletableFuture<?> loadChunkAsync(@NotNull ChunkTarget chunk);
+}
@@ -0,0 +1,33 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandle;
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandles;
+import net.minecraft.server.v1_16_R2.PacketPlayOutMultiBlockChange;
+import net.minecraft.server.v1_16_R2.SectionPosition;
+import org.jetbrains.annotations.NotNull;
+
+@SuppressWarnings("unchecked")
+public class OutMultiBlockChange_1_16_R2 implements NMSOutMultiBlockChange {
+    private static final FieldHandle<SectionPosition> sectionHandle = (FieldHandle<SectionPosition>) FieldHandles.getHandle("a", PacketPlayOutMultiBlockChange.class);
+
+    private final @NotNull PacketPlayOutMultiBlockChange packet;
+
+    public OutMultiBlockChange_1_16_R2(@NotNull PacketPlayOutMultiBlockChange packet) {
+        this.packet = packet;
+    }
+
+    @Override
+    public @NotNull Object getHandle() {
+        return this.packet;
+    }
+
+    @Override
+    public int getChunkX() {
+        return OutMultiBlockChange_1_16_R2.sectionHandle.get(this.packet).getX();
+    }
+
+    @Override
+    public int getChunkZ() {
+        return OutMultiBlockChange_1_16_R2.sectionHandle.get(this.packet).getZ();
+    }
+}
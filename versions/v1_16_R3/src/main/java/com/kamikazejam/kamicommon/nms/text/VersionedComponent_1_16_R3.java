@@ -5,12 +5,16 @@ import com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.minimessage.Mini
 import com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.serializer.bungeecord.BungeeComponentSerializer;
 import com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import net.md_5.bungee.api.chat.BaseComponent;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
 
 /**
  * Confirmed For: 1_16_R1, 1_16_R2, 1_16_R3
@@ -19,6 +23,9 @@ import org.jetbrains.annotations.NotNull;
  */
 public class VersionedComponent_1_16_R3 implements VersionedComponent {
     private final @NotNull Component component;
+    // Components are immutable, so each serialized form is computed at most once (racy but idempotent)
+    private volatile @Nullable String miniMessage, legacyAmpersand, legacySection, plainText;
+    private volatile BaseComponent[] bungee;
     public VersionedComponent_1_16_R3(@NotNull Component component) {
         this.component = component;
     }
@@ -26,43 +33,77 @@ public class VersionedComponent_1_16_R3 implements VersionedComponent {
     @Override
     public void sendTo(@NotNull CommandSender sender) {
         // Use direct spigot method
-        sender.spigot().sendMessage(BungeeComponentSerializer.get().serialize(this.component));
+        sender.spigot().sendMessage(this.serializeBungee());
+    }
+
+    @Override
+    public void broadcast(@NotNull Collection<? extends CommandSender> recipients) {
+        // Serialize once and share the result between recipients
+        BaseComponent[] components = this.serializeBungee();
+        for (CommandSender sender : recipients) {
+            sender.spigot().sendMessage(components);
+        }
     }
 
     @Override
     public @NotNull String serializeMiniMessage() {
-        return MiniMessage.miniMessage().serialize(component);
+        @Nullable String s = this.miniMessage;
+        if (s == null) {
+            this.miniMessage = s = MiniMessage.miniMessage().serialize(this.component);
+        }
+        return s;
     }
 
     @Override
     public @NotNull String serializeLegacyAmpersand() {
-        return LegacyComponentSerializer.legacyAmpersand().serialize(this.component);
+        @Nullable String s = this.legacyAmpersand;
+        if (s == null) {
+            this.legacyAmpersand = s = LegacyComponentSerializer.legacyAmpersand().serialize(this.component);
+        }
+        return s;
     }
 
     @Override
     public @NotNull String serializeLegacySection() {
-        return LegacyComponentSerializer.legacySection().serialize(this.component);
+        @Nullable String s = this.legacySection;
+        if (s == null) {
+            this.legacySection = s = LegacyComponentSerializer.legacySection().serialize(this.component);
+        }
+        return s;
     }
 
     @Override
     public @NotNull String serializePlainText() {
-        return PlainTextComponentSerializer.plainText().serialize(this.component);
+        @Nullable String s = this.plainText;
+        if (s == null) {
+            this.plainText = s = PlainTextComponentSerializer.plainText().serialize(this.component);
+        }
+        return s;
     }
 
     @Override
     public @NotNull Inventory createInventory(@NotNull InventoryHolder owner, int size) {
         // Needs to be serialized into legacy string that contains section symbols for title
-        String title = LegacyComponentSerializer.legacySection().serialize(this.component);
+        String title = this.serializeLegacySection();
         return Bukkit.createInventory(owner, size, title);
     }
 
     @Override
     public @NotNull Inventory createInventory(@NotNull InventoryHolder owner, @NotNull InventoryType type) {
         // Needs to be serialized into legacy string that contains section symbols for title
-        String title = LegacyComponentSerializer.legacySection().serialize(this.component);
+        String title = this.serializeLegacySection();
         return Bukkit.createInventory(owner, type, title);
     }
 
+    // Shared between sends, never mutate the returned array
+    private BaseComponent[] serializeBungee() {
+        BaseComponent[] components = this.bungee;
+        if (components == null) {
+            this.bungee = components = BungeeComponentSerializer.get().serialize(this.component);
+        }
+        return components;
+    }
+
     @Override
     public @NotNull Component asInternalComponent() {
         return this.component;
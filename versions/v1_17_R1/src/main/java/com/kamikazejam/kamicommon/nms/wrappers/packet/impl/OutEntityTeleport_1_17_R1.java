@@ -0,0 +1,22 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import net.minecraft.network.protocol.game.ClientboundTeleportEntityPacket;
+import org.jetbrains.annotations.NotNull;
+
+public class OutEntityTeleport_1_17_R1 implements NMSOutEntityTeleport {
+    private final @NotNull ClientboundTeleportEntityPacket packet;
+
+    public OutEntityTeleport_1_17_R1(@NotNull ClientboundTeleportEntityPacket packet) {
+        this.packet = packet;
+    }
+
+    @Override
+    public @NotNull Object getHandle() {
+        return this.packet;
+    }
+
+    @Override
+    public int getEntityID() {
+        return this.packet.getId();
+    }
+}
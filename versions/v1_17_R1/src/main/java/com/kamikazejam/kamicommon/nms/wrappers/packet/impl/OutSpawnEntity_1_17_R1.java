@@ -0,0 +1,32 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundAddEntityPacket;
+import net.minecraft.network.protocol.game.ClientboundAddMobPacket;
+import org.jetbrains.annotations.NotNull;
+
+// Before 1.19 living entities use a separate spawn packet, this wrapper covers both
+public class OutSpawnEntity_1_17_R1 implements NMSOutSpawnEntity {
+    private final @NotNull Packet<?> packet;
+    private final int entityId;
+
+    public OutSpawnEntity_1_17_R1(@NotNull ClientboundAddMobPacket packet) {
+        this.packet = packet;
+        this.entityId = packet.getId();
+    }
+
+    public OutSpawnEntity_1_17_R1(@NotNull ClientboundAddEntityPacket packet) {
+        this.packet = packet;
+        this.entityId = packet.getId();
+    }
+
+    @Override
+    public @NotNull Object getHandle() {
+        return this.packet;
+    }
+
+    @Override
+    public int getEntityID() {
+        return this.entityId;
+    }
+}
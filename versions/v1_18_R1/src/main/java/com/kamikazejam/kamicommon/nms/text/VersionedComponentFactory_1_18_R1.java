@@ -0,0 +1,79 @@
+package com.kamikazejam.kamicommon.nms.text;
+
+import com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component;
+import com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.minimessage.MiniMessage;
+import com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Factory for every version using the shaded adventure api (1.8 to 1.18.1).
+ * <br>
+ * The wrapper constructor differs per version range, item meta always uses legacy strings.
+ */
+public class VersionedComponentFactory_1_18_R1 implements VersionedComponentFactory {
+    private final @NotNull Function<Component, VersionedComponent> wrapper;
+    public VersionedComponentFactory_1_18_R1(@NotNull Function<Component, VersionedComponent> wrapper) {
+        this.wrapper = wrapper;
+    }
+
+    @Override
+    public @NotNull VersionedComponent fromInternalComponent(@NotNull Component component) {
+        return this.wrapper.apply(component);
+    }
+
+    @Override
+    public @NotNull VersionedComponent fromPlainText(@NotNull String text) {
+        return this.wrapper.apply(PlainTextComponentSerializer.plainText().deserialize(text));
+    }
+
+    @Override
+    public @NotNull VersionedComponent fromMiniMessage(@NotNull String miniMessage) {
+        return this.wrapper.apply(MiniMessage.miniMessage().deserialize(miniMessage));
+    }
+
+    @Override
+    public @NotNull VersionedComponent fromLegacyAmpersand(@NotNull String legacy) {
+        return this.wrapper.apply(LegacyComponentSerializer.legacyAmpersand().deserialize(legacy));
+    }
+
+    @Override
+    public @NotNull VersionedComponent fromLegacySection(@NotNull String legacy) {
+        return this.wrapper.apply(LegacyComponentSerializer.legacySection().deserialize(legacy));
+    }
+
+    @Override
+    public @NotNull ItemMeta setDisplayName(@NotNull ItemMeta meta, @Nullable VersionedComponent name) {
+        return VersionedComponent_1_18_R1.setDisplayName(meta, name);
+    }
+
+    @Override
+    public @NotNull ItemMeta setLore(@NotNull ItemMeta meta, @Nullable List<VersionedComponent> lore) {
+        return VersionedComponent_1_18_R1.setLore(meta, lore);
+    }
+
+    @Override
+    public @Nullable List<VersionedComponent> getLore(@NotNull ItemMeta meta) {
+        return VersionedComponent_1_18_R1.getLore(meta);
+    }
+
+    @Override
+    public @Nullable VersionedComponent getDisplayName(@NotNull ItemMeta meta) {
+        return VersionedComponent_1_18_R1.getDisplayName(meta);
+    }
+
+    @Override
+    public @NotNull ItemMeta addLoreLine(@NotNull ItemMeta meta, @NotNull VersionedComponent line) {
+        return VersionedComponent_1_18_R1.addLoreLine(meta, line);
+    }
+
+    @Override
+    public @NotNull ItemMeta addLoreLines(@NotNull ItemMeta meta, @NotNull List<VersionedComponent> lines) {
+        return VersionedComponent_1_18_R1.addLoreLines(meta, lines);
+    }
+}
@@ -5,6 +5,7 @@ import com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.minimessage.Mini
 import com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.serializer.bungeecord.BungeeComponentSerializer;
 import com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import net.md_5.bungee.api.chat.BaseComponent;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.event.inventory.InventoryType;
@@ -15,6 +16,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -23,6 +25,9 @@ import java.util.List;
 @SuppressWarnings("deprecation")
 public class VersionedComponent_1_18_R1 implements VersionedComponent {
     final @NotNull Component component;
+    // Components are immutable, so each serialized form is computed at most once (racy but idempotent)
+    private volatile @Nullable String miniMessage, legacyAmpersand, legacySection, plainText;
+    private volatile BaseComponent[] bungee;
     public VersionedComponent_1_18_R1(@NotNull Component component) {
         this.component = component;
     }
@@ -32,27 +37,52 @@ public class VersionedComponent_1_18_R1 implements VersionedComponent {
         // Use direct spigot method (deprecated, but lacks MiniMessage in 1.17 to fix)
         //   Have to use this because paper apis don't allow converting MiniMessage strings yet
         //    and thus we cannot obtain the right Component instance to use the paper method.
-        sender.spigot().sendMessage(BungeeComponentSerializer.get().serialize(this.component));
+        sender.spigot().sendMessage(this.serializeBungee());
+    }
+
+    @Override
+    public void broadcast(@NotNull Collection<? extends CommandSender> recipients) {
+        // Serialize once and share the result between recipients
+        BaseComponent[] components = this.serializeBungee();
+        for (CommandSender sender : recipients) {
+            sender.spigot().sendMessage(components);
+        }
     }
 
     @Override
     public @NotNull String serializeMiniMessage() {
-        return MiniMessage.miniMessage().serialize(component);
+        @Nullable String s = this.miniMessage;
+        if (s == null) {
+            this.miniMessage = s = MiniMessage.miniMessage().serialize(this.component);
+        }
+        return s;
     }
 
     @Override
     public @NotNull String serializeLegacyAmpersand() {
-        return LegacyComponentSerializer.legacyAmpersand().serialize(this.component);
+        @Nullable String s = this.legacyAmpersand;
+        if (s == null) {
+            this.legacyAmpersand = s = LegacyComponentSerializer.legacyAmpersand().serialize(this.component);
+        }
+        return s;
     }
 
     @Override
     public @NotNull String serializeLegacySection() {
-        return LegacyComponentSerializer.legacySection().serialize(this.component);
+        @Nullable String s = this.legacySection;
+        if (s == null) {
+            this.legacySection = s = LegacyComponentSerializer.legacySection().serialize(this.component);
+        }
+        return s;
     }
 
     @Override
     public @NotNull String serializePlainText() {
-        return PlainTextComponentSerializer.plainText().serialize(this.component);
+        @Nullable String s = this.plainText;
+        if (s == null) {
+            this.plainText = s = PlainTextComponentSerializer.plainText().serialize(this.component);
+        }
+        return s;
     }
 
     @Override
@@ -61,7 +91,7 @@ public class VersionedComponent_1_18_R1 implements VersionedComponent {
         //   Have to use this because paper apis don't allow converting MiniMessage strings yet
         //    and thus we cannot obtain the right Component instance to use the paper method.
         // Needs to be serialized into legacy string that contains section symbols for title
-        String title = LegacyComponentSerializer.legacySection().serialize(this.component);
+        String title = this.serializeLegacySection();
         return Bukkit.createInventory(owner, size, title);
     }
 
@@ -71,10 +101,19 @@ public class VersionedComponent_1_18_R1 implements VersionedComponent {
         //   Have to use this because paper apis don't allow converting MiniMessage strings yet
         //    and thus we cannot obtain the right Component instance to use the paper method.
         // Needs to be serialized into legacy string that contains section symbols for title
-        String title = LegacyComponentSerializer.legacySection().serialize(this.component);
+        String title = this.serializeLegacySection();
         return Bukkit.createInventory(owner, type, title);
     }
 
+    // Shared between sends, never mutate the returned array
+    private BaseComponent[] serializeBungee() {
+        BaseComponent[] components = this.bungee;
+        if (components == null) {
+            this.bungee = components = BungeeComponentSerializer.get().serialize(this.component);
+        }
+        return components;
+    }
+
     @Override
     public @NotNull Component asInternalComponent() {
         return this.component;
@@ -94,7 +133,7 @@ public class VersionedComponent_1_18_R1 implements VersionedComponent {
             meta.setDisplayName(null);
             return meta;
         }
-        meta.setDisplayName(LegacyComponentSerializer.legacySection().serialize(name.asInternalComponent()));
+        meta.setDisplayName(name.serializeLegacySection());
         return meta;
     }
     @SuppressWarnings("deprecation")
@@ -104,7 +143,7 @@ public class VersionedComponent_1_18_R1 implements VersionedComponent {
             return meta;
         }
         List<String> serializedLore = lore.stream()
-                .map(vc -> LegacyComponentSerializer.legacySection().serialize(vc.asInternalComponent()))
+                .map(VersionedComponent::serializeLegacySection)
                 .toList();
         meta.setLore(serializedLore);
         return meta;
@@ -134,7 +173,19 @@ public class VersionedComponent_1_18_R1 implements VersionedComponent {
     public static @NotNull ItemMeta addLoreLine(@NotNull ItemMeta meta, @NotNull VersionedComponent line) {
         List<String> lore = (meta.hasLore() && meta.getLore() != null) ? meta.getLore() : List.of();
         List<String> newLore = new ArrayList<>(lore);
-        newLore.add(LegacyComponentSerializer.legacySection().serialize(line.asInternalComponent()));
+        newLore.add(line.serializeLegacySection());
+        meta.setLore(newLore);
+        return meta;
+    }
+
+    @SuppressWarnings("deprecation")
+    public static @NotNull ItemMeta addLoreLines(@NotNull ItemMeta meta, @NotNull List<VersionedComponent> lines) {
+        List<String> lore = (meta.hasLore() && meta.getLore() != null) ? meta.getLore() : List.of();
+        List<String> newLore = new ArrayList<>(lore.size() + lines.size());
+        newLore.addAll(lore);
+        for (VersionedComponent line : lines) {
+            newLore.add(line.serializeLegacySection());
+        }
         meta.setLore(newLore);
         return meta;
     }
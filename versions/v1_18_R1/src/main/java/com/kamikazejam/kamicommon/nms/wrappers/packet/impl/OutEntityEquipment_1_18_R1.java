@@ -0,0 +1,22 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import net.minecraft.network.protocol.game.ClientboundSetEquipmentPacket;
+import org.jetbrains.annotations.NotNull;
+
+public class OutEntityEquipment_1_18_R1 implements NMSOutEntityEquipment {
+    private final @NotNull ClientboundSetEquipmentPacket packet;
+
+    public OutEntityEquipment_1_18_R1(@NotNull ClientboundSetEquipmentPacket packet) {
+        this.packet = packet;
+    }
+
+    @Override
+    public @NotNull Object getHandle() {
+        return this.packet;
+    }
+
+    @Override
+    public int getEntityID() {
+        return this.packet.getEntity();
+    }
+}
@@ -0,0 +1,38 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.protocol.game.ClientboundSectionBlocksUpdatePacket;
+import org.jetbrains.annotations.NotNull;
+
+public class OutMultiBlockChange_1_18_R1 implements NMSOutMultiBlockChange {
+    private final @NotNull ClientboundSectionBlocksUpdatePacket packet;
+    private final int chunkX;
+    private final int chunkZ;
+
+    public OutMultiBlockChange_1_18_R1(@NotNull ClientboundSectionBlocksUpdatePacket packet) {
+        this.packet = packet;
+        // The section position has no accessor (and its field is obfuscated at runtime), so take it from the updated blocks
+        int[] chunk = new int[2];
+        packet.runUpdates((pos, state) -> {
+            chunk[0] = SectionPos.blockToSectionCoord(pos.getX());
+            chunk[1] = SectionPos.blockToSectionCoord(pos.getZ());
+        });
+        this.chunkX = chunk[0];
+        this.chunkZ = chunk[1];
+    }
+
+    @Override
+    public @NotNull Object getHandle() {
+        return this.packet;
+    }
+
+    @Override
+    public int getChunkX() {
+        return this.chunkX;
+    }
+
+    @Override
+    public int getChunkZ() {
+        return this.chunkZ;
+    }
+}
@@ -1,21 +1,77 @@
 package com.kamikazejam.kamicommon.nms.wrappers.packet;
 
-import com.kamikazejam.kamicommon.nms.wrappers.packet.impl.NMSOutEntityDestroy;
-import com.kamikazejam.kamicommon.nms.wrappers.packet.impl.OutEntityDestroy_1_19_R1;
-import com.kamikazejam.kamicommon.nms.wrappers.packet.impl.OutEntityStatus_1_19_R1;
+import com.cryptomorin.xseries.XMaterial;
+import com.kamikazejam.kamicommon.nms.abstraction.block.IBlockUtil1_13;
+import com.kamikazejam.kamicommon.nms.util.data.BlockPosKey;
+import com.kamikazejam.kamicommon.nms.util.data.XBlockData;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.data.EntityMetadata;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.impl.*;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.listener.PacketInterceptor;
+import com.mojang.datafixers.util.Pair;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.chat.Component;
 import net.minecraft.network.protocol.Packet;
-import net.minecraft.network.protocol.game.ClientboundEntityEventPacket;
-import net.minecraft.network.protocol.game.ClientboundRemoveEntitiesPacket;
+import net.minecraft.network.protocol.game.*;
+import net.minecraft.network.syncher.EntityDataAccessor;
+import net.minecraft.network.syncher.EntityDataSerializers;
+import net.minecraft.network.syncher.SynchedEntityData;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.decoration.ArmorStand;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.Vec3;
+import org.bukkit.Location;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.craftbukkit.v1_19_R1.block.data.CraftBlockData;
 import org.bukkit.craftbukkit.v1_19_R1.entity.CraftPlayer;
+import org.bukkit.craftbukkit.v1_19_R1.inventory.CraftItemStack;
+import org.bukkit.craftbukkit.v1_19_R1.util.CraftChatMessage;
+import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Function;
 
 public class NMSPacketHandler_1_19_R1 implements NMSPacketHandler {
+    // Shared entity data indices (see Entity#defineSynchedData)
+    private static final int DATA_SHARED_FLAGS = 0;
+    private static final int DATA_CUSTOM_NAME = 2;
+    private static final int DATA_CUSTOM_NAME_VISIBLE = 3;
+    private static final int DATA_SILENT = 4;
+    private static final int DATA_NO_GRAVITY = 5;
+    // Relative moves are encoded as shorts in 1/4096ths of a block
+    private static final double MAX_RELATIVE_MOVE = Short.MAX_VALUE / 4096D;
+
+    // Precomputed packet class -> wrapper factory table, so wrapping is a map lookup instead of an instanceof chain
+    private static final Map<Class<?>, Function<Object, NMSPacket>> WRAPPERS = Map.of(
+            ClientboundEntityEventPacket.class, p -> new OutEntityStatus_1_19_R1((ClientboundEntityEventPacket) p),
+            ClientboundRemoveEntitiesPacket.class, p -> new OutEntityDestroy_1_19_R1((ClientboundRemoveEntitiesPacket) p),
+            ClientboundAddEntityPacket.class, p -> new OutSpawnEntity_1_19_R1((ClientboundAddEntityPacket) p),
+            ClientboundSetEntityDataPacket.class, p -> new OutEntityMetadata_1_19_R1((ClientboundSetEntityDataPacket) p),
+            ClientboundMoveEntityPacket.class, p -> new OutEntityMove_1_19_R1((ClientboundMoveEntityPacket) p),
+            ClientboundTeleportEntityPacket.class, p -> new OutEntityTeleport_1_19_R1((ClientboundTeleportEntityPacket) p),
+            ClientboundSetEquipmentPacket.class, p -> new OutEntityEquipment_1_19_R1((ClientboundSetEquipmentPacket) p),
+            ClientboundBlockUpdatePacket.class, p -> new OutBlockChange_1_19_R1((ClientboundBlockUpdatePacket) p),
+            ClientboundSectionBlocksUpdatePacket.class, p -> new OutMultiBlockChange_1_19_R1((ClientboundSectionBlocksUpdatePacket) p)
+    );
+
+    private final @NotNull PacketInterceptor_1_19_R1 interceptor = new PacketInterceptor_1_19_R1();
 
     @Override
     public @NotNull NMSPacket wrapPacket(@NotNull Object packet) {
-        if (packet instanceof ClientboundEntityEventPacket) {
-            return new OutEntityStatus_1_19_R1((ClientboundEntityEventPacket) packet);
+        // Walk up the hierarchy so packet subclasses (i.e. ClientboundMoveEntityPacket.Pos) resolve to their base wrapper
+        for (Class<?> clazz = packet.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
+            @Nullable Function<Object, NMSPacket> factory = WRAPPERS.get(clazz);
+            if (factory != null) {
+                return factory.apply(packet);
+            }
         }
         throw new IllegalArgumentException("Unknown packet type: " + packet.getClass().getName());
     }
@@ -25,9 +81,182 @@ public class NMSPacketHandler_1_19_R1 implements NMSPacketHandler {
         return new OutEntityDestroy_1_19_R1(new ClientboundRemoveEntitiesPacket(ids));
     }
 
+    @Override
+    public @NotNull NMSOutSpawnEntity createSpawnEntityPacket(int entityId, @NotNull UUID uuid, @NotNull EntityType type, @NotNull Location location) {
+        if (type == EntityType.PLAYER || type == EntityType.UNKNOWN) {
+            throw new IllegalArgumentException("EntityType " + type + " cannot be spawned by packet.");
+        }
+        return new OutSpawnEntity_1_19_R1(new ClientboundAddEntityPacket(
+                entityId, uuid,
+                location.getX(), location.getY(), location.getZ(),
+                location.getPitch(), location.getYaw(),
+                toEntityType(type),
+                0, Vec3.ZERO, location.getYaw()
+        ));
+    }
+
+    @Override
+    public @NotNull NMSOutEntityMetadata createEntityMetadataPacket(int entityId, @NotNull EntityMetadata metadata) {
+        SynchedEntityData data = new SynchedEntityData(null);
+        if (metadata.hasEntityFlags()) {
+            data.define(new EntityDataAccessor<>(DATA_SHARED_FLAGS, EntityDataSerializers.BYTE), metadata.packEntityFlags(true));
+        }
+        if (metadata.getCustomName() != null) {
+            @Nullable Component name = CraftChatMessage.fromStringOrNull(metadata.getCustomName());
+            data.define(new EntityDataAccessor<>(DATA_CUSTOM_NAME, EntityDataSerializers.OPTIONAL_COMPONENT), Optional.ofNullable(name));
+        }
+        if (metadata.getCustomNameVisible() != null) {
+            data.define(new EntityDataAccessor<>(DATA_CUSTOM_NAME_VISIBLE, EntityDataSerializers.BOOLEAN), metadata.getCustomNameVisible());
+        }
+        if (metadata.getSilent() != null) {
+            data.define(new EntityDataAccessor<>(DATA_SILENT, EntityDataSerializers.BOOLEAN), metadata.getSilent());
+        }
+        if (metadata.getNoGravity() != null) {
+            data.define(new EntityDataAccessor<>(DATA_NO_GRAVITY, EntityDataSerializers.BOOLEAN), metadata.getNoGravity());
+        }
+        if (metadata.hasArmorStandFlags()) {
+            data.define(ArmorStand.DATA_CLIENT_FLAGS, metadata.packArmorStandFlags(false));
+        }
+        return new OutEntityMetadata_1_19_R1(new ClientboundSetEntityDataPacket(entityId, data, true));
+    }
+
+    @Override
+    public @NotNull NMSOutEntityMove createRelativeMovePacket(int entityId, double dx, double dy, double dz, boolean onGround) {
+        return new OutEntityMove_1_19_R1(new ClientboundMoveEntityPacket.Pos(
+                entityId, encodeDelta(dx), encodeDelta(dy), encodeDelta(dz), onGround
+        ));
+    }
+
+    @Override
+    public @NotNull NMSOutEntityTeleport createTeleportPacket(int entityId, @NotNull Location location, boolean onGround) {
+        // The packet can only be built from an Entity, so decode it from its wire format instead
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        try {
+            buf.writeVarInt(entityId);
+            buf.writeDouble(location.getX());
+            buf.writeDouble(location.getY());
+            buf.writeDouble(location.getZ());
+            buf.writeByte(encodeAngle(location.getYaw()));
+            buf.writeByte(encodeAngle(location.getPitch()));
+            buf.writeBoolean(onGround);
+            return new OutEntityTeleport_1_19_R1(new ClientboundTeleportEntityPacket(buf));
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Override
+    public @NotNull NMSOutEntityEquipment createEquipmentPacket(int entityId, @NotNull NMSOutEntityEquipment.Slot slot, @Nullable ItemStack item) {
+        EquipmentSlot nmsSlot = switch (slot) {
+            case MAIN_HAND -> EquipmentSlot.MAINHAND;
+            case OFF_HAND -> EquipmentSlot.OFFHAND;
+            case FEET -> EquipmentSlot.FEET;
+            case LEGS -> EquipmentSlot.LEGS;
+            case CHEST -> EquipmentSlot.CHEST;
+            case HEAD -> EquipmentSlot.HEAD;
+        };
+        return new OutEntityEquipment_1_19_R1(new ClientboundSetEquipmentPacket(
+                entityId, List.of(Pair.of(nmsSlot, CraftItemStack.asNMSCopy(item)))
+        ));
+    }
+
+    @Override
+    public @NotNull NMSOutBlockChange createBlockChangePacket(int x, int y, int z, @NotNull XBlockData blockData) {
+        return new OutBlockChange_1_19_R1(new ClientboundBlockUpdatePacket(new BlockPos(x, y, z), toBlockState(x, y, z, blockData)));
+    }
+
+    @Override
+    public @NotNull List<NMSPacket> createBlockChangePackets(@NotNull Map<Long, XBlockData> blocks) {
+        Map<Long, Object> states = new HashMap<>(blocks.size());
+        for (Map.Entry<Long, XBlockData> entry : blocks.entrySet()) {
+            long key = entry.getKey();
+            states.put(key, toBlockState(BlockPosKey.getX(key), BlockPosKey.getY(key), BlockPosKey.getZ(key), entry.getValue()));
+        }
+        return this.createResolvedBlockChangePackets(states);
+    }
+
+    @Override
+    public @NotNull Object resolveBlockState(int x, int y, int z, @NotNull XBlockData blockData) {
+        return toBlockState(x, y, z, blockData);
+    }
+
+    @Override
+    public @NotNull List<NMSPacket> createResolvedBlockChangePackets(@NotNull Map<Long, Object> states) {
+        // Group by chunk section, each section is sent as a single packet
+        Map<Long, List<Map.Entry<Long, Object>>> sections = new HashMap<>();
+        for (Map.Entry<Long, Object> entry : states.entrySet()) {
+            long key = entry.getKey();
+            long section = SectionPos.asLong(BlockPosKey.getX(key) >> 4, BlockPosKey.getY(key) >> 4, BlockPosKey.getZ(key) >> 4);
+            sections.computeIfAbsent(section, k -> new ArrayList<>()).add(entry);
+        }
+
+        List<NMSPacket> packets = new ArrayList<>(sections.size());
+        for (Map.Entry<Long, List<Map.Entry<Long, Object>>> section : sections.entrySet()) {
+            List<Map.Entry<Long, Object>> entries = section.getValue();
+            if (entries.size() == 1) {
+                long key = entries.getFirst().getKey();
+                BlockPos pos = new BlockPos(BlockPosKey.getX(key), BlockPosKey.getY(key), BlockPosKey.getZ(key));
+                packets.add(new OutBlockChange_1_19_R1(new ClientboundBlockUpdatePacket(pos, (BlockState) entries.getFirst().getValue())));
+                continue;
+            }
+
+            // The vanilla constructor reads states from a live chunk section, so decode the packet from its wire format instead
+            FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+            try {
+                buf.writeLong(section.getKey());
+                // Suppress light updates
+                buf.writeBoolean(false);
+                buf.writeVarInt(entries.size());
+                for (Map.Entry<Long, Object> entry : entries) {
+                    long key = entry.getKey();
+                    int x = BlockPosKey.getX(key), y = BlockPosKey.getY(key), z = BlockPosKey.getZ(key);
+                    // Same encoding as SectionPos#sectionRelativePos, without allocating a BlockPos
+                    int position = (x & 15) << 8 | (z & 15) << 4 | (y & 15);
+                    buf.writeVarLong((long) Block.getId((BlockState) entry.getValue()) << 12 | position);
+                }
+                packets.add(new OutMultiBlockChange_1_19_R1(new ClientboundSectionBlocksUpdatePacket(buf)));
+            } finally {
+                buf.release();
+            }
+        }
+        return packets;
+    }
+
     @Override
     @SuppressWarnings("rawtypes")
     public void sendPacket(@NotNull Player player, @NotNull NMSPacket packet) {
         ((CraftPlayer) player).getHandle().connection.send((Packet) packet.getHandle());
     }
+
+    @Override
+    public @NotNull PacketInterceptor getPacketInterceptor() {
+        return this.interceptor;
+    }
+
+    @NotNull
+    private static net.minecraft.world.entity.EntityType<?> toEntityType(@NotNull EntityType type) {
+        return net.minecraft.world.entity.EntityType.byString(type.getKey().toString())
+                .orElseThrow(() -> new IllegalArgumentException("EntityType " + type + " cannot be spawned by packet."));
+    }
+
+    @NotNull
+    private static BlockState toBlockState(int x, int y, int z, @NotNull XBlockData blockData) {
+        @Nullable BlockData data = IBlockUtil1_13.findBlockData(new Vector(x, y, z), blockData);
+        if (data == null) {
+            XMaterial material = Objects.requireNonNull(blockData.getMaterialData().getMaterial());
+            data = IBlockUtil1_13.createBlockData(material);
+        }
+        return ((CraftBlockData) data).getState();
+    }
+
+    private static short encodeDelta(double delta) {
+        if (Math.abs(delta) > MAX_RELATIVE_MOVE) {
+            throw new IllegalArgumentException("Relative move of " + delta + " exceeds the maximum of " + MAX_RELATIVE_MOVE + " blocks.");
+        }
+        return (short) Math.round(delta * 4096D);
+    }
+
+    private static byte encodeAngle(float degrees) {
+        return (byte) ((int) (degrees * 256.0F / 360.0F));
+    }
 }
@@ -0,0 +1,32 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import net.minecraft.network.protocol.game.ClientboundBlockUpdatePacket;
+import org.jetbrains.annotations.NotNull;
+
+public class OutBlockChange_1_19_R1 implements NMSOutBlockChange {
+    private final @NotNull ClientboundBlockUpdatePacket packet;
+
+    public OutBlockChange_1_19_R1(@NotNull ClientboundBlockUpdatePacket packet) {
+        this.packet = packet;
+    }
+
+    @Override
+    public @NotNull Object getHandle() {
+        return this.packet;
+    }
+
+    @Override
+    public int getX() {
+        return this.packet.getPos().getX();
+    }
+
+    @Override
+    public int getY() {
+        return this.packet.getPos().getY();
+    }
+
+    @Override
+    public int getZ() {
+        return this.packet.getPos().getZ();
+    }
+}
@@ -0,0 +1,22 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import net.minecraft.network.protocol.game.ClientboundSetEntityDataPacket;
+import org.jetbrains.annotations.NotNull;
+
+public class OutEntityMetadata_1_19_R1 implements NMSOutEntityMetadata {
+    private final @NotNull ClientboundSetEntityDataPacket packet;
+
+    public OutEntityMetadata_1_19_R1(@NotNull ClientboundSetEntityDataPacket packet) {
+        this.packet = packet;
+    }
+
+    @Override
+    public @NotNull Object getHandle() {
+        return this.packet;
+    }
+
+    @Override
+    public int getEntityID() {
+        return this.packet.getId();
+    }
+}
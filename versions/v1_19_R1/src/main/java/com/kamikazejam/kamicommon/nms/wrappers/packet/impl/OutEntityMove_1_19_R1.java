@@ -0,0 +1,31 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.protocol.game.ClientboundMoveEntityPacket;
+import org.jetbrains.annotations.NotNull;
+
+public class OutEntityMove_1_19_R1 implements NMSOutEntityMove {
+    private final @NotNull ClientboundMoveEntityPacket packet;
+
+    public OutEntityMove_1_19_R1(@NotNull ClientboundMoveEntityPacket packet) {
+        this.packet = packet;
+    }
+
+    @Override
+    public @NotNull Object getHandle() {
+        return this.packet;
+    }
+
+    @Override
+    public int getEntityID() {
+        // The entity id has no accessor (and its field is obfuscated at runtime), but it is the first value written
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        try {
+            this.packet.write(buf);
+            return buf.readVarInt();
+        } finally {
+            buf.release();
+        }
+    }
+}
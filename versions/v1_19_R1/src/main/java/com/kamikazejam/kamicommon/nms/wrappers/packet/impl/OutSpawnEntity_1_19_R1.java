@@ -0,0 +1,22 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import net.minecraft.network.protocol.game.ClientboundAddEntityPacket;
+import org.jetbrains.annotations.NotNull;
+
+public class OutSpawnEntity_1_19_R1 implements NMSOutSpawnEntity {
+    private final @NotNull ClientboundAddEntityPacket packet;
+
+    public OutSpawnEntity_1_19_R1(@NotNull ClientboundAddEntityPacket packet) {
+        this.packet = packet;
+    }
+
+    @Override
+    public @NotNull Object getHandle() {
+        return this.packet;
+    }
+
+    @Override
+    public int getEntityID() {
+        return this.packet.getId();
+    }
+}
@@ -1,6 +1,5 @@
 package com.kamikazejam.kamicommon.nms.teleport;
 
-import com.kamikazejam.kamicommon.nms.abstraction.teleport.AbstractTeleporter;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
@@ -9,9 +8,14 @@ import org.bukkit.craftbukkit.CraftWorld;
 import org.bukkit.craftbukkit.entity.CraftPlayer;
 import org.bukkit.entity.Player;
 import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @SuppressWarnings({"DuplicatedCode"})
-public class Teleporter1_20_CB extends AbstractTeleporter {
+public class Teleporter1_20_CB extends TeleporterPost_1_14 {
 
     @Override
     public void teleportWithoutEvent(Player player, Location location) {
@@ -31,4 +35,14 @@ public class Teleporter1_20_CB extends AbstractTeleporter {
                     .respawn(entityPlayer, toWorld, true, location, true, PlayerRespawnEvent.RespawnReason.PLUGIN);
         }
     }
+
+    @Override
+    public @NotNull CompletableFuture<Void> teleportWithoutEventAsync(@NotNull Plugin plugin, @NotNull Map<? extends Player, ? extends Location> destinations) {
+        return this.teleportAfterChunksLoad(plugin, destinations, MinecraftServer.getServer(), this::teleportWithoutEvent);
+    }
+
+    @Override
+    protected @NotNull CompletableFuture<?> loadChunkAsync(@NotNull ChunkTarget chunk) {
+        return chunk.world().getChunkAtAsync(chunk.x(), chunk.z());
+    }
 }
@@ -1,6 +1,5 @@
 package com.kamikazejam.kamicommon.nms.teleport;
 
-import com.kamikazejam.kamicommon.nms.abstraction.teleport.AbstractTeleporter;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
@@ -10,12 +9,17 @@ import org.bukkit.craftbukkit.CraftWorld;
 import org.bukkit.craftbukkit.entity.CraftPlayer;
 import org.bukkit.entity.Player;
 import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Confirmed Working for versions: 1.21 to 1.21.10
  */
 @SuppressWarnings({"DuplicatedCode"})
-public class Teleporter1_21_9 extends AbstractTeleporter {
+public class Teleporter1_21_9 extends TeleporterPost_1_14 {
 
     @Override
     public void teleportWithoutEvent(Player player, Location location) {
@@ -37,4 +41,14 @@ public class Teleporter1_21_9 extends AbstractTeleporter {
             );
         }
     }
+
+    @Override
+    public @NotNull CompletableFuture<Void> teleportWithoutEventAsync(@NotNull Plugin plugin, @NotNull Map<? extends Player, ? extends Location> destinations) {
+        return this.teleportAfterChunksLoad(plugin, destinations, MinecraftServer.getServer(), this::teleportWithoutEvent);
+    }
+
+    @Override
+    protected @NotNull CompletableFuture<?> loadChunkAsync(@NotNull ChunkTarget chunk) {
+        return chunk.world().getChunkAtAsync(chunk.x(), chunk.z());
+    }
 }
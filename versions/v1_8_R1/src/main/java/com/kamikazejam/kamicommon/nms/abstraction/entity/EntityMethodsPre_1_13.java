@@ -5,12 +5,17 @@ import com.cryptomorin.xseries.XMaterial;
 import de.tr7zw.changeme.nbtapi.NBT;
 import de.tr7zw.changeme.nbtapi.iface.ReadWriteNBT;
 import de.tr7zw.changeme.nbtapi.iface.ReadableNBT;
+import org.bukkit.Material;
 import org.bukkit.entity.EntityType;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Pre-1.13 implementation of {@link AbstractEntityMethods} that handles
@@ -28,6 +33,7 @@ import java.util.Optional;
  */
 @SuppressWarnings("unused")
 public abstract class EntityMethodsPre_1_13 extends AbstractEntityMethods {
+    private static final Material SPAWNER = XMaterial.SPAWNER.parseMaterial();
 
     /**
      * {@inheritDoc}
@@ -74,53 +80,76 @@ public abstract class EntityMethodsPre_1_13 extends AbstractEntityMethods {
         // Handle invalid stacks
         if (stack == null || !stack.hasItemMeta()) { return Optional.empty(); }
         // Or stacks that aren't a spawner
-        XMaterial xMaterial = XMaterial.matchXMaterial(stack);
-        if (xMaterial != XMaterial.SPAWNER) { return Optional.empty(); }
+        if (stack.getType() != SPAWNER) { return Optional.empty(); }
 
         ReadableNBT nbt = NBT.readNbt(stack);
         ReadableNBT nbtCompound = nbt.getCompound("BlockEntityTag");
         if (nbtCompound == null) {
             if (nbt.hasTag("type")) {
-                return Optional.ofNullable(translateNMSTypes(nbt.getString("type").toUpperCase()));
+                return Optional.ofNullable(translateNMSTypes(nbt.getString("type")));
             }
             return Optional.empty();
         }
 
-        if (nbtCompound.getString("EntityId") == null) {
-            return Optional.empty();
-        }
-        return Optional.ofNullable(translateNMSTypes(nbtCompound.getString("EntityId").toUpperCase()));
+        return Optional.ofNullable(translateNMSTypes(nbtCompound.getString("EntityId")));
     }
 
     @Nullable
-    @SuppressWarnings("SpellCheckingInspection")
-    private EntityType translateNMSTypes(@Nullable String nmsType) {
+    private static EntityType translateNMSTypes(@Nullable String nmsType) {
         if (nmsType == null) { return null; }
 
-        EntityType type = switch (nmsType.toLowerCase()) {
-            case "pigzombie" -> EntityType.PIG_ZOMBIE;
-            case "complexpart" -> EntityType.COMPLEX_PART;
-            case "cavespider" -> EntityType.CAVE_SPIDER;
-            case "irongolem", "villagergolem" -> EntityType.IRON_GOLEM;
-            case "magmacube", "lavaslime" -> EntityType.MAGMA_CUBE;
-            case "mushroomcow" -> EntityType.MUSHROOM_COW;
-            case "ozelot" -> EntityType.OCELOT;
-            case "entityhorse" -> EntityType.HORSE;
-            default -> {
-                try {
-                    yield EntityType.valueOf(nmsType.toUpperCase());
-                } catch (final IllegalArgumentException exc) {
-                    yield null;
-                }
-            }
-        };
+        // Exact match first (e.g. "Zombie", "PigZombie", "ZOMBIE"), which needs no string copy
+        @Nullable EntityType type = NMS_TYPES.get(nmsType);
+        if (type != null) { return type; }
+
+        String key = nmsType.toLowerCase(Locale.ROOT);
+        if (key.startsWith("minecraft:")) {
+            key = key.substring("minecraft:".length());
+        }
+        type = NMS_TYPES.get(key);
         if (type != null) { return type; }
 
-        // Try XEntityType
-        Optional<XEntityType> o = XEntityType.of(nmsType.toUpperCase());
-        return o.map(XEntityType::get).orElse(null);
+        // Ids outside the table are resolved through XEntityType once, then remembered (misses included)
+        @Nullable Optional<EntityType> resolved = UNKNOWN_TYPES.get(key);
+        if (resolved == null) {
+            resolved = XEntityType.of(key.toUpperCase(Locale.ROOT)).map(XEntityType::get);
+            if (UNKNOWN_TYPES.size() < MAX_UNKNOWN_TYPES) {
+                UNKNOWN_TYPES.put(key, resolved);
+            }
+        }
+        return resolved.orElse(null);
+    }
+
+    // Every bukkit and legacy nms spelling of each entity type, built once
+    private static final Map<String, EntityType> NMS_TYPES = buildNMSTypes();
+    private static final int MAX_UNKNOWN_TYPES = 256;
+    private static final Map<String, Optional<EntityType>> UNKNOWN_TYPES = new ConcurrentHashMap<>();
+
+    @NotNull
+    @SuppressWarnings({"deprecation", "SpellCheckingInspection"})
+    private static Map<String, EntityType> buildNMSTypes() {
+        Map<String, EntityType> types = new HashMap<>();
+        for (EntityType type : EntityType.values()) {
+            // Enum names in upper and lower case, and squashed (e.g. "cavespider", "mushroomcow")
+            String lower = type.name().toLowerCase(Locale.ROOT);
+            types.put(type.name(), type);
+            types.put(lower, type);
+            types.putIfAbsent(lower.replace("_", ""), type);
+
+            // Savegame ids (e.g. "PigZombie", "LavaSlime", "VillagerGolem")
+            @Nullable String name = type.getName();
+            if (name != null) {
+                types.putIfAbsent(name, type);
+                types.putIfAbsent(name.toLowerCase(Locale.ROOT), type);
+            }
+        }
 
-        // TODO extract more entity types from NMS and add to the switch statement
+        // Legacy nms ids which don't match their bukkit names
+        types.put("villagergolem", EntityType.IRON_GOLEM);
+        types.put("lavaslime", EntityType.MAGMA_CUBE);
+        types.put("ozelot", EntityType.OCELOT);
+        types.put("entityhorse", EntityType.HORSE);
+        return Map.copyOf(types);
     }
 
     /**
@@ -137,7 +166,7 @@ public abstract class EntityMethodsPre_1_13 extends AbstractEntityMethods {
      */
     @SuppressWarnings("deprecation")
     protected ItemStack setSpawnerTypeByNBT(ItemStack stack, @NotNull EntityType type) {
-        if (stack == null || XMaterial.matchXMaterial(stack.getType()) != XMaterial.SPAWNER) { return null; }
+        if (stack == null || stack.getType() != SPAWNER) { return null; }
 
         NBT.modify(stack, (nbt) -> {
             ReadWriteNBT compound = nbt.getOrCreateCompound("BlockEntityTag");
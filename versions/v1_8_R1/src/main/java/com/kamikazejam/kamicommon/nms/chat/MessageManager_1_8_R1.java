@@ -1,8 +1,11 @@
 package com.kamikazejam.kamicommon.nms.chat;
 
+import com.google.common.collect.MapMaker;
 import com.kamikazejam.kamicommon.actions.*;
 import com.kamikazejam.kamicommon.nms.abstraction.chat.AbstractMessageManager;
+import com.kamikazejam.kamicommon.nms.abstraction.chat.CompiledKMessage;
 import com.kamikazejam.kamicommon.nms.abstraction.chat.KMessage;
+import com.kamikazejam.kamicommon.nms.abstraction.chat.KMessageSegment;
 import com.kamikazejam.kamicommon.nms.abstraction.itemtext.AbstractItemTextPre_1_17;
 import com.kamikazejam.kamicommon.util.LegacyColors;
 import net.md_5.bungee.api.chat.BaseComponent;
@@ -17,8 +20,10 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Map;
 
 /**
  * A utility class for processing and sending messages <p>
@@ -28,87 +33,301 @@ import java.util.regex.Pattern;
 @SuppressWarnings("unused")
 public class MessageManager_1_8_R1 extends AbstractMessageManager {
     @NotNull private final AbstractItemTextPre_1_17 itemText;
+    // Placeholder tries keyed by the identity of their action list, so every line and every send of a message shares one
+    @NotNull private final Map<List<Action>, PlaceholderTrie> tries = new MapMaker().weakKeys().makeMap();
     public MessageManager_1_8_R1(@NotNull AbstractItemTextPre_1_17 itemText) {
         this.itemText = itemText;
     }
 
     @Override
     protected void processAndSendInternal(@NotNull CommandSender sender, @NotNull KMessage kMessage) {
-        for (String line : kMessage.getLines()) {
+        for (List<KMessageSegment> line : kMessage.getSegmentLines()) {
             if (sender instanceof Player player) {
                 // Use BaseComponent -> will support all actions
-                BaseComponent[] components = processPlaceholders(line, kMessage.isTranslate(), kMessage.getActions());
+                BaseComponent[] components = this.renderComponents(line, kMessage.isTranslate(), kMessage.getPlaceholderActions());
                 player.spigot().sendMessage(components);
             }else {
                 // CommandSender can't take BaseComponent or use any of the Action features -> just send colored text
-                // We must recompile the message using the Action replacements, but none of the actions (simple)
-                String msg = line;
-                for (Action action : kMessage.getActions()) {
-                    msg = msg.replace(action.getPlaceholder(), action.getReplacement());
+                sender.sendMessage(renderPlain(line, kMessage.isTranslate(), kMessage.getPlaceholderActions()));
+            }
+        }
+    }
+
+    @Override
+    protected void broadcastInternal(@NotNull Collection<? extends CommandSender> recipients, @NotNull KMessage kMessage) {
+        for (List<KMessageSegment> line : kMessage.getSegmentLines()) {
+            // Each variant is built at most once per line and shared between recipients
+            @Nullable BaseComponent[] components = null;
+            @Nullable String plain = null;
+            for (CommandSender sender : recipients) {
+                if (sender instanceof Player player) {
+                    if (components == null) {
+                        components = this.renderComponents(line, kMessage.isTranslate(), kMessage.getPlaceholderActions());
+                    }
+                    player.spigot().sendMessage(components);
+                }else {
+                    if (plain == null) {
+                        plain = renderPlain(line, kMessage.isTranslate(), kMessage.getPlaceholderActions());
+                    }
+                    sender.sendMessage(plain);
                 }
-                sender.sendMessage((kMessage.isTranslate()) ? LegacyColors.t(msg) : msg);
             }
         }
     }
 
-    /**
-     * Returns TextComponent[] meant to be sent to a player in one line
-     *  Example: player.sendMessages(components) or player.spigot().sendMessage(components)
-     * @param line A line of text to search for actions in
-     * @param actions The actions which will replace placeholders and setup events
-     * @return A list of TextComponent[], each array meant to be sent to the player as one message
-     */
-    private BaseComponent[] processPlaceholders(@NotNull String line, boolean translate, @NotNull List<Action> actions) {
-        if (translate) { line = LegacyColors.t(line); }
-        List<BaseComponent> components = new ArrayList<>();
+    @Override
+    protected void processAndSendCompiledInternal(@NotNull CommandSender sender, @NotNull CompiledKMessage message, @NotNull String[] values) {
+        // Built once per template, then only the slot values are inserted per send
+        CompiledLine[] lines = message.getCompiled(this, this::compile);
+        for (CompiledLine line : lines) {
+            if (sender instanceof Player player) {
+                player.spigot().sendMessage(line.renderComponents(values));
+            }else {
+                sender.sendMessage(line.renderPlain(values));
+            }
+        }
+    }
+
+    @Override
+    protected void broadcastCompiledInternal(@NotNull Collection<? extends CommandSender> recipients, @NotNull CompiledKMessage message, @NotNull String[] values) {
+        CompiledLine[] lines = message.getCompiled(this, this::compile);
+        for (CompiledLine line : lines) {
+            @Nullable BaseComponent[] components = null;
+            @Nullable String plain = null;
+            for (CommandSender sender : recipients) {
+                if (sender instanceof Player player) {
+                    if (components == null) { components = line.renderComponents(values); }
+                    player.spigot().sendMessage(components);
+                }else {
+                    if (plain == null) { plain = line.renderPlain(values); }
+                    sender.sendMessage(plain);
+                }
+            }
+        }
+    }
 
-        BaseComponent[] legacies = TextComponent.fromLegacyText(line);
-        for (BaseComponent legacy : legacies) {
-            components.addAll(Arrays.asList(processPlaceholders(legacy, actions)));
+    // Renders straight from the segments: text runs are parsed for placeholders, action segments are not
+    @NotNull
+    private BaseComponent[] renderComponents(@NotNull List<KMessageSegment> segments, boolean translate, @NotNull List<Action> actions) {
+        List<KMessageSegment.Run> runs = KMessageSegment.runs(segments);
+        if (runs.size() == 1) {
+            return switch (runs.getFirst()) {
+                case KMessageSegment.ActionRun run -> this.createReplacement(run.action());
+                case KMessageSegment.TextRun run -> processPlaceholders(run.text(), translate, actions);
+            };
         }
 
+        List<BaseComponent> components = new ArrayList<>();
+        String colors = "";
+        for (KMessageSegment.Run run : runs) {
+            switch (run) {
+                case KMessageSegment.ActionRun actionRun -> Collections.addAll(components, this.createReplacement(actionRun.action()));
+                case KMessageSegment.TextRun textRun -> {
+                    // Inline color codes do not carry over to sibling components, so prefix the active ones
+                    String text = (translate) ? LegacyColors.t(textRun.text()) : textRun.text();
+                    Collections.addAll(components, processPlaceholders(colors + text, false, actions));
+                    colors = ChatColor.getLastColors(colors + text);
+                }
+            }
+        }
         return components.toArray(new BaseComponent[0]);
     }
 
+    @NotNull
+    private static String renderPlain(@NotNull List<KMessageSegment> segments, boolean translate, @NotNull List<Action> actions) {
+        List<KMessageSegment.Run> runs = KMessageSegment.runs(segments);
+        if (runs.size() == 1 && runs.getFirst() instanceof KMessageSegment.TextRun run) {
+            return plainText(run.text(), translate, actions);
+        }
+        StringBuilder builder = new StringBuilder();
+        for (KMessageSegment.Run run : runs) {
+            builder.append(switch (run) {
+                case KMessageSegment.ActionRun actionRun -> actionRun.action().getReplacement();
+                case KMessageSegment.TextRun textRun -> textRun.text();
+            });
+        }
+        return plainText(builder.toString(), translate, actions);
+    }
+
+    // Recompiles the line using the Action replacements, but none of the actions (for non-player senders)
+    @NotNull
+    private static String plainText(@NotNull String line, boolean translate, @NotNull List<Action> actions) {
+        String msg = line;
+        @Nullable Action wholeLine = getWholeLineAction(line, actions);
+        if (wholeLine != null) {
+            msg = wholeLine.getReplacement();
+        }else {
+            for (Action action : actions) {
+                msg = msg.replace(action.getPlaceholder(), action.getReplacement());
+            }
+        }
+        return (translate) ? LegacyColors.t(msg) : msg;
+    }
+
+    @NotNull
+    private CompiledLine[] compile(@NotNull CompiledKMessage message) {
+        List<List<KMessageSegment>> segmentLines = message.getSegmentLines();
+        CompiledLine[] lines = new CompiledLine[segmentLines.size()];
+        for (int i = 0; i < lines.length; i++) {
+            List<KMessageSegment> line = message.markSlots(segmentLines.get(i));
+
+            // Player variant, split into static components and slot templates
+            List<Object> components = new ArrayList<>();
+            for (BaseComponent component : this.renderComponents(line, message.isTranslate(), message.getPlaceholderActions())) {
+                splitSlots(message, component, components);
+            }
+
+            // Plain variant for non-player senders, split into static strings and slot indices
+            String plain = renderPlain(line, message.isTranslate(), message.getPlaceholderActions());
+            lines[i] = new CompiledLine(components.toArray(), splitSlots(message, plain));
+        }
+        return lines;
+    }
+
+    private static void splitSlots(@NotNull CompiledKMessage message, @NotNull BaseComponent component, @NotNull List<Object> out) {
+        if (!(component instanceof TextComponent textComponent)) {
+            out.add(component);
+            return;
+        }
+        String text = textComponent.getText();
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int slot = message.slotIndex(text.charAt(i));
+            if (slot < 0) { continue; }
+            String before = text.substring(start, i);
+            if (!before.isEmpty()) {
+                out.add(withText(textComponent, before));
+            }
+            // Inline color codes do not carry over to sibling components, so keep the last ones on the slot
+            out.add(new Slot(slot, ChatColor.getLastColors(text.substring(0, i)), textComponent));
+            start = i + 1;
+        }
+        if (start == 0) {
+            out.add(component);
+        }else if (start < text.length()) {
+            out.add(withText(textComponent, text.substring(start)));
+        }
+    }
+
+    @NotNull
+    private static Object[] splitSlots(@NotNull CompiledKMessage message, @NotNull String text) {
+        List<Object> pieces = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int slot = message.slotIndex(text.charAt(i));
+            if (slot < 0) { continue; }
+            if (i > start) {
+                pieces.add(text.substring(start, i));
+            }
+            pieces.add(slot);
+            start = i + 1;
+        }
+        if (start < text.length()) {
+            pieces.add(text.substring(start));
+        }
+        return pieces.toArray();
+    }
+
+    @NotNull
+    private static TextComponent withText(@NotNull TextComponent template, @NotNull String text) {
+        TextComponent copy = (TextComponent) template.duplicate();
+        copy.setText(text);
+        return copy;
+    }
+
+    private record Slot(int index, @NotNull String colorPrefix, @NotNull TextComponent template) {}
+
+    // Each piece is either a static BaseComponent or a Slot (components), and either a String or a slot index (plain)
+    private record CompiledLine(@NotNull Object[] components, @NotNull Object[] plain) {
+        @NotNull
+        private BaseComponent[] renderComponents(@NotNull String[] values) {
+            BaseComponent[] rendered = new BaseComponent[this.components.length];
+            for (int i = 0; i < rendered.length; i++) {
+                Object piece = this.components[i];
+                rendered[i] = (piece instanceof Slot slot)
+                        ? withText(slot.template, slot.colorPrefix + values[slot.index])
+                        : (BaseComponent) piece;
+            }
+            return rendered;
+        }
+
+        @NotNull
+        private String renderPlain(@NotNull String[] values) {
+            StringBuilder builder = new StringBuilder();
+            for (Object piece : this.plain) {
+                builder.append((piece instanceof Integer index) ? values[index] : (String) piece);
+            }
+            return builder.toString();
+        }
+    }
+
     /**
      * Returns TextComponent[] meant to be sent to a player in one line
      *  Example: player.sendMessages(components) or player.spigot().sendMessage(components)
-     * @param base A TextComponent to use as the base for the message
+     * <p>
+     * The line is scanned once, matching every action placeholder through a {@link PlaceholderTrie},
+     * and the components are built directly from the text between matches.
+     * @param line A line of text to search for actions in
      * @param actions The actions which will replace placeholders and setup events
      * @return A list of TextComponent[], each array meant to be sent to the player as one message
      */
-    private BaseComponent[] processPlaceholders(@NotNull BaseComponent base, @NotNull List<Action> actions) {
-        List<BaseComponent> temp = new ArrayList<>();
-        temp.add(base);
+    private BaseComponent[] processPlaceholders(@NotNull String line, boolean translate, @NotNull List<Action> actions) {
+        // Whole-line actions (from the KMessage factories) need no placeholder search
+        @Nullable Action wholeLine = getWholeLineAction(line, actions);
+        if (wholeLine != null) { return this.createReplacement(wholeLine); }
 
-        //For each ClickContainer, reprocess a new temp list of components (replacing placeholders and stuff)
-        for (Action action : actions) {
-            List<BaseComponent> newTemp = processMultiPlaceholders(action, temp);
-            temp.clear();
-            temp.addAll(newTemp);
-        }
+        if (translate) { line = LegacyColors.t(line); }
+        if (actions.isEmpty()) { return TextComponent.fromLegacyText(line); }
 
-        return temp.toArray(new BaseComponent[0]);
-    }
+        PlaceholderTrie trie = this.trieFor(actions);
+        BaseComponent[][] replacements = new BaseComponent[actions.size()][];
+        List<BaseComponent> components = new ArrayList<>();
+        String colors = "";
 
-    private List<BaseComponent> processMultiPlaceholders(Action action, List<BaseComponent> components) {
-        List<BaseComponent> newComponentList = new ArrayList<>();
-        for (BaseComponent component : components) {
-            if (component.toLegacyText().contains(action.getPlaceholder())) {
-                List<BaseComponent> merged = new ArrayList<>(getComponentsWithButton(action, component));
-                newComponentList.addAll(merged);
-            }else {
-                newComponentList.add(component);
+        int start = 0;
+        int i = 0;
+        while (i < line.length()) {
+            int match = trie.match(line, i);
+            if (match < 0) {
+                i++;
+                continue;
+            }
+            if (i > start) {
+                // Inline color codes do not carry over to sibling components, so prefix the active ones
+                String text = line.substring(start, i);
+                Collections.addAll(components, TextComponent.fromLegacyText(colors + text));
+                colors = ChatColor.getLastColors(colors + text);
             }
+            if (replacements[match] == null) {
+                replacements[match] = this.createReplacement(actions.get(match));
+            }
+            Collections.addAll(components, replacements[match]);
+            i += actions.get(match).getPlaceholder().length();
+            start = i;
+        }
+        if (start == 0) {
+            return TextComponent.fromLegacyText(line);
+        }
+        if (start < line.length()) {
+            Collections.addAll(components, TextComponent.fromLegacyText(colors + line.substring(start)));
         }
-        return newComponentList;
+        return components.toArray(new BaseComponent[0]);
     }
 
-    private List<BaseComponent> getComponentsWithButton(Action action, BaseComponent component) {
-        List<BaseComponent> components = new ArrayList<>();
+    @NotNull
+    private PlaceholderTrie trieFor(@NotNull List<Action> actions) {
+        @Nullable PlaceholderTrie trie = this.tries.get(actions);
+        // The list (or an action's placeholder) may have changed since the trie was built
+        if (trie == null || !trie.isBuiltFrom(actions)) {
+            trie = new PlaceholderTrie(actions);
+            this.tries.put(actions, trie);
+        }
+        return trie;
+    }
 
-        // Create the click TextComponent
-        // This ENTIRE array represents the replacement, in this specific order
+    // This ENTIRE array represents the replacement, in this specific order
+    @NotNull
+    private BaseComponent[] createReplacement(@NotNull Action action) {
         BaseComponent[] legacyTexts = TextComponent.fromLegacyText(action.getReplacement());
         for (BaseComponent clickComponent : legacyTexts) {
 
@@ -129,28 +348,80 @@ public class MessageManager_1_8_R1 extends AbstractMessageManager {
                 clickComponent.setHoverEvent(new HoverEvent(HoverEvent.Action.SHOW_ITEM, itemText.getComponents(hoverItem.getItemStack())));
             }
         }
+        return legacyTexts;
+    }
 
-        // Check the text and split it into parts
-        String text = component.toLegacyText();
-        String[] parts = text.split(Pattern.quote(action.getPlaceholder()));
-
-        //If the message starts with the click, send the click and then the rest of the message
-        if (ChatColor.stripColor(text).startsWith(action.getPlaceholder())) {
-            components.addAll(Arrays.asList(legacyTexts));
-            components.add(new TextComponent(parts[parts.length-1]));
-            //If the message ends with the click, send the rest, then the click
-        }else if (ChatColor.stripColor(text).endsWith(action.getPlaceholder())) {
-            components.add(new TextComponent(parts[0]));
-            components.addAll(Arrays.asList(legacyTexts));
-            //If the click is somewhere in between, form the message around the click
-        }else if (parts.length == 2) {
-            components.add(new TextComponent(parts[0]));
-            components.addAll(Arrays.asList(legacyTexts));
-            components.add(new TextComponent(parts[parts.length-1]));
-        }else {
-            throw new IllegalArgumentException("Invalid placeholder: " + action.getPlaceholder());
+    /**
+     * Character trie over the placeholders of a message, used to find every placeholder in a single sweep.
+     * When several placeholders match at the same position the longest wins, and for identical
+     * placeholders the first action wins (the same precedence as sequential replacement).
+     */
+    private static final class PlaceholderTrie {
+        private final @NotNull Node root = new Node();
+        private final @NotNull String[] placeholders;
+
+        private PlaceholderTrie(@NotNull List<Action> actions) {
+            this.placeholders = new String[actions.size()];
+            for (int a = 0; a < actions.size(); a++) {
+                String placeholder = actions.get(a).getPlaceholder();
+                this.placeholders[a] = placeholder;
+                if (placeholder.isEmpty()) { continue; }
+                Node node = this.root;
+                for (int c = 0; c < placeholder.length(); c++) {
+                    node = node.childOrCreate(placeholder.charAt(c));
+                }
+                if (node.action < 0) {
+                    node.action = a;
+                }
+            }
         }
 
-        return components;
+        private boolean isBuiltFrom(@NotNull List<Action> actions) {
+            if (actions.size() != this.placeholders.length) { return false; }
+            for (int a = 0; a < this.placeholders.length; a++) {
+                if (!this.placeholders[a].equals(actions.get(a).getPlaceholder())) { return false; }
+            }
+            return true;
+        }
+
+        // Returns the index of the action whose placeholder starts at the index, or -1
+        private int match(@NotNull String text, int index) {
+            int match = -1;
+            @Nullable Node node = this.root;
+            for (int i = index; i < text.length(); i++) {
+                node = node.child(text.charAt(i));
+                if (node == null) { break; }
+                if (node.action >= 0) {
+                    match = node.action;
+                }
+            }
+            return match;
+        }
+
+        private static final class Node {
+            private char[] keys = new char[0];
+            private Node[] children = new Node[0];
+            private int action = -1;
+
+            @Nullable
+            private Node child(char c) {
+                for (int i = 0; i < this.keys.length; i++) {
+                    if (this.keys[i] == c) { return this.children[i]; }
+                }
+                return null;
+            }
+
+            @NotNull
+            private Node childOrCreate(char c) {
+                @Nullable Node child = this.child(c);
+                if (child != null) { return child; }
+                child = new Node();
+                this.keys = Arrays.copyOf(this.keys, this.keys.length + 1);
+                this.children = Arrays.copyOf(this.children, this.children.length + 1);
+                this.keys[this.keys.length - 1] = c;
+                this.children[this.children.length - 1] = child;
+                return child;
+            }
+        }
     }
 }
@@ -8,8 +8,10 @@ import org.bukkit.command.SimpleCommandMap;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.Map;
 
 public class CommandMapModifier_1_8_R1 implements CommandMapModifier {
@@ -35,6 +37,17 @@ public class CommandMapModifier_1_8_R1 implements CommandMapModifier {
         return knownCommands;
     }
 
+    @Override
+    public void syncCommands() {
+        // 1.13+ rebuilds the brigadier tree from the known commands and sends it to every player, < 1.13 has no tree
+        if (SERVER_SYNC_COMMANDS == null) { return; }
+        try {
+            SERVER_SYNC_COMMANDS.invoke(Bukkit.getServer());
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     // -------------------------------------------- //
     // GETTERS
     // -------------------------------------------- //
@@ -45,6 +58,8 @@ public class CommandMapModifier_1_8_R1 implements CommandMapModifier {
         return getField(SERVER_DOT_COMMAND_MAP, server);
     }
 
+    protected static @Nullable Method SERVER_SYNC_COMMANDS = getMethodOrNull(Bukkit.getServer().getClass(), "syncCommands");
+
     protected static Field SIMPLE_COMMAND_MAP_DOT_KNOWN_COMMANDS = getField(SimpleCommandMap.class, "knownCommands");
     public static Map<String, Command> getSimpleCommandMapDotKnownCommands(SimpleCommandMap simpleCommandMap) {
         return getField(SIMPLE_COMMAND_MAP_DOT_KNOWN_COMMANDS, simpleCommandMap);
@@ -76,6 +91,19 @@ public class CommandMapModifier_1_8_R1 implements CommandMapModifier {
         }
     }
 
+    // -------------------------------------------- //
+    // REFLECTION: METHOD > GET
+    // -------------------------------------------- //
+    public static @Nullable Method getMethodOrNull(@NotNull Class<?> clazz, @NotNull String name) {
+        for (Method method : clazz.getDeclaredMethods()) {
+            if (method.getName().equals(name) && method.getParameterCount() == 0) {
+                method.setAccessible(true);
+                return method;
+            }
+        }
+        return null;
+    }
+
     // -------------------------------------------- //
     // REFLECTION: MAKE ACCESSIBLE
     // -------------------------------------------- //
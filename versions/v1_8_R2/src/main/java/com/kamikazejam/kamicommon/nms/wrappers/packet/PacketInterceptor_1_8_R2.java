@@ -0,0 +1,128 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet;
+
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandle;
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandles;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.listener.PacketDirection;
+import com.kamikazejam.kamicommon.nms.wrappers.packet.listener.PacketInterceptor;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import net.minecraft.server.v1_8_R2.NetworkManager;
+import net.minecraft.server.v1_8_R2.PacketPlayOutMapChunk;
+import net.minecraft.server.v1_8_R2.PacketPlayOutMapChunkBulk;
+import org.bukkit.craftbukkit.v1_8_R2.entity.CraftPlayer;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+
+@SuppressWarnings("unchecked")
+public class PacketInterceptor_1_8_R2 extends PacketInterceptor {
+    private static final FieldHandle<Integer> chunkXHandle = (FieldHandle<Integer>) FieldHandles.getHandle("a", PacketPlayOutMapChunk.class);
+    private static final FieldHandle<Integer> chunkZHandle = (FieldHandle<Integer>) FieldHandles.getHandle("b", PacketPlayOutMapChunk.class);
+    private static final FieldHandle<Object> chunkMapHandle = (FieldHandle<Object>) FieldHandles.getHandle("c", PacketPlayOutMapChunk.class);
+    private static final FieldHandle<Integer> chunkMaskHandle = (FieldHandle<Integer>) FieldHandles.getHandle("b", findFieldType(PacketPlayOutMapChunk.class, "c"));
+    private static final FieldHandle<int[]> bulkXHandle = (FieldHandle<int[]>) FieldHandles.getHandle("a", PacketPlayOutMapChunkBulk.class);
+    private static final FieldHandle<int[]> bulkZHandle = (FieldHandle<int[]>) FieldHandles.getHandle("b", PacketPlayOutMapChunkBulk.class);
+    // The channel field was only renamed to "channel" in later 1.8 builds, so resolve it by type
+    private static final FieldHandle<Channel> channelHandle = findChannelHandle();
+
+    @Override
+    public void inject(@NotNull Player player) {
+        @Nullable Channel channel = getChannel(player);
+        if (channel == null || !channel.isOpen()) { return; }
+
+        // Modify the pipeline on its own event loop to avoid racing the connection setup
+        channel.eventLoop().execute(() -> {
+            ChannelPipeline pipeline = channel.pipeline();
+            if (pipeline.get(HANDLER_NAME) != null || pipeline.get("packet_handler") == null) { return; }
+            pipeline.addBefore("packet_handler", HANDLER_NAME, new InterceptorHandler(player));
+        });
+    }
+
+    @Override
+    public void uninject(@NotNull Player player) {
+        @Nullable Channel channel = getChannel(player);
+        if (channel == null) { return; }
+
+        channel.eventLoop().execute(() -> {
+            ChannelPipeline pipeline = channel.pipeline();
+            if (pipeline.get(HANDLER_NAME) != null) {
+                pipeline.remove(HANDLER_NAME);
+            }
+        });
+    }
+
+    @Nullable
+    private static Channel getChannel(@NotNull Player player) {
+        CraftPlayer craftPlayer = (CraftPlayer) player;
+        if (craftPlayer.getHandle().playerConnection == null) { return null; }
+        return channelHandle.get(craftPlayer.getHandle().playerConnection.networkManager);
+    }
+
+    @NotNull
+    private static FieldHandle<Channel> findChannelHandle() {
+        for (Field field : NetworkManager.class.getDeclaredFields()) {
+            if (field.getType() == Channel.class) {
+                return new FieldHandle<>(field.getName(), NetworkManager.class);
+            }
+        }
+        throw new IllegalStateException("Could not find the Channel field in NetworkManager");
+    }
+
+    // ChunkMap is nested in PacketPlayOutMapChunk on some 1.8 builds and top-level on others
+    @NotNull
+    private static Class<?> findFieldType(@NotNull Class<?> clazz, @NotNull String name) {
+        try {
+            return clazz.getDeclaredField(name).getType();
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("Could not find field " + name + " in " + clazz.getName(), e);
+        }
+    }
+
+    private final class InterceptorHandler extends ChannelDuplexHandler {
+        private final @NotNull Player player;
+        private InterceptorHandler(@NotNull Player player) {
+            this.player = player;
+        }
+
+        @Override
+        public void channelRead(@NotNull ChannelHandlerContext ctx, @NotNull Object msg) throws Exception {
+            @Nullable Object packet = dispatch(this.player, PacketDirection.INBOUND, msg);
+            if (packet != null) {
+                super.channelRead(ctx, packet);
+            }
+        }
+
+        @Override
+        public void write(@NotNull ChannelHandlerContext ctx, @NotNull Object msg, @NotNull ChannelPromise promise) throws Exception {
+            @Nullable Object packet = dispatch(this.player, PacketDirection.OUTBOUND, msg);
+            if (packet != null) {
+                super.write(ctx, packet, promise);
+                if (hasChunkSendListeners()) {
+                    this.notifyChunks(packet);
+                }
+            } else {
+                // Dropped packets still need their promise completed so listeners on the write are notified
+                promise.trySuccess();
+            }
+        }
+
+        private void notifyChunks(@NotNull Object packet) {
+            if (packet instanceof PacketPlayOutMapChunk chunk) {
+                // An empty section mask is an unload, not a chunk send
+                if (chunkMaskHandle.get(chunkMapHandle.get(chunk)) == 0) { return; }
+                fireChunkSent(this.player, chunkXHandle.get(chunk), chunkZHandle.get(chunk));
+            } else if (packet instanceof PacketPlayOutMapChunkBulk bulk) {
+                int[] xs = bulkXHandle.get(bulk);
+                int[] zs = bulkZHandle.get(bulk);
+                for (int i = 0; i < xs.length; i++) {
+                    fireChunkSent(this.player, xs[i], zs[i]);
+                }
+            }
+        }
+    }
+}
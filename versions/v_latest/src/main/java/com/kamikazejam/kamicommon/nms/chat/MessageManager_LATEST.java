@@ -2,7 +2,10 @@ package com.kamikazejam.kamicommon.nms.chat;
 
 import com.kamikazejam.kamicommon.actions.*;
 import com.kamikazejam.kamicommon.nms.abstraction.chat.AbstractMessageManager;
+import com.kamikazejam.kamicommon.nms.abstraction.chat.CompiledKMessage;
 import com.kamikazejam.kamicommon.nms.abstraction.chat.KMessage;
+import com.kamikazejam.kamicommon.nms.abstraction.chat.KMessageSegment;
+import com.kamikazejam.kamicommon.nms.text.ChatBroadcast_LATEST;
 import com.kamikazejam.kamicommon.util.LegacyColors;
 import com.kamikazejam.kamicommon.util.chat.MessagePart;
 import com.kamikazejam.kamicommon.util.chat.MessageParter;
@@ -10,12 +13,15 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.Style;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.command.CommandSender;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -25,40 +31,165 @@ public class MessageManager_LATEST extends AbstractMessageManager {
 
     @Override
     protected void processAndSendInternal(@NotNull CommandSender sender, @NotNull KMessage kMessage) {
-        for (String line : kMessage.getLines()) {
-            this.processAndSend(sender, line, kMessage.isTranslate(), kMessage.getActions());
+        for (List<KMessageSegment> line : kMessage.getSegmentLines()) {
+            sender.sendMessage(this.renderLine(line, kMessage.isTranslate(), kMessage.getPlaceholderActions()));
         }
     }
 
-    private void processAndSend(@NotNull CommandSender sender, @NotNull String s, boolean translate, @NotNull List<Action> actions) {
-        if (translate) { s = LegacyColors.t(s); }
+    @Override
+    protected void processAndSendCompiledInternal(@NotNull CommandSender sender, @NotNull CompiledKMessage message, @NotNull String[] values) {
+        // Built once per template, then only the slot values are inserted per send
+        CompiledLine[] lines = message.getCompiled(this, this::compile);
+        for (CompiledLine line : lines) {
+            sender.sendMessage(line.render(values));
+        }
+    }
+
+    @Override
+    protected void broadcastInternal(@NotNull Collection<? extends CommandSender> recipients, @NotNull KMessage kMessage) {
+        for (List<KMessageSegment> line : kMessage.getSegmentLines()) {
+            ChatBroadcast_LATEST.broadcast(recipients, this.renderLine(line, kMessage.isTranslate(), kMessage.getPlaceholderActions()));
+        }
+    }
+
+    @Override
+    protected void broadcastCompiledInternal(@NotNull Collection<? extends CommandSender> recipients, @NotNull CompiledKMessage message, @NotNull String[] values) {
+        CompiledLine[] lines = message.getCompiled(this, this::compile);
+        for (CompiledLine line : lines) {
+            ChatBroadcast_LATEST.broadcast(recipients, line.render(values));
+        }
+    }
+
+    // Renders straight from the segments: text runs are parsed for placeholders, action segments are not
+    @NotNull
+    private TextComponent renderLine(@NotNull List<KMessageSegment> segments, boolean translate, @NotNull List<Action> actions) {
+        List<KMessageSegment.Run> runs = KMessageSegment.runs(segments);
+        if (runs.size() == 1) {
+            return this.renderRun(runs.getFirst(), translate, actions);
+        }
+        TextComponent.Builder builder = Component.text();
+        for (KMessageSegment.Run run : runs) {
+            builder.append(this.renderRun(run, translate, actions));
+        }
+        return builder.build();
+    }
 
+    @NotNull
+    private TextComponent renderRun(@NotNull KMessageSegment.Run run, boolean translate, @NotNull List<Action> actions) {
+        return switch (run) {
+            case KMessageSegment.ActionRun actionRun -> {
+                Action action = actionRun.action();
+                LegacyComponentSerializer serializer = LegacyComponentSerializer.legacySection();
+                yield applyEvents(serializer.deserialize(action.getReplacement()), action.getClick(), action.getHover(), serializer);
+            }
+            case KMessageSegment.TextRun textRun -> this.buildComponent(textRun.text(), translate, actions);
+        };
+    }
+
+    @NotNull
+    private TextComponent buildComponent(@NotNull String s, boolean translate, @NotNull List<Action> actions) {
         LegacyComponentSerializer serializer = LegacyComponentSerializer.legacySection();
 
+        // Whole-line actions (from the KMessage factories) need no placeholder search
+        @Nullable Action wholeLine = getWholeLineAction(s, actions);
+        if (wholeLine != null) {
+            return applyEvents(serializer.deserialize(wholeLine.getReplacement()), wholeLine.getClick(), wholeLine.getHover(), serializer);
+        }
+
+        if (translate) { s = LegacyColors.t(s); }
+
         List<MessagePart> messageParts = MessageParter.getMessageParts(s, actions.toArray(new Action[0]));
         TextComponent component = Component.empty();
         for (MessagePart messagePart : messageParts) {
             TextComponent part = serializer.deserialize(messagePart.getText());
+            component = component.append(applyEvents(part, messagePart.getClick(), messagePart.getHover(), serializer));
+        }
+        return component;
+    }
+
+    @NotNull
+    private static TextComponent applyEvents(@NotNull TextComponent part, @Nullable Click click, @Nullable Hover hover, @NotNull LegacyComponentSerializer serializer) {
+        if (click instanceof ClickCmd) {
+            part = part.clickEvent(ClickEvent.runCommand(((ClickCmd) click).getCommand()));
+        }else if (click instanceof ClickSuggest) {
+            part = part.clickEvent(ClickEvent.suggestCommand(((ClickSuggest) click).getSuggestion()));
+        }else if (click instanceof ClickUrl) {
+            part = part.clickEvent(ClickEvent.openUrl(((ClickUrl) click).getUrl()));
+        }
+
+        if (hover instanceof HoverText) {
+            part = part.hoverEvent(HoverEvent.showText(serializer.deserialize(((HoverText) hover).getText())));
+        }else if (hover instanceof HoverItem) {
+            ItemStack item = ((HoverItem) hover).getItemStack();
+            part = part.hoverEvent(item.asHoverEvent());
+        }
+        return part;
+    }
 
-            @Nullable Click click = messagePart.getClick();
-            if (click instanceof ClickCmd) {
-                part = part.clickEvent(ClickEvent.runCommand(((ClickCmd) click).getCommand()));
-            }else if (click instanceof ClickSuggest) {
-                part = part.clickEvent(ClickEvent.suggestCommand(((ClickSuggest) click).getSuggestion()));
-            }else if (click instanceof ClickUrl) {
-                part = part.clickEvent(ClickEvent.openUrl(((ClickUrl) click).getUrl()));
+    // ------------------------------------------------------------ //
+    //                       Compiled Messages                      //
+    // ------------------------------------------------------------ //
+
+    @NotNull
+    private CompiledLine[] compile(@NotNull CompiledKMessage message) {
+        List<List<KMessageSegment>> segmentLines = message.getSegmentLines();
+        CompiledLine[] lines = new CompiledLine[segmentLines.size()];
+        for (int i = 0; i < lines.length; i++) {
+            List<KMessageSegment> line = message.markSlots(segmentLines.get(i));
+            TextComponent component = this.renderLine(line, message.isTranslate(), message.getPlaceholderActions());
+            if (message.getSlotCount() == 0) {
+                lines[i] = new CompiledLine(component, null);
+                continue;
             }
+            List<Object> pieces = new ArrayList<>();
+            flatten(message, component, Style.empty(), pieces);
+            lines[i] = new CompiledLine(null, pieces.toArray());
+        }
+        return lines;
+    }
 
-            @Nullable Hover hover = messagePart.getHover();
-            if (hover instanceof HoverText) {
-                part = part.hoverEvent(HoverEvent.showText(serializer.deserialize(((HoverText) hover).getText())));
-            }else if (hover instanceof HoverItem) {
-                ItemStack item = ((HoverItem) hover).getItemStack();
-                part = part.hoverEvent(item.asHoverEvent());
+    // Flattens the tree into static components and slot holes, each carrying its fully resolved style
+    private static void flatten(@NotNull CompiledKMessage message, @NotNull Component component, @NotNull Style parent, @NotNull List<Object> out) {
+        Style style = component.style().merge(parent, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+        if (component instanceof TextComponent text && !text.content().isEmpty()) {
+            String content = text.content();
+            int start = 0;
+            for (int i = 0; i < content.length(); i++) {
+                int slot = message.slotIndex(content.charAt(i));
+                if (slot < 0) { continue; }
+                if (i > start) {
+                    out.add(Component.text(content.substring(start, i), style));
+                }
+                out.add(new Slot(slot, style));
+                start = i + 1;
             }
-            component = component.append(part);
+            if (start < content.length()) {
+                out.add(Component.text(content.substring(start), style));
+            }
+        }
+        for (Component child : component.children()) {
+            flatten(message, child, style, out);
         }
+    }
+
+    private record Slot(int index, @NotNull Style style) {}
 
-        sender.sendMessage(component);
+    private record CompiledLine(@Nullable Component component, @Nullable Object[] pieces) {
+        @NotNull
+        private Component render(@NotNull String[] values) {
+            if (this.component != null) {
+                return this.component;
+            }
+            assert this.pieces != null;
+            TextComponent.Builder builder = Component.text();
+            for (Object piece : this.pieces) {
+                if (piece instanceof Slot slot) {
+                    builder.append(Component.text(values[slot.index], slot.style));
+                } else {
+                    builder.append((Component) piece);
+                }
+            }
+            return builder.build();
+        }
     }
 }
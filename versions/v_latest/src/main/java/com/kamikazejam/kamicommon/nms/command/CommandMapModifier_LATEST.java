@@ -1,12 +1,17 @@
 package com.kamikazejam.kamicommon.nms.command;
 
+import com.kamikazejam.kamicommon.nms.NmsVersion;
 import com.kamikazejam.kamicommon.nms.abstraction.command.CommandMapModifier;
+import com.kamikazejam.kamicommon.util.nms.NmsVersionParser;
 import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandMap;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.Method;
 import java.util.Map;
 
 /**
@@ -37,4 +42,35 @@ public class CommandMapModifier_LATEST implements CommandMapModifier {
     public @NotNull Map<String, Command> getKnownCommands() {
         return commandMap.getKnownCommands();
     }
+
+    @Override
+    public void syncCommands() {
+        // Before 1.20.6 the known commands must be copied into the brigadier dispatcher, which also sends every player the new tree
+        if (SERVER_SYNC_COMMANDS != null) {
+            try {
+                SERVER_SYNC_COMMANDS.invoke(Bukkit.getServer());
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+            return;
+        }
+        // 1.20.6+ Paper forwards the known commands map into the brigadier dispatcher, so players only need the new tree
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            player.updateCommands();
+        }
+    }
+
+    private static final @Nullable Method SERVER_SYNC_COMMANDS = (NmsVersion.getFormattedNmsInteger() < NmsVersionParser.getFormattedNmsInteger("1.20.6"))
+            ? getMethodOrNull(Bukkit.getServer().getClass(), "syncCommands")
+            : null;
+
+    private static @Nullable Method getMethodOrNull(@NotNull Class<?> clazz, @NotNull String name) {
+        for (Method method : clazz.getDeclaredMethods()) {
+            if (method.getName().equals(name) && method.getParameterCount() == 0) {
+                method.setAccessible(true);
+                return method;
+            }
+        }
+        return null;
+    }
 }
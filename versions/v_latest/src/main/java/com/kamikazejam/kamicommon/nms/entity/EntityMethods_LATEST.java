@@ -1,18 +1,51 @@
 package com.kamikazejam.kamicommon.nms.entity;
 
+import com.google.common.collect.MapMaker;
+import com.kamikazejam.kamicommon.nms.item.CraftItemHandle_LATEST;
+import net.minecraft.core.component.DataComponents;
 import net.minecraft.world.entity.Mob;
 import org.bukkit.craftbukkit.entity.CraftCreature;
 import org.bukkit.craftbukkit.entity.CraftEntity;
 import org.bukkit.craftbukkit.entity.CraftLivingEntity;
 import org.bukkit.entity.Creature;
 import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Working for: 1.21 CB, 1.21.8, 1.21.9
  */
 @SuppressWarnings("unused")
 public class EntityMethods_LATEST extends EntityMethodsPost_1_14 {
+    // Spawner types keyed by the identity of the item's block entity data component. Components are immutable
+    //  and shared between copies of a stack, so every copy of a spawner item hits the same entry. Weak keys let
+    //  entries go away with the last item holding the component.
+    private final ConcurrentMap<Object, Optional<EntityType>> spawnerTypes = new MapMaker().weakKeys().makeMap();
+
+    @Override
+    public @NotNull Optional<EntityType> getSpawnerType(@Nullable ItemStack stack) {
+        if (stack == null || stack.getType() != SPAWNER) {
+            return Optional.empty();
+        }
+        @Nullable net.minecraft.world.item.ItemStack handle = CraftItemHandle_LATEST.get(stack);
+        // Only the reference is used, its type changed across 1.20.5+ versions
+        @Nullable Object data = (handle != null) ? handle.get(DataComponents.BLOCK_ENTITY_DATA) : null;
+        if (data == null) {
+            return super.getSpawnerType(stack);
+        }
+        @Nullable Optional<EntityType> cached = this.spawnerTypes.get(data);
+        if (cached != null) {
+            return cached;
+        }
+        Optional<EntityType> type = this.getSpawnerTypeByMeta(stack);
+        this.spawnerTypes.put(data, type);
+        return type;
+    }
 
     @Override
     public void setPersists(@NotNull Creature creature, boolean value) {
@@ -3,6 +3,7 @@ package com.kamikazejam.kamicommon.nms.event;
 import com.destroystokyo.paper.event.entity.PreSpawnerSpawnEvent;
 import com.kamikazejam.kamicommon.nms.abstraction.event.PreSpawnSpawnerEvent;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 
@@ -10,7 +11,13 @@ import org.bukkit.event.Listener;
 public class PreSpawnSpawnerAdapter_LATEST implements Listener {
     @EventHandler
     public void onSpawn(PreSpawnerSpawnEvent e) {
-        PreSpawnSpawnerEvent preEvent = new PreSpawnSpawnerEvent(e.getSpawnerLocation().getBlock(), e.getType(), e.getSpawnLocation());
+        // Nothing listens, skip creating and calling the event
+        if (!PreSpawnSpawnerEvent.hasListeners()) { return; }
+
+        Location spawner = e.getSpawnerLocation();
+        PreSpawnSpawnerEvent preEvent = new PreSpawnSpawnerEvent(
+                spawner.getWorld(), spawner.getBlockX(), spawner.getBlockY(), spawner.getBlockZ(), e.getType(), e.getSpawnLocation()
+        );
         preEvent.setCancelled(e.isCancelled());
         Bukkit.getServer().getPluginManager().callEvent(preEvent);
         e.setCancelled(preEvent.isCancelled());
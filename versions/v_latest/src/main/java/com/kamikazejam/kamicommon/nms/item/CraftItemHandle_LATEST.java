@@ -0,0 +1,29 @@
+package com.kamikazejam.kamicommon.nms.item;
+
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandle;
+import org.bukkit.craftbukkit.inventory.CraftItemStack;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Access to the live nms stack behind a {@link CraftItemStack}, without the copy made by {@link CraftItemStack#asNMSCopy(ItemStack)}.
+ * <br>
+ * Callers must treat the returned stack as owned by the bukkit item: read it freely, write it only where the bukkit item should change too.
+ */
+public final class CraftItemHandle_LATEST {
+    private CraftItemHandle_LATEST() {}
+
+    private static final FieldHandle<net.minecraft.world.item.ItemStack> HANDLE = new FieldHandle<>("handle", CraftItemStack.class);
+
+    /**
+     * @return the nms stack of a {@link CraftItemStack}, or null for plain bukkit stacks (and empty craft stacks)
+     */
+    @Nullable
+    public static net.minecraft.world.item.ItemStack get(@NotNull ItemStack item) {
+        if (item instanceof CraftItemStack craftItem) {
+            return HANDLE.get(craftItem);
+        }
+        return null;
+    }
+}
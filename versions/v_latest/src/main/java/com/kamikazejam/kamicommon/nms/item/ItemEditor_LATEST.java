@@ -1,13 +1,19 @@
 package com.kamikazejam.kamicommon.nms.item;
 
 import com.kamikazejam.kamicommon.nms.abstraction.item.AbstractItemEditor;
+import net.minecraft.core.component.DataComponents;
+import org.bukkit.craftbukkit.inventory.CraftItemStack;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.Damageable;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
- * Working for: 1.13, 1.21.8, 1.21.9
+ * Working for: 1.20.5, 1.21.8, 1.21.9
+ * <br>
+ * Damage and unbreakable are read from (and damage written to) the data components of the
+ * nms stack behind a {@link CraftItemStack}, without cloning its {@link ItemMeta}.
  */
 @SuppressWarnings("unused")
 public class ItemEditor_LATEST extends AbstractItemEditor {
@@ -24,8 +30,26 @@ public class ItemEditor_LATEST extends AbstractItemEditor {
         return meta.isUnbreakable();
     }
 
+    @Override
+    public boolean isUnbreakable(@NotNull ItemStack item) {
+        @Nullable net.minecraft.world.item.ItemStack handle = CraftItemHandle_LATEST.get(item);
+        if (handle == null) {
+            return super.isUnbreakable(item);
+        }
+        return handle.has(DataComponents.UNBREAKABLE);
+    }
+
     @Override
     public ItemStack setDamage(@NotNull ItemStack item, int damage) {
+        @Nullable net.minecraft.world.item.ItemStack handle = CraftItemHandle_LATEST.get(item);
+        if (handle != null) {
+            if (handle.isEmpty()) {
+                throw new IllegalArgumentException("ItemMeta is not Damageable");
+            }
+            handle.set(DataComponents.DAMAGE, damage);
+            return item;
+        }
+
         // 1.13+ method
         if (item.getItemMeta() instanceof Damageable damageable) {
             damageable.setDamage(damage);
@@ -38,6 +62,15 @@ public class ItemEditor_LATEST extends AbstractItemEditor {
 
     @Override
     public int getDamage(@NotNull ItemStack item) {
+        @Nullable net.minecraft.world.item.ItemStack handle = CraftItemHandle_LATEST.get(item);
+        if (handle != null) {
+            if (handle.isEmpty()) {
+                throw new IllegalArgumentException("ItemMeta is not Damageable");
+            }
+            // Unclamped, like Damageable#getDamage
+            return handle.getOrDefault(DataComponents.DAMAGE, 0);
+        }
+
         // 1.13+ method
         if (item.getItemMeta() instanceof Damageable damageable) {
             return damageable.getDamage();
@@ -47,7 +80,11 @@ public class ItemEditor_LATEST extends AbstractItemEditor {
 
     @Override
     public boolean isDamageable(@NotNull ItemStack item) {
-        // 1.13+ method
-        return item.getItemMeta() instanceof Damageable;
+        // Every non-empty item has a Damageable meta
+        @Nullable net.minecraft.world.item.ItemStack handle = CraftItemHandle_LATEST.get(item);
+        if (handle != null) {
+            return !handle.isEmpty();
+        }
+        return !item.getType().isAir();
     }
 }
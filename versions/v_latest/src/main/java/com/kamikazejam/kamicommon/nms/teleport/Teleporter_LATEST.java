@@ -1,6 +1,8 @@
 package com.kamikazejam.kamicommon.nms.teleport;
 
-import com.kamikazejam.kamicommon.nms.abstraction.teleport.AbstractTeleporter;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundBundlePacket;
 import net.minecraft.network.protocol.game.ClientboundChangeDifficultyPacket;
 import net.minecraft.network.protocol.game.ClientboundInitializeBorderPacket;
 import net.minecraft.network.protocol.game.ClientboundPlayerAbilitiesPacket;
@@ -17,10 +19,12 @@ import net.minecraft.network.protocol.game.ClientboundUpdateAttributesPacket;
 import net.minecraft.network.protocol.game.ClientboundUpdateMobEffectPacket;
 import net.minecraft.network.protocol.game.CommonPlayerSpawnInfo;
 import net.minecraft.network.syncher.SynchedEntityData;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.border.WorldBorder;
 import net.minecraft.world.level.chunk.status.ChunkStatus;
 import net.minecraft.world.phys.Vec3;
@@ -30,56 +34,161 @@ import org.bukkit.craftbukkit.CraftServer;
 import org.bukkit.craftbukkit.CraftWorld;
 import org.bukkit.craftbukkit.entity.CraftPlayer;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * Confirmed Working for versions: [1.21.10]
  */
 @SuppressWarnings({"DuplicatedCode"})
-public class Teleporter_LATEST extends AbstractTeleporter {
+public class Teleporter_LATEST extends TeleporterPost_1_14 {
 
     @Override
     public void teleportWithoutEvent(Player player, Location location) {
-        if (player.getVehicle() != null) {
-            player.getVehicle().eject();
-        }
-        if (location.getWorld() == null) { return; }
-
-        final ServerLevel toWorld = ((CraftWorld)location.getWorld()).getHandle();
-        final ServerLevel fromWorld = ((CraftWorld)player.getWorld()).getHandle();
-        final ServerPlayer entityPlayer = ((CraftPlayer)player).getHandle();
-        if (toWorld == fromWorld) {
-            // Starting in 1.21.10 this method no longer accepts a Location
-            //  and requires each coordinate separately.
-            // NOTE: the normal teleport(...) method FIRES THE TELEPORT EVENT, but this internalTeleport(...) does not.
-            entityPlayer.connection.internalTeleport(
-                    location.getX(),
-                    location.getY(),
-                    location.getZ(),
-                    location.getYaw(),
-                    location.getPitch()
-            );
-        }
-        else {
-            // Starting in 1.21.10 minecraft changed some internal methods regarding teleportation between dimensions
-            //  they also reworked the PlayerList#respawn method making it unsuitable for a cross-dimension teleport.
-            // This solution may not be complete or future-proof but it works for now.
-            crossDimensionSilent(player, location);
-        }
+        this.teleportAll(Collections.singletonMap(player, location), true);
+    }
+
+    @Override
+    public void teleportWithoutEvent(@NotNull Map<? extends Player, ? extends Location> destinations) {
+        this.teleportAll(destinations, true);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> teleportWithoutEventAsync(@NotNull Plugin plugin, @NotNull Map<? extends Player, ? extends Location> destinations) {
+        return this.teleportAfterChunksLoad(plugin, destinations, MinecraftServer.getServer(), targets -> this.teleportAll(targets, false));
+    }
+
+    @Override
+    protected @NotNull CompletableFuture<?> loadChunkAsync(@NotNull ChunkTarget chunk) {
+        return chunk.world().getChunkAtAsync(chunk.x(), chunk.z());
+    }
+
+    /**
+     * @param awaitChunks whether to load the target chunks of cross-dimension transfers (blocking),
+     *                    false if the caller already holds them loaded
+     */
+    private void teleportAll(Map<? extends Player, ? extends Location> destinations, boolean awaitChunks) {
+        // Cross-dimension transfers, grouped by target world
+        final Map<ServerLevel, List<Transfer>> transfers = new LinkedHashMap<>();
+        destinations.forEach((player, location) -> {
+            if (player.getVehicle() != null) {
+                player.getVehicle().eject();
+            }
+            if (location.getWorld() == null) { return; }
+
+            final ServerLevel toWorld = ((CraftWorld)location.getWorld()).getHandle();
+            final ServerLevel fromWorld = ((CraftWorld)player.getWorld()).getHandle();
+            final ServerPlayer entityPlayer = ((CraftPlayer)player).getHandle();
+            if (toWorld == fromWorld) {
+                // Starting in 1.21.10 this method no longer accepts a Location
+                //  and requires each coordinate separately.
+                // NOTE: the normal teleport(...) method FIRES THE TELEPORT EVENT, but this internalTeleport(...) does not.
+                entityPlayer.connection.internalTeleport(
+                        location.getX(),
+                        location.getY(),
+                        location.getZ(),
+                        location.getYaw(),
+                        location.getPitch()
+                );
+            }
+            else {
+                // Starting in 1.21.10 minecraft changed some internal methods regarding teleportation between dimensions
+                //  they also reworked the PlayerList#respawn method making it unsuitable for a cross-dimension teleport.
+                // This solution may not be complete or future-proof but it works for now.
+                transfers.computeIfAbsent(toWorld, k -> new ArrayList<>()).add(new Transfer(entityPlayer, toWorld, location));
+            }
+        });
+        if (transfers.isEmpty()) { return; }
+
+        List<Transfer> grouped = new ArrayList<>();
+        transfers.values().forEach(grouped::addAll);
+        crossDimensionSilent(grouped, awaitChunks);
     }
 
+    private record Transfer(ServerPlayer player, ServerLevel targetLevel, Location targetLoc) {}
+
     /**
      * Yay! 1.21.10 made us do this manually!<br>
      * <br>
-     * This method is probably not complete or future-proof, but it works for now.
+     * This method is probably not complete or future-proof, but it works for now.<br>
+     * <br>
+     * Each player is removed from its old level and added to the target level on its own, so a failure only
+     *  affects that player, who is put back into its old level. The client resyncs are sent afterward in one pass.
+     *  The first failure is rethrown once every other player has been handled.
+     *
+     * @param awaitChunks whether to load the target chunks (blocking), false if the caller already holds them loaded
      */
-    @SuppressWarnings({"resource"})
-    private void crossDimensionSilent(Player player, Location targetLoc) {
-        ServerPlayer sp = ((CraftPlayer) player).getHandle();
-        ServerLevel targetLevel = ((CraftWorld) targetLoc.getWorld()).getHandle();
+    private void crossDimensionSilent(List<Transfer> transfers, boolean awaitChunks) {
+        // 2. Preload Chunks (ensure full load), every chunk is requested before any is waited on
+        if (awaitChunks) {
+            Map<ServerLevel, Set<Long>> requested = new HashMap<>();
+            List<CompletableFuture<?>> chunkFutures = new ArrayList<>();
+            for (Transfer transfer : transfers) {
+                int chunkX = transfer.targetLoc().getBlockX() >> 4;
+                int chunkZ = transfer.targetLoc().getBlockZ() >> 4;
+                if (requested.computeIfAbsent(transfer.targetLevel(), k -> new HashSet<>()).add(ChunkPos.asLong(chunkX, chunkZ))) {
+                    chunkFutures.add(transfer.targetLevel().getChunkSource().getChunkFuture(chunkX, chunkZ, ChunkStatus.FULL, true));
+                }
+            }
+            CompletableFuture.allOf(chunkFutures.toArray(CompletableFuture[]::new)).join();
+        }
+
+        List<Transfer> moved = new ArrayList<>(transfers.size());
+        @Nullable RuntimeException failure = null;
+        for (Transfer transfer : transfers) {
+            final ServerPlayer sp = transfer.player();
+            final ServerLevel originLevel = sp.level();
+            final Location origin = sp.getBukkitEntity().getLocation();
+            boolean removed = false;
+            try {
+                this.removeFromOldLevel(sp);
+                removed = true;
+                this.addToTargetLevel(sp, transfer.targetLevel(), transfer.targetLoc());
+                moved.add(transfer);
+            } catch (RuntimeException e) {
+                failure = collect(failure, e);
+                if (!removed) { continue; }
+                // Roll back, a player removed from its old level must never be left without one
+                try {
+                    this.addToTargetLevel(sp, originLevel, origin);
+                    moved.add(new Transfer(sp, originLevel, origin));
+                } catch (RuntimeException rollback) {
+                    failure = collect(failure, rollback);
+                }
+            }
+        }
+
+        for (Transfer transfer : moved) {
+            try {
+                this.resyncClient(transfer.player(), transfer.targetLevel());
+            } catch (RuntimeException e) {
+                failure = collect(failure, e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @NotNull
+    private static RuntimeException collect(@Nullable RuntimeException failure, @NotNull RuntimeException e) {
+        if (failure == null) { return e; }
+        failure.addSuppressed(e);
+        return failure;
+    }
+
+    private void removeFromOldLevel(ServerPlayer sp) {
         ServerLevel oldLevel = sp.level();
 
         // 1. Safety Checks (dismount + reset fall damage + zero velocity + onGround)
@@ -88,19 +197,13 @@ public class Teleporter_LATEST extends AbstractTeleporter {
         sp.setDeltaMovement(Vec3.ZERO);
         sp.setOnGround(true);
 
-        // 2. Preload Chunk (ensure full load)
-        CompletableFuture<?> chunkFuture = targetLevel.getChunkSource()
-                .getChunkFuture(
-                        targetLoc.getBlockX() >> 4,
-                        targetLoc.getBlockZ() >> 4,
-                        ChunkStatus.FULL,
-                        true
-                );
-        chunkFuture.join();
-
-        // 3. Send potion effects BEFORE removal
+        // 3. Send potion effects BEFORE removal (bundled, the client applies them together)
+        List<Packet<? super ClientGamePacketListener>> effects = new ArrayList<>();
         for (MobEffectInstance effect : sp.getActiveEffects()) {
-            sp.connection.send(new ClientboundUpdateMobEffectPacket(sp.getId(), effect, false));
+            effects.add(new ClientboundUpdateMobEffectPacket(sp.getId(), effect, false));
+        }
+        if (!effects.isEmpty()) {
+            sp.connection.send(new ClientboundBundlePacket(effects));
         }
 
         // 4. Remove Entity from Old World
@@ -108,7 +211,9 @@ public class Teleporter_LATEST extends AbstractTeleporter {
 
         // 5. Revive the Player Instance
         sp.unsetRemoved();
+    }
 
+    private void addToTargetLevel(ServerPlayer sp, ServerLevel targetLevel, Location targetLoc) {
         // 6. Update Internal Player State
         sp.setServerLevel(targetLevel);
         sp.gameMode.setLevel(targetLevel);
@@ -139,66 +244,72 @@ public class Teleporter_LATEST extends AbstractTeleporter {
 
         // 9. Add Entity to New World
         targetLevel.addDuringTeleport(sp);
+    }
 
+    @SuppressWarnings({"resource"})
+    private void resyncClient(ServerPlayer sp, ServerLevel targetLevel) {
         // 10. Send Level Info
         ((CraftServer) Bukkit.getServer()).getHandle().sendLevelInfo(sp, targetLevel);
 
-        // 11. Resync Client Data
+        // 11. Resync Client Data (sent as a single bundle)
+        List<Packet<? super ClientGamePacketListener>> resync = new ArrayList<>(12);
 
         // a) Player List & Visibility (AFTER respawn)
-        sp.connection.send(ClientboundPlayerInfoUpdatePacket.createPlayerInitializing(
+        resync.add(ClientboundPlayerInfoUpdatePacket.createPlayerInitializing(
                 Collections.singletonList(sp)));
 
         // b) Entity Metadata (Skin Layers)
         List<SynchedEntityData.DataValue<?>> entityData = sp.getEntityData().getNonDefaultValues();
         if (entityData != null && !entityData.isEmpty()) {
-            sp.connection.send(new ClientboundSetEntityDataPacket(sp.getId(), entityData));
+            resync.add(new ClientboundSetEntityDataPacket(sp.getId(), entityData));
         }
 
         // c) World Difficulty
-        sp.connection.send(new ClientboundChangeDifficultyPacket(
+        resync.add(new ClientboundChangeDifficultyPacket(
                 targetLevel.getDifficulty(),
                 targetLevel.getLevelData().isDifficultyLocked()
         ));
 
         // d) View Distance
-        sp.connection.send(new ClientboundSetChunkCacheRadiusPacket(
+        resync.add(new ClientboundSetChunkCacheRadiusPacket(
                 targetLevel.getServer().getPlayerList().getViewDistance()));
-        sp.connection.send(new ClientboundSetSimulationDistancePacket(
+        resync.add(new ClientboundSetSimulationDistancePacket(
                 targetLevel.getServer().getPlayerList().getSimulationDistance()));
 
         // e) Abilities
-        sp.connection.send(new ClientboundPlayerAbilitiesPacket(sp.getAbilities()));
+        resync.add(new ClientboundPlayerAbilitiesPacket(sp.getAbilities()));
 
         // f) Experience
-        sp.connection.send(new ClientboundSetExperiencePacket(
+        resync.add(new ClientboundSetExperiencePacket(
                 sp.experienceProgress,
                 sp.totalExperience,
                 sp.experienceLevel
         ));
 
         // g) Health & Food
-        sp.connection.send(new ClientboundSetHealthPacket(
+        resync.add(new ClientboundSetHealthPacket(
                 sp.getHealth(),
                 sp.getFoodData().getFoodLevel(),
                 sp.getFoodData().getSaturationLevel()
         ));
 
         // h) Attributes
-        sp.connection.send(new ClientboundUpdateAttributesPacket(
+        resync.add(new ClientboundUpdateAttributesPacket(
                 sp.getId(),
                 sp.getAttributes().getSyncableAttributes()
         ));
 
         // i) Held Item Slot
-        sp.connection.send(new ClientboundSetHeldSlotPacket(sp.getInventory().getSelectedSlot()));
+        resync.add(new ClientboundSetHeldSlotPacket(sp.getInventory().getSelectedSlot()));
 
         // j) World Border
         WorldBorder border = targetLevel.getWorldBorder();
-        sp.connection.send(new ClientboundInitializeBorderPacket(border));
+        resync.add(new ClientboundInitializeBorderPacket(border));
 
         // k) Recipe Book State
-        sp.connection.send(new ClientboundRecipeBookSettingsPacket(sp.getRecipeBook().getBookSettings()));
+        resync.add(new ClientboundRecipeBookSettingsPacket(sp.getRecipeBook().getBookSettings()));
+
+        sp.connection.send(new ClientboundBundlePacket(resync));
 
         // l) Inventory
         sp.inventoryMenu.sendAllDataToRemote();
@@ -0,0 +1,325 @@
+package com.kamikazejam.kamicommon.nms.text;
+
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentBuilder;
+import net.kyori.adventure.text.KeybindComponent;
+import net.kyori.adventure.text.ScoreComponent;
+import net.kyori.adventure.text.SelectorComponent;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.json.JSONComponentSerializer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts between the shaded ({@code com.kamikazejam.kamicommon.nms.text.kyori}) and the native
+ * ({@code net.kyori}) adventure component trees by walking their nodes and styles directly.
+ * <br>
+ * Text, translatable, keybind, score and selector components are converted along with their children,
+ * colors, decorations, fonts, insertions, click events and text/entity hover events. Anything else
+ * (nbt or object components, item hovers, dialog or custom click events) makes the whole tree fall
+ * back to the JSON bridge, so the result is always equivalent.
+ * <br>
+ * This class serves every Paper version from 1.18.2, whose bundled adventure may predate some of the
+ * api used here. {@code TranslationArgument} (adventure 4.15) and shadow colors (adventure 4.18, Paper
+ * 1.21.4) are detected once; without translation arguments every conversion goes through the JSON
+ * bridge, and without shadow colors only trees using one do.
+ */
+public final class AdventureConverter_LATEST {
+    private AdventureConverter_LATEST() {}
+
+    private static final TextDecoration[] NATIVE_DECORATIONS = TextDecoration.values();
+    private static final com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.format.TextDecoration[] SHADED_DECORATIONS =
+            com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.format.TextDecoration.values();
+
+    private static final boolean STRUCTURAL = hasClass("net.kyori.adventure.text.TranslationArgument");
+    private static final boolean SHADOW_COLOR = hasMethod(Style.class, "shadowColor");
+
+    // ------------------------------------------------------------ //
+    //                        Shaded -> Native                      //
+    // ------------------------------------------------------------ //
+
+    @NotNull
+    public static Component toNative(@NotNull com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component component) {
+        if (STRUCTURAL) {
+            try {
+                return convertToNative(component);
+            } catch (Unsupported ignored) {
+                // Falls back to the JSON bridge below
+            }
+        }
+        String json = com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.serializer.json.JSONComponentSerializer.json().serialize(component);
+        return JSONComponentSerializer.json().deserialize(json);
+    }
+
+    @NotNull
+    private static Component convertToNative(@NotNull com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component component) {
+        ComponentBuilder<?, ?> builder;
+        if (component instanceof com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.TextComponent text) {
+            builder = Component.text().content(text.content());
+        } else if (component instanceof com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.TranslatableComponent translatable) {
+            List<TranslationArgument> arguments = new ArrayList<>(translatable.arguments().size());
+            for (com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.TranslationArgument argument : translatable.arguments()) {
+                Object value = argument.value();
+                if (value instanceof com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component c) {
+                    arguments.add(TranslationArgument.component(convertToNative(c)));
+                } else if (value instanceof Number n) {
+                    arguments.add(TranslationArgument.numeric(n));
+                } else if (value instanceof Boolean b) {
+                    arguments.add(TranslationArgument.bool(b));
+                } else {
+                    throw Unsupported.INSTANCE;
+                }
+            }
+            builder = Component.translatable().key(translatable.key()).fallback(translatable.fallback()).arguments(arguments);
+        } else if (component instanceof com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.KeybindComponent keybind) {
+            builder = Component.keybind().keybind(keybind.keybind());
+        } else if (component instanceof com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.ScoreComponent score) {
+            builder = Component.score().name(score.name()).objective(score.objective());
+        } else if (component instanceof com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.SelectorComponent selector) {
+            @Nullable com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component separator = selector.separator();
+            builder = Component.selector().pattern(selector.pattern()).separator((separator != null) ? convertToNative(separator) : null);
+        } else {
+            throw Unsupported.INSTANCE;
+        }
+
+        builder.style(toNative(component.style()));
+        for (com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component child : component.children()) {
+            builder.append(convertToNative(child));
+        }
+        return builder.build();
+    }
+
+    @NotNull
+    private static Style toNative(@NotNull com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.format.Style style) {
+        if (style.isEmpty()) {
+            return Style.empty();
+        }
+        Style.Builder builder = Style.style();
+        @Nullable com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.format.TextColor color = style.color();
+        if (color != null) {
+            builder.color(TextColor.color(color.value()));
+        }
+        @Nullable com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.format.ShadowColor shadow = style.shadowColor();
+        if (shadow != null) {
+            if (!SHADOW_COLOR) {
+                throw Unsupported.INSTANCE;
+            }
+            Shadows.setNative(builder, shadow.value());
+        }
+        for (int i = 0; i < SHADED_DECORATIONS.length; i++) {
+            com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.format.TextDecoration.State state = style.decoration(SHADED_DECORATIONS[i]);
+            if (state != com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.format.TextDecoration.State.NOT_SET) {
+                builder.decoration(NATIVE_DECORATIONS[i], TextDecoration.State.valueOf(state.name()));
+            }
+        }
+        @Nullable com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.event.ClickEvent click = style.clickEvent();
+        if (click != null) {
+            builder.clickEvent(toNative(click));
+        }
+        @Nullable com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.event.HoverEvent<?> hover = style.hoverEvent();
+        if (hover != null) {
+            builder.hoverEvent(toNative(hover));
+        }
+        @Nullable com.kamikazejam.kamicommon.nms.text.kyori.adventure.key.Key font = style.font();
+        if (font != null) {
+            builder.font(Key.key(font.namespace(), font.value()));
+        }
+        builder.insertion(style.insertion());
+        return builder.build();
+    }
+
+    @NotNull
+    private static ClickEvent toNative(@NotNull com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.event.ClickEvent click) {
+        return switch (click.action()) {
+            case OPEN_URL -> ClickEvent.openUrl(click.value());
+            case OPEN_FILE -> ClickEvent.openFile(click.value());
+            case RUN_COMMAND -> ClickEvent.runCommand(click.value());
+            case SUGGEST_COMMAND -> ClickEvent.suggestCommand(click.value());
+            case COPY_TO_CLIPBOARD -> ClickEvent.copyToClipboard(click.value());
+            default -> throw Unsupported.INSTANCE;
+        };
+    }
+
+    @NotNull
+    private static HoverEvent<?> toNative(@NotNull com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.event.HoverEvent<?> hover) {
+        Object value = hover.value();
+        if (value instanceof com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component text) {
+            return HoverEvent.showText(convertToNative(text));
+        } else if (value instanceof com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.event.HoverEvent.ShowEntity entity) {
+            @Nullable com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component name = entity.name();
+            Key type = Key.key(entity.type().namespace(), entity.type().value());
+            return HoverEvent.showEntity(type, entity.id(), (name != null) ? convertToNative(name) : null);
+        }
+        throw Unsupported.INSTANCE;
+    }
+
+    // ------------------------------------------------------------ //
+    //                        Native -> Shaded                      //
+    // ------------------------------------------------------------ //
+
+    @NotNull
+    public static com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component toShaded(@NotNull Component component) {
+        if (STRUCTURAL) {
+            try {
+                return convertToShaded(component);
+            } catch (Unsupported ignored) {
+                // Falls back to the JSON bridge below
+            }
+        }
+        String json = JSONComponentSerializer.json().serialize(component);
+        return com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.serializer.json.JSONComponentSerializer.json().deserialize(json);
+    }
+
+    @NotNull
+    private static com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component convertToShaded(@NotNull Component component) {
+        com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.ComponentBuilder<?, ?> builder;
+        if (component instanceof TextComponent text) {
+            builder = com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component.text().content(text.content());
+        } else if (component instanceof TranslatableComponent translatable) {
+            List<com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.TranslationArgument> arguments = new ArrayList<>(translatable.arguments().size());
+            for (TranslationArgument argument : translatable.arguments()) {
+                Object value = argument.value();
+                if (value instanceof Component c) {
+                    arguments.add(com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.TranslationArgument.component(convertToShaded(c)));
+                } else if (value instanceof Number n) {
+                    arguments.add(com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.TranslationArgument.numeric(n));
+                } else if (value instanceof Boolean b) {
+                    arguments.add(com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.TranslationArgument.bool(b));
+                } else {
+                    throw Unsupported.INSTANCE;
+                }
+            }
+            builder = com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component.translatable()
+                    .key(translatable.key()).fallback(translatable.fallback()).arguments(arguments);
+        } else if (component instanceof KeybindComponent keybind) {
+            builder = com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component.keybind().keybind(keybind.keybind());
+        } else if (component instanceof ScoreComponent score) {
+            builder = com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component.score().name(score.name()).objective(score.objective());
+        } else if (component instanceof SelectorComponent selector) {
+            @Nullable Component separator = selector.separator();
+            builder = com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component.selector()
+                    .pattern(selector.pattern()).separator((separator != null) ? convertToShaded(separator) : null);
+        } else {
+            throw Unsupported.INSTANCE;
+        }
+
+        builder.style(toShaded(component.style()));
+        for (Component child : component.children()) {
+            builder.append(convertToShaded(child));
+        }
+        return builder.build();
+    }
+
+    @NotNull
+    private static com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.format.Style toShaded(@NotNull Style style) {
+        if (style.isEmpty()) {
+            return com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.format.Style.empty();
+        }
+        com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.format.Style.Builder builder =
+                com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.format.Style.style();
+        @Nullable TextColor color = style.color();
+        if (color != null) {
+            builder.color(com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.format.TextColor.color(color.value()));
+        }
+        if (SHADOW_COLOR) {
+            Shadows.copyToShaded(style, builder);
+        }
+        for (int i = 0; i < NATIVE_DECORATIONS.length; i++) {
+            TextDecoration.State state = style.decoration(NATIVE_DECORATIONS[i]);
+            if (state != TextDecoration.State.NOT_SET) {
+                builder.decoration(SHADED_DECORATIONS[i], com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.format.TextDecoration.State.valueOf(state.name()));
+            }
+        }
+        @Nullable ClickEvent click = style.clickEvent();
+        if (click != null) {
+            builder.clickEvent(toShaded(click));
+        }
+        @Nullable HoverEvent<?> hover = style.hoverEvent();
+        if (hover != null) {
+            builder.hoverEvent(toShaded(hover));
+        }
+        @Nullable Key font = style.font();
+        if (font != null) {
+            builder.font(com.kamikazejam.kamicommon.nms.text.kyori.adventure.key.Key.key(font.namespace(), font.value()));
+        }
+        builder.insertion(style.insertion());
+        return builder.build();
+    }
+
+    @NotNull
+    private static com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.event.ClickEvent toShaded(@NotNull ClickEvent click) {
+        return switch (click.action()) {
+            case OPEN_URL -> com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.event.ClickEvent.openUrl(click.value());
+            case OPEN_FILE -> com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.event.ClickEvent.openFile(click.value());
+            case RUN_COMMAND -> com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.event.ClickEvent.runCommand(click.value());
+            case SUGGEST_COMMAND -> com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.event.ClickEvent.suggestCommand(click.value());
+            case COPY_TO_CLIPBOARD -> com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.event.ClickEvent.copyToClipboard(click.value());
+            default -> throw Unsupported.INSTANCE;
+        };
+    }
+
+    @NotNull
+    private static com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.event.HoverEvent<?> toShaded(@NotNull HoverEvent<?> hover) {
+        Object value = hover.value();
+        if (value instanceof Component text) {
+            return com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.event.HoverEvent.showText(convertToShaded(text));
+        } else if (value instanceof HoverEvent.ShowEntity entity) {
+            @Nullable Component name = entity.name();
+            com.kamikazejam.kamicommon.nms.text.kyori.adventure.key.Key type =
+                    com.kamikazejam.kamicommon.nms.text.kyori.adventure.key.Key.key(entity.type().namespace(), entity.type().value());
+            return com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.event.HoverEvent.showEntity(type, entity.id(), (name != null) ? convertToShaded(name) : null);
+        }
+        throw Unsupported.INSTANCE;
+    }
+
+    private static boolean hasClass(@NotNull String name) {
+        try {
+            Class.forName(name, false, AdventureConverter_LATEST.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static boolean hasMethod(@NotNull Class<?> clazz, @NotNull String name) {
+        try {
+            clazz.getMethod(name);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    // Only loaded once SHADOW_COLOR is known to be true, keeping ShadowColor out of the outer class
+    private static final class Shadows {
+        private static void setNative(@NotNull Style.Builder builder, int argb) {
+            builder.shadowColor(net.kyori.adventure.text.format.ShadowColor.shadowColor(argb));
+        }
+
+        private static void copyToShaded(@NotNull Style style, @NotNull com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.format.Style.Builder builder) {
+            @Nullable net.kyori.adventure.text.format.ShadowColor shadow = style.shadowColor();
+            if (shadow != null) {
+                builder.shadowColor(com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.format.ShadowColor.shadowColor(shadow.value()));
+            }
+        }
+    }
+
+    // Thrown (without a stack trace) when a node has no structural mapping, switching the whole tree to the JSON bridge
+    private static final class Unsupported extends RuntimeException {
+        private static final Unsupported INSTANCE = new Unsupported();
+        private Unsupported() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.kamikazejam.kamicommon.nms.text;
+
+import com.destroystokyo.paper.ClientOption;
+import com.kamikazejam.kamicommon.nms.NmsVersion;
+import com.kamikazejam.kamicommon.util.nms.NmsVersionParser;
+import io.papermc.paper.adventure.PaperAdventure;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.translation.GlobalTranslator;
+import net.minecraft.network.protocol.game.ClientboundSystemChatPacket;
+import net.minecraft.server.level.ServerPlayer;
+import org.bukkit.command.CommandSender;
+import org.bukkit.craftbukkit.entity.CraftPlayer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Sends one native component to many recipients using prebuilt system chat packets.
+ * The component is rendered for each distinct client locale (as {@code Player#sendMessage} does
+ * through the {@link GlobalTranslator}) and converted to its vanilla form once per locale, instead
+ * of once per recipient. The packet object is shared, but each connection still encodes it.
+ * <p>
+ * The packets use this module's server internals, which only match 1.20.5+. Older servers
+ * fall back to sending the component to each recipient.
+ */
+public final class ChatBroadcast_LATEST {
+    private static final boolean PACKET_BROADCAST = NmsVersion.getFormattedNmsInteger() >= NmsVersionParser.getFormattedNmsInteger("1.20.5");
+
+    private ChatBroadcast_LATEST() {}
+
+    public static void broadcast(@NotNull Collection<? extends CommandSender> recipients, @NotNull Component component) {
+        if (!PACKET_BROADCAST) {
+            for (CommandSender recipient : recipients) {
+                recipient.sendMessage(component);
+            }
+            return;
+        }
+        Packets.broadcast(recipients, component);
+    }
+
+    // Holder so the 1.20.5+ internals are only linked once the version check has passed
+    private static final class Packets {
+        private static void broadcast(@NotNull Collection<? extends CommandSender> recipients, @NotNull Component component) {
+            Map<Locale, ClientboundSystemChatPacket> packets = new HashMap<>();
+            for (CommandSender recipient : recipients) {
+                if (!(recipient instanceof CraftPlayer player)) {
+                    recipient.sendMessage(component);
+                    continue;
+                }
+                // Mirror vanilla: players with chat hidden do not receive (non-overlay) system messages
+                if (player.getClientOption(ClientOption.CHAT_VISIBILITY) == ClientOption.ChatVisibility.HIDDEN) {
+                    continue;
+                }
+                ServerPlayer handle = player.getHandle();
+                if (handle.connection == null) { continue; }
+                ClientboundSystemChatPacket packet = packets.computeIfAbsent(player.locale(), locale ->
+                        new ClientboundSystemChatPacket(PaperAdventure.asVanilla(GlobalTranslator.render(component, locale)), false)
+                );
+                handle.connection.send(packet);
+            }
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.kamikazejam.kamicommon.nms.text;
 
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 
@@ -14,7 +13,7 @@ public class ComponentLoggerAdapter_LATEST implements ComponentLoggerAdapter {
     public void log(@NotNull Plugin plugin, @NotNull VersionedComponent message, @NotNull Level level) {
         // This is the new implementation for versions after paper added adventure support
         // It uses the built-in component logger to send colored components to the console directly
-        Component nativeComponent = getNativeComponent(message);
+        Component nativeComponent = VersionedComponent_LATEST.toNative(message);
 
         if (level == Level.FINE) {
             plugin.getComponentLogger().debug(nativeComponent);
@@ -29,14 +28,4 @@ public class ComponentLoggerAdapter_LATEST implements ComponentLoggerAdapter {
             throw new UnsupportedOperationException("Unsupported log level: " + level.getName());
         }
     }
-
-    @NotNull
-    private Component getNativeComponent(VersionedComponent message) {
-        if (message instanceof  ModernVersionedComponent modern) {
-            return modern.asNativeComponent();
-        }
-        // Fallback to mini message adapter
-        String miniMessage = message.serializeMiniMessage();
-        return MiniMessage.miniMessage().deserialize(miniMessage);
-    }
 }
@@ -0,0 +1,68 @@
+package com.kamikazejam.kamicommon.nms.text;
+
+import com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Factory for 1.18.2+, which has adventure bundled, so the native apis are used.
+ */
+public class VersionedComponentFactory_LATEST implements VersionedComponentFactory {
+    @Override
+    public @NotNull VersionedComponent fromInternalComponent(@NotNull Component component) {
+        return VersionedComponent_LATEST.fromInternalComponent(component);
+    }
+
+    @Override
+    public @NotNull VersionedComponent fromPlainText(@NotNull String text) {
+        return VersionedComponent_LATEST.fromPlainText(text);
+    }
+
+    @Override
+    public @NotNull VersionedComponent fromMiniMessage(@NotNull String miniMessage) {
+        return VersionedComponent_LATEST.fromMiniMessage(miniMessage);
+    }
+
+    @Override
+    public @NotNull VersionedComponent fromLegacyAmpersand(@NotNull String legacy) {
+        return VersionedComponent_LATEST.fromLegacyAmpersand(legacy);
+    }
+
+    @Override
+    public @NotNull VersionedComponent fromLegacySection(@NotNull String legacy) {
+        return VersionedComponent_LATEST.fromLegacySection(legacy);
+    }
+
+    @Override
+    public @NotNull ItemMeta setDisplayName(@NotNull ItemMeta meta, @Nullable VersionedComponent name) {
+        return VersionedComponent_LATEST.setDisplayName(meta, name);
+    }
+
+    @Override
+    public @NotNull ItemMeta setLore(@NotNull ItemMeta meta, @Nullable List<VersionedComponent> lore) {
+        return VersionedComponent_LATEST.setLore(meta, lore);
+    }
+
+    @Override
+    public @Nullable List<VersionedComponent> getLore(@NotNull ItemMeta meta) {
+        return VersionedComponent_LATEST.getLore(meta);
+    }
+
+    @Override
+    public @Nullable VersionedComponent getDisplayName(@NotNull ItemMeta meta) {
+        return VersionedComponent_LATEST.getDisplayName(meta);
+    }
+
+    @Override
+    public @NotNull ItemMeta addLoreLine(@NotNull ItemMeta meta, @NotNull VersionedComponent line) {
+        return VersionedComponent_LATEST.addLoreLine(meta, line);
+    }
+
+    @Override
+    public @NotNull ItemMeta addLoreLines(@NotNull ItemMeta meta, @NotNull List<VersionedComponent> lines) {
+        return VersionedComponent_LATEST.addLoreLines(meta, lines);
+    }
+}
@@ -1,6 +1,5 @@
 package com.kamikazejam.kamicommon.nms.text;
 
-import com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.serializer.json.JSONComponentSerializer;
 import com.kamikazejam.kamicommon.util.Preconditions;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
@@ -17,6 +16,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -27,6 +27,8 @@ import java.util.Objects;
  */
 public class VersionedComponent_LATEST implements ModernVersionedComponent {
     private final @NotNull Component component;
+    // Components are immutable, so each serialized form is computed at most once (racy but idempotent)
+    private volatile @Nullable String miniMessage, legacyAmpersand, legacySection, plainText;
     private VersionedComponent_LATEST(@NotNull Component component) {
         this.component = component;
     }
@@ -37,24 +39,45 @@ public class VersionedComponent_LATEST implements ModernVersionedComponent {
         sender.sendMessage(this.component);
     }
 
+    @Override
+    public void broadcast(@NotNull Collection<? extends CommandSender> recipients) {
+        ChatBroadcast_LATEST.broadcast(recipients, this.component);
+    }
+
     @Override
     public @NotNull String serializeMiniMessage() {
-        return MiniMessage.miniMessage().serialize(component);
+        @Nullable String s = this.miniMessage;
+        if (s == null) {
+            this.miniMessage = s = MiniMessage.miniMessage().serialize(this.component);
+        }
+        return s;
     }
 
     @Override
     public @NotNull String serializeLegacyAmpersand() {
-        return LegacyComponentSerializer.legacyAmpersand().serialize(this.component);
+        @Nullable String s = this.legacyAmpersand;
+        if (s == null) {
+            this.legacyAmpersand = s = LegacyComponentSerializer.legacyAmpersand().serialize(this.component);
+        }
+        return s;
     }
 
     @Override
     public @NotNull String serializeLegacySection() {
-        return LegacyComponentSerializer.legacySection().serialize(this.component);
+        @Nullable String s = this.legacySection;
+        if (s == null) {
+            this.legacySection = s = LegacyComponentSerializer.legacySection().serialize(this.component);
+        }
+        return s;
     }
 
     @Override
     public @NotNull String serializePlainText() {
-        return PlainTextComponentSerializer.plainText().serialize(this.component);
+        @Nullable String s = this.plainText;
+        if (s == null) {
+            this.plainText = s = PlainTextComponentSerializer.plainText().serialize(this.component);
+        }
+        return s;
     }
 
     @Override
@@ -70,9 +93,7 @@ public class VersionedComponent_LATEST implements ModernVersionedComponent {
     @Internal
     public static @NotNull VersionedComponent_LATEST fromInternalComponent(@NotNull com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component component) {
         Preconditions.checkNotNull(component, "component cannot be null");
-        // Use JSON to convert between shaded and native component types
-        String json = JSONComponentSerializer.json().serialize(component);
-        return new VersionedComponent_LATEST(net.kyori.adventure.text.serializer.json.JSONComponentSerializer.json().deserialize(json));
+        return new VersionedComponent_LATEST(AdventureConverter_LATEST.toNative(component));
     }
 
     @Internal
@@ -101,9 +122,8 @@ public class VersionedComponent_LATEST implements ModernVersionedComponent {
 
     @Override
     public @NotNull com.kamikazejam.kamicommon.nms.text.kyori.adventure.text.Component asInternalComponent() {
-        // We need to adapt the native component to the shaded component type. Use JSON as a bridge
-        String json = net.kyori.adventure.text.serializer.json.JSONComponentSerializer.json().serialize(this.component);
-        return JSONComponentSerializer.json().deserialize(json);
+        // We need to adapt the native component to the shaded component type
+        return AdventureConverter_LATEST.toShaded(this.component);
     }
 
     @Override
@@ -113,33 +133,28 @@ public class VersionedComponent_LATEST implements ModernVersionedComponent {
 
     @Override
     public @NotNull VersionedComponent append(@NotNull VersionedComponent other) {
-        @NotNull Component otherComp;
-        if (other instanceof VersionedComponent_LATEST vcLatest) {
-            otherComp = vcLatest.component;
-        } else {
-            String miniMessage = other.serializeMiniMessage();
-            otherComp = MiniMessage.miniMessage().deserialize(miniMessage);
-        }
-        return new VersionedComponent_LATEST(this.component.append(otherComp));
+        return new VersionedComponent_LATEST(this.component.append(toNative(other)));
     }
 
     // ------------------------------------------------------------ //
     //                        STATIC METHODS                        //
     // ------------------------------------------------------------ //
+    @Internal
+    public static @NotNull Component toNative(@NotNull VersionedComponent component) {
+        if (component instanceof ModernVersionedComponent modern) {
+            return modern.asNativeComponent();
+        }
+        // Convert the shaded tree structurally instead of round-tripping through a text format
+        return AdventureConverter_LATEST.toNative(component.asInternalComponent());
+    }
+
     public static @NotNull ItemMeta setDisplayName(@NotNull ItemMeta meta, @Nullable VersionedComponent name) {
         if (name == null) {
             meta.displayName(null);
             return meta;
         }
 
-        @NotNull Component nameComponent;
-        if (name instanceof VersionedComponent_LATEST vcLatest) {
-            nameComponent = vcLatest.component;
-        } else {
-            String miniMessage = name.serializeMiniMessage();
-            nameComponent = MiniMessage.miniMessage().deserialize(miniMessage);
-        }
-        meta.customName(nameComponent);
+        meta.customName(toNative(name));
         return meta;
     }
     public static @NotNull ItemMeta setLore(@NotNull ItemMeta meta, @Nullable List<VersionedComponent> lore) {
@@ -147,15 +162,9 @@ public class VersionedComponent_LATEST implements ModernVersionedComponent {
             meta.lore(null);
             return meta;
         }
-        List<Component> serializedLore = new ArrayList<>();
+        List<Component> serializedLore = new ArrayList<>(lore.size());
         for (VersionedComponent vc : lore) {
-            if (vc instanceof VersionedComponent_LATEST vcLatest) {
-                serializedLore.add(vcLatest.component);
-            } else {
-                String miniMessage = vc.serializeMiniMessage();
-                Component comp = MiniMessage.miniMessage().deserialize(miniMessage);
-                serializedLore.add(comp);
-            }
+            serializedLore.add(toNative(vc));
         }
         meta.lore(serializedLore);
         return meta;
@@ -187,12 +196,19 @@ public class VersionedComponent_LATEST implements ModernVersionedComponent {
     public static @NotNull ItemMeta addLoreLine(@NotNull ItemMeta meta, @NotNull VersionedComponent line) {
         List<Component> lore = (meta.hasLore() && meta.lore() != null) ? meta.lore() : List.of();
         List<Component> newLore = new ArrayList<>(Objects.requireNonNull(lore));
-        if (line instanceof VersionedComponent_LATEST vcLatest) {
-            newLore.add(vcLatest.component);
-        } else {
-            String miniMessage = line.serializeMiniMessage();
-            Component comp = MiniMessage.miniMessage().deserialize(miniMessage);
-            newLore.add(comp);
+        newLore.add(toNative(line));
+        meta.lore(newLore);
+        return meta;
+    }
+
+    public static @NotNull ItemMeta addLoreLines(@NotNull ItemMeta meta, @NotNull List<VersionedComponent> lines) {
+        @Nullable List<Component> lore = meta.hasLore() ? meta.lore() : null;
+        List<Component> newLore = new ArrayList<>(((lore != null) ? lore.size() : 0) + lines.size());
+        if (lore != null) {
+            newLore.addAll(lore);
+        }
+        for (VersionedComponent line : lines) {
+            newLore.add(toNative(line));
         }
         meta.lore(newLore);
         return meta;
@@ -0,0 +1,26 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandle;
+import net.minecraft.network.protocol.game.ClientboundTeleportEntityPacket;
+import org.jetbrains.annotations.NotNull;
+
+public class OutEntityTeleport_LATEST implements NMSOutEntityTeleport {
+    // The packet became a record in 1.21.2 (id() instead of getId()), but the field is named "id" in both layouts
+    private static final FieldHandle<Integer> idHandle = new FieldHandle<>("id", ClientboundTeleportEntityPacket.class);
+
+    private final @NotNull ClientboundTeleportEntityPacket packet;
+
+    public OutEntityTeleport_LATEST(@NotNull ClientboundTeleportEntityPacket packet) {
+        this.packet = packet;
+    }
+
+    @Override
+    public @NotNull Object getHandle() {
+        return this.packet;
+    }
+
+    @Override
+    public int getEntityID() {
+        return idHandle.get(this.packet);
+    }
+}
@@ -0,0 +1,33 @@
+package com.kamikazejam.kamicommon.nms.wrappers.packet.impl;
+
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandle;
+import com.kamikazejam.kamicommon.nms.reflection.FieldHandles;
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.protocol.game.ClientboundSectionBlocksUpdatePacket;
+import org.jetbrains.annotations.NotNull;
+
+@SuppressWarnings("unchecked")
+public class OutMultiBlockChange_LATEST implements NMSOutMultiBlockChange {
+    private static final FieldHandle<SectionPos> sectionHandle = (FieldHandle<SectionPos>) FieldHandles.getHandle("sectionPos", ClientboundSectionBlocksUpdatePacket.class);
+
+    private final @NotNull ClientboundSectionBlocksUpdatePacket packet;
+
+    public OutMultiBlockChange_LATEST(@NotNull ClientboundSectionBlocksUpdatePacket packet) {
+        this.packet = packet;
+    }
+
+    @Override
+    public @NotNull Object getHandle() {
+        return this.packet;
+    }
+
+    @Override
+    public int getChunkX() {
+        return OutMultiBlockChange_LATEST.sectionHandle.get(this.packet).x();
+    }
+
+    @Override
+    public int getChunkZ() {
+        return OutMultiBlockChange_LATEST.sectionHandle.get(this.packet).z();
+    }
+}